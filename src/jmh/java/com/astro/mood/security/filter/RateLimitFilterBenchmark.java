@@ -0,0 +1,138 @@
+package com.astro.mood.security.filter;
+
+import com.astro.mood.config.RateLimitConfig;
+import com.astro.mood.config.RateLimitConfig.RateLimitType;
+import com.astro.mood.service.ratelimit.ClientAddress;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RateLimitFilter 요청당 분류/키 비용
+ * - legacyClassify / routeTable: uri.contains 연쇄 vs 미리 계산한 분류표
+ * - legacyBucketLookup / clientAddressBucketLookup: split + "ip:type" 문자열 키 vs IPv4 long 키 + 타입별 저장소
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateLimitFilterBenchmark {
+
+    private static final String[][] ROUTES = {
+            { "/api/diary/timeline", "GET" },
+            { "/api/diary/123", "PUT" },
+            { "/api/writediary", "POST" },
+            { "/api/auth/login/kakao", "POST" },
+            { "/api/auth/refresh", "POST" },
+            { "/api/user/profile", "PUT" },
+            { "/api/challenge/participation/7/diaries/page", "GET" },
+            { "/api/upload/image", "POST" },
+    };
+
+    private static final String[] FORWARDED_FOR = {
+            "203.0.113.7",
+            "198.51.100.23, 10.0.0.1",
+            "2001:db8::1",
+            "192.0.2.200, 172.16.0.4, 10.0.0.9",
+    };
+
+    private final RateLimitRouteTable routeTable = new RateLimitRouteTable();
+    private final Map<String, Bucket> legacyBuckets = new ConcurrentHashMap<>();
+    private RateLimitConfig rateLimitConfig;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        rateLimitConfig = new RateLimitConfig(100_000, 300);
+        // 두 방식 모두 버킷이 만들어진 상태에서 조회 비용만 비교
+        for (int i = 0; i < FORWARDED_FOR.length; i++) {
+            legacyBucketLookup();
+            clientAddressBucketLookup();
+        }
+    }
+
+    private int next() {
+        return index = (index + 1) & 0x7FFF_FFFF;
+    }
+
+    @Benchmark
+    public RateLimitType legacyClassify() {
+        String[] route = ROUTES[next() % ROUTES.length];
+        return legacyDetermineRateLimitType(route[0], route[1]);
+    }
+
+    @Benchmark
+    public RateLimitType routeTable() {
+        String[] route = ROUTES[next() % ROUTES.length];
+        return routeTable.classify(route[0], route[1]);
+    }
+
+    @Benchmark
+    public Bucket legacyBucketLookup() {
+        String ip = FORWARDED_FOR[next() % FORWARDED_FOR.length];
+        if (ip.contains(",")) {
+            ip = ip.split(",")[0].trim();
+        }
+        RateLimitType type = RateLimitType.GENERAL_API;
+        return legacyBuckets.computeIfAbsent(ip + ":" + type.name(), k -> legacyCreateBucket(type));
+    }
+
+    @Benchmark
+    public Bucket clientAddressBucketLookup() {
+        // RateLimitService.checkRateLimit 과 같은 순서 (IPv4 는 long 키, 그 외만 문자열 키)
+        String header = FORWARDED_FOR[next() % FORWARDED_FOR.length];
+        long ipv4 = ClientAddress.parseIpv4(header);
+        if (ipv4 != ClientAddress.NOT_IPV4) {
+            return rateLimitConfig.resolveBucket(ipv4, RateLimitType.GENERAL_API);
+        }
+        return rateLimitConfig.resolveBucket(ClientAddress.rawKey(header), RateLimitType.GENERAL_API);
+    }
+
+    // 기존 RateLimitFilter.determineRateLimitType
+    private static RateLimitType legacyDetermineRateLimitType(String uri, String method) {
+        if (uri.contains("/login") || uri.contains("/signin")) {
+            return RateLimitType.AUTH_LOGIN;
+        }
+        if (uri.contains("/register") || uri.contains("/signup") || uri.contains("/join")) {
+            return RateLimitType.AUTH_REGISTER;
+        }
+        if (uri.contains("/refresh") || uri.contains("/reissue")) {
+            return RateLimitType.AUTH_TOKEN_REFRESH;
+        }
+        if (uri.contains("/writediary") || (uri.contains("/diary") && "POST".equals(method))) {
+            return RateLimitType.DIARY_CREATE;
+        }
+        if (uri.contains("/diary") && "PUT".equals(method)) {
+            return RateLimitType.DIARY_UPDATE;
+        }
+        if (uri.contains("/diary") && "GET".equals(method)) {
+            return RateLimitType.DIARY_READ;
+        }
+        if (uri.contains("/upload") || (uri.contains("/image") && "POST".equals(method))) {
+            return RateLimitType.FILE_UPLOAD;
+        }
+        if (uri.contains("/user") && "PUT".equals(method)) {
+            return RateLimitType.PROFILE_UPDATE;
+        }
+        return RateLimitType.GENERAL_API;
+    }
+
+    // 기존 RateLimitConfig.createBucket
+    private static Bucket legacyCreateBucket(RateLimitType type) {
+        return Bucket.builder()
+                .addLimit(Bandwidth.builder()
+                        .capacity(type.getCapacity())
+                        .refillIntervally(type.getCapacity(), type.getRefillDuration())
+                        .build())
+                .build();
+    }
+}
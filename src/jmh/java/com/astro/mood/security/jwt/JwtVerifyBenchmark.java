@@ -0,0 +1,122 @@
+package com.astro.mood.security.jwt;
+
+import com.astro.mood.data.entity.user.User;
+import com.astro.mood.data.repository.auth.AuthRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 JWT 처리 비용
+ * - legacyParseThreeTimes: 기존 JWTFilter 경로 (isExpired → validateToken → getLoginIdx 마다 파서 생성 + 서명 검증)
+ * - verifyUncached / verifyCached: JWTUtil.verify 의 캐시 미적중 / 적중
+ * - filter: JWTFilter 전체 (토큰 추출, 검증, 인증 객체 생성)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerifyBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private SecretKey secretKey;
+    private String token;
+    private JWTUtil cachedJwtUtil;
+    private JWTUtil uncachedJwtUtil;
+    private JWTFilter filter;
+
+    @Setup
+    public void setUp() {
+        secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), SignatureAlgorithm.HS256.getJcaName());
+        long now = System.currentTimeMillis();
+        token = Jwts.builder()
+                .claim("loginIdx", 1)
+                .claim("nickname", "bench")
+                .claim("email", "bench@example.com")
+                .claim("role", "ROLE_USER")
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + TimeUnit.HOURS.toMillis(1)))
+                .signWith(secretKey)
+                .compact();
+
+        cachedJwtUtil = newJwtUtil(10_000);
+        uncachedJwtUtil = newJwtUtil(0);
+        filter = new JWTFilter(cachedJwtUtil, null, new ObjectMapper());
+    }
+
+    private static JWTUtil newJwtUtil(int verifyCacheSize) {
+        UserAuthStatusCache statusCache = new UserAuthStatusCache(activeUserRepository(), null, 10_000, 60);
+        JWTUtil jwtUtil = new JWTUtil(null, statusCache);
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheSize", verifyCacheSize);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheTtlSeconds", 300L);
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpTime", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(jwtUtil, "statelessAuth", true);
+        jwtUtil.setUp();
+        return jwtUtil;
+    }
+
+    // 모든 사용자를 탈퇴하지 않은 상태로 돌려주는 저장소 (상태 캐시 적중 후에는 호출되지 않음)
+    private static AuthRepository activeUserRepository() {
+        User user = User.builder().userIdx(1).build();
+        return (AuthRepository) Proxy.newProxyInstance(AuthRepository.class.getClassLoader(),
+                new Class<?>[] { AuthRepository.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("findUserByUserIdxAndIsDeleted")) {
+                        return Optional.of(user);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    @Benchmark
+    public Integer legacyParseThreeTimes() {
+        Claims claims = null;
+        for (int i = 0; i < 3; i++) {
+            claims = Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody();
+        }
+        return claims.get("loginIdx", Integer.class);
+    }
+
+    @Benchmark
+    public VerifiedJwt verifyUncached() {
+        return uncachedJwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedJwt verifyCached() {
+        return cachedJwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse filter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/diary/timeline");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        SecurityContextHolder.clearContext();
+        return response;
+    }
+}
@@ -0,0 +1,117 @@
+package com.astro.mood.config;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 커넥션 풀 지표 (Hikari 메트릭 트래커, 풀별)
+ * - 현재 상태: 전체/활성/유휴/대기 스레드 수
+ * - 누적: 커넥션 획득 대기 시간, 사용 시간, 생성 시간, 획득 타임아웃 횟수
+ */
+public class DataSourcePoolMetrics implements MetricsTrackerFactory {
+
+    // 풀 이름 -> 지표 (원본/복제본 풀을 각각 추적)
+    private final Map<String, PoolMetrics> pools = new ConcurrentHashMap<>();
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        PoolMetrics metrics = new PoolMetrics(poolStats);
+        pools.put(poolName, metrics);
+        return metrics;
+    }
+
+    /**
+     * 풀별 상태 (풀 이름순)
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> result = new TreeMap<>();
+        pools.forEach((poolName, metrics) -> result.put(poolName, metrics.snapshot()));
+        return result;
+    }
+
+    /**
+     * 모든 풀에서 커넥션을 기다리는 스레드 수 (풀 포화 신호)
+     */
+    public int pendingThreads() {
+        int pending = 0;
+        for (PoolMetrics metrics : pools.values()) {
+            pending += metrics.poolStats.getPendingThreads();
+        }
+        return pending;
+    }
+
+    private static final class PoolMetrics implements IMetricsTracker {
+        private final PoolStats poolStats;
+        private final LongAdder acquired = new LongAdder();
+        private final LongAdder acquireNanos = new LongAdder();
+        private final LongAccumulator maxAcquireNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder usageCount = new LongAdder();
+        private final LongAdder usageMillis = new LongAdder();
+        private final LongAccumulator maxUsageMillis = new LongAccumulator(Math::max, 0);
+        private final LongAdder created = new LongAdder();
+        private final LongAdder createdMillis = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+
+        PoolMetrics(PoolStats poolStats) {
+            this.poolStats = poolStats;
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquired.increment();
+            acquireNanos.add(elapsedAcquiredNanos);
+            maxAcquireNanos.accumulate(elapsedAcquiredNanos);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            usageCount.increment();
+            usageMillis.add(elapsedBorrowedMillis);
+            maxUsageMillis.accumulate(elapsedBorrowedMillis);
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            created.increment();
+            createdMillis.add(connectionCreatedMillis);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+        }
+
+        Map<String, Object> snapshot() {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("total", poolStats.getTotalConnections());
+            result.put("active", poolStats.getActiveConnections());
+            result.put("idle", poolStats.getIdleConnections());
+            result.put("pendingThreads", poolStats.getPendingThreads());
+            result.put("max", poolStats.getMaxConnections());
+            result.put("min", poolStats.getMinConnections());
+
+            long acquiredCount = acquired.sum();
+            result.put("acquired", acquiredCount);
+            result.put("avgWaitMs", acquiredCount == 0 ? 0.0 : acquireNanos.sum() / 1_000_000.0 / acquiredCount);
+            result.put("maxWaitMs", maxAcquireNanos.get() / 1_000_000.0);
+            result.put("timeouts", timeouts.sum());
+
+            long usages = usageCount.sum();
+            result.put("avgUsageMs", usages == 0 ? 0.0 : (double) usageMillis.sum() / usages);
+            result.put("maxUsageMs", maxUsageMillis.get());
+
+            long createdCount = created.sum();
+            result.put("created", createdCount);
+            result.put("avgCreateMs", createdCount == 0 ? 0.0 : (double) createdMillis.sum() / createdCount);
+            return result;
+        }
+    }
+}
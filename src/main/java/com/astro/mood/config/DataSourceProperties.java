@@ -1,6 +1,7 @@
 package com.astro.mood.config;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @Data
@@ -10,4 +11,53 @@ public class DataSourceProperties {
     private String password;
     private String driverClassName;
     private String url;
+    private Pool pool = new Pool();
+    private Replica replica = new Replica();
+
+    /**
+     * 읽기 전용 복제본 설정 (spring.datasource.replica.*, url이 없으면 복제본 미사용)
+     */
+    @Data
+    public static class Replica {
+        private String url;
+        private String username; // 없으면 원본 계정 사용
+        private String password;
+        private long maxLagSeconds = 5; // 이 이상 지연되면 원본에서 읽음
+        private long lagCheckIntervalMs = 5000;
+        // 지연 확인 쿼리와 지연(초) 컬럼 (결과 행이 없으면 복제 중이 아닌 것으로 보고 원본으로 읽음)
+        private String lagQuery = "SHOW SLAVE STATUS";
+        private String lagColumn = "Seconds_Behind_Master";
+        // 로컬 개발 전용: 복제 구성이 없는 단독 인스턴스를 복제본으로 쓸 때 결과 행이 없어도 지연 0으로 봄
+        private boolean allowStandalone = false;
+        private long stickinessMs = 5000; // 사용자가 쓰기를 커밋한 뒤 원본에서 읽는 시간 (read-your-writes)
+        private Pool pool = new Pool("mood-replica-pool");
+
+        public boolean isEnabled() {
+            return url != null && !url.isBlank();
+        }
+    }
+
+    /**
+     * 커넥션 풀 설정 (spring.datasource.pool.*)
+     */
+    @Data
+    @NoArgsConstructor
+    public static class Pool {
+        private String name = "mood-pool";
+        private int maximumPoolSize = 10;
+        private int minimumIdle = 5;
+        private long connectionTimeoutMs = 3000; // 커넥션 대기 상한
+        private long idleTimeoutMs = 600000;
+        private long maxLifetimeMs = 1740000; // DB wait_timeout 보다 짧게
+        private long leakDetectionThresholdMs = 20000; // 이 시간 이상 반환되지 않으면 스택과 함께 경고 (0이면 비활성)
+        private boolean warmUp = true; // 기동 시 minimumIdle 만큼 미리 연결
+
+        // 서버 측 prepared statement 캐시 (MariaDB Connector/J)
+        private boolean cachePrepStmts = true;
+        private int prepStmtCacheSize = 250;
+
+        public Pool(String name) {
+            this.name = name;
+        }
+    }
 }
@@ -1,6 +1,12 @@
 package com.astro.mood.config;
 
+import com.astro.mood.web.metrics.SqlMetricsIntegrator;
+import com.astro.mood.web.metrics.SqlMetricsSessionListener;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -8,7 +14,6 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.JpaVendorAdapter;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
@@ -16,9 +21,14 @@ import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 @EnableConfigurationProperties(DataSourceProperties.class)
@@ -30,16 +40,87 @@ public class JpaConfig {
     @Autowired
     private Environment environment;
 
+    @Bean
+    public DataSourcePoolMetrics dataSourcePoolMetrics() {
+        return new DataSourcePoolMetrics();
+    }
+
+    /**
+     * 커넥션 풀 (요청마다 새 연결을 맺지 않고 재사용, 동시 연결 수 상한)
+     * 복제본이 설정되어 있으면 읽기 전용 트랜잭션은 복제본 풀로 보냄
+     */
     @Bean
     public DataSource dataSource() {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
-        dataSource.setUsername(dataSourceProperties.getUsername());
-        dataSource.setPassword(dataSourceProperties.getPassword());
-        dataSource.setDriverClassName(dataSourceProperties.getDriverClassName());
-        dataSource.setUrl(dataSourceProperties.getUrl());
+        HikariDataSource primary = createPool(dataSourceProperties.getPool(), dataSourceProperties.getUrl(),
+                dataSourceProperties.getUsername(), dataSourceProperties.getPassword());
+
+        DataSourceProperties.Replica replica = dataSourceProperties.getReplica();
+        if (!replica.isEnabled()) {
+            return primary;
+        }
+        HikariDataSource replicaPool = createPool(replica.getPool(), replica.getUrl(),
+                replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.getUsername(),
+                replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.getPassword());
+        log.info("읽기/쓰기 분리 활성화: primary={}, replica={}", primary.getPoolName(), replicaPool.getPoolName());
+        return new ReadWriteRoutingDataSource(primary, replicaPool, replica);
+    }
+
+    private HikariDataSource createPool(DataSourceProperties.Pool pool, String url, String username, String password) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(pool.getName());
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setDriverClassName(dataSourceProperties.getDriverClassName());
+        config.setJdbcUrl(url);
+        config.setMaximumPoolSize(pool.getMaximumPoolSize());
+        config.setMinimumIdle(Math.min(pool.getMinimumIdle(), pool.getMaximumPoolSize()));
+        config.setConnectionTimeout(pool.getConnectionTimeoutMs());
+        config.setIdleTimeout(pool.getIdleTimeoutMs());
+        config.setMaxLifetime(pool.getMaxLifetimeMs());
+        config.setLeakDetectionThreshold(pool.getLeakDetectionThresholdMs());
+        config.setMetricsTrackerFactory(dataSourcePoolMetrics());
+
+        // 서버 측 prepared statement 를 연결별로 캐시하여 같은 SQL 재파싱 방지
+        if (pool.isCachePrepStmts()) {
+            config.addDataSourceProperty("useServerPrepStmts", "true");
+            config.addDataSourceProperty("cachePrepStmts", "true");
+            config.addDataSourceProperty("prepStmtCacheSize", String.valueOf(pool.getPrepStmtCacheSize()));
+        }
+
+        HikariDataSource dataSource = new HikariDataSource(config);
+        if (pool.isWarmUp()) {
+            warmUp(dataSource, config.getMinimumIdle());
+        }
         return dataSource;
     }
 
+    /**
+     * minimumIdle 개수만큼 동시에 연결을 빌렸다 반납하여 첫 요청들이 연결 수립을 기다리지 않게 합니다.
+     * 실패해도 기동은 계속하고 풀이 이후에 채웁니다.
+     */
+    private void warmUp(HikariDataSource dataSource, int connections) {
+        List<Connection> borrowed = new ArrayList<>(connections);
+        long start = System.currentTimeMillis();
+        try {
+            for (int i = 0; i < connections; i++) {
+                borrowed.add(dataSource.getConnection());
+            }
+            log.info("커넥션 풀 워밍업 완료: pool={}, connections={}, {}ms", dataSource.getPoolName(), borrowed.size(),
+                    System.currentTimeMillis() - start);
+        } catch (SQLException e) {
+            log.warn("커넥션 풀 워밍업 실패: pool={}, connections={}, error={}", dataSource.getPoolName(),
+                    borrowed.size(), e.getMessage());
+        } finally {
+            for (Connection connection : borrowed) {
+                try {
+                    connection.close();
+                } catch (SQLException ignored) {
+                    // 반납 실패는 풀이 정리
+                }
+            }
+        }
+    }
+
     @Bean
     public LocalContainerEntityManagerFactoryBean entityManagerFactoryBean() {
         LocalContainerEntityManagerFactoryBean em = new LocalContainerEntityManagerFactoryBean();
@@ -56,6 +137,11 @@ public class JpaConfig {
         String ddlAuto = environment.getProperty("spring.jpa.hibernate.ddl-auto", "update");
         properties.put("hibernate.hbm2ddl.auto", ddlAuto);
 
+        // 요청 단위 SQL 지표 (generate_statistics 없이 문장 수/JDBC 시간/엔티티 로드만 수집)
+        properties.put("hibernate.session.events.auto", SqlMetricsSessionListener.class.getName());
+        properties.put("hibernate.integrator_provider",
+                (IntegratorProvider) () -> List.of(new SqlMetricsIntegrator()));
+
         // 프로덕션 환경에서는 SQL 로깅 비활성화
         if (isProductionProfile()) {
             properties.put("hibernate.format_sql", "false");
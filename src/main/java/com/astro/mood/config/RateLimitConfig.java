@@ -1,13 +1,20 @@
 package com.astro.mood.config;
 
+import com.astro.mood.service.ratelimit.ClientAddress;
+import com.astro.mood.service.ratelimit.Ipv4BucketStore;
+import com.astro.mood.service.ratelimit.RateLimitBucketStore;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
 
 import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Rate Limiting 설정
@@ -15,6 +22,7 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 @Configuration
 @Getter
+@Slf4j
 public class RateLimitConfig {
 
     /**
@@ -23,30 +31,32 @@ public class RateLimitConfig {
      */
     public enum RateLimitType {
         // 인증 관련 API - 브루트포스 공격 방지
-        AUTH_LOGIN(15, Duration.ofMinutes(1)), // 로그인: 1분에 15회
-        AUTH_REGISTER(10, Duration.ofMinutes(1)), // 회원가입: 1분에 10회
-        AUTH_TOKEN_REFRESH(30, Duration.ofMinutes(1)), // 토큰 갱신: 1분에 30회
+        AUTH_LOGIN(15, 15, Duration.ofMinutes(1)), // 로그인: 1분에 15회
+        AUTH_REGISTER(10, 10, Duration.ofMinutes(1)), // 회원가입: 1분에 10회
+        AUTH_TOKEN_REFRESH(60, 30, Duration.ofMinutes(1)), // 토큰 갱신: IP 1분에 60회, 사용자 1분에 30회
 
         // 일기 작성 API - 스팸 방지
-        DIARY_CREATE(20, Duration.ofMinutes(1)), // 일기 작성: 1분에 20회
-        DIARY_UPDATE(20, Duration.ofMinutes(1)), // 일기 수정: 1분에 20회
-        DIARY_READ(500, Duration.ofMinutes(1)), // 일기 조회: 1분에 500회
+        DIARY_CREATE(60, 20, Duration.ofMinutes(1)), // 일기 작성: IP 1분에 60회, 사용자 1분에 20회
+        DIARY_UPDATE(60, 20, Duration.ofMinutes(1)), // 일기 수정: IP 1분에 60회, 사용자 1분에 20회
+        DIARY_READ(2000, 500, Duration.ofMinutes(1)), // 일기 조회: IP 1분에 2000회, 사용자 1분에 500회
 
         // 파일 업로드 API - 리소스 남용 방지
-        FILE_UPLOAD(30, Duration.ofMinutes(1)), // 파일 업로드: 1분에 30회
-        PROFILE_UPDATE(10, Duration.ofMinutes(1)), // 프로필 수정: 1분에 10회
+        FILE_UPLOAD(90, 30, Duration.ofMinutes(1)), // 파일 업로드: IP 1분에 90회, 사용자 1분에 30회
+        PROFILE_UPDATE(30, 10, Duration.ofMinutes(1)), // 프로필 수정: IP 1분에 30회, 사용자 1분에 10회
 
         // 일반 API - 기본 제한
-        GENERAL_API(200, Duration.ofMinutes(1)), // 일반 API: 1분에 200회
+        GENERAL_API(600, 200, Duration.ofMinutes(1)), // 일반 API: IP 1분에 600회, 사용자 1분에 200회
 
-        // 글로벌 제한 - 전체 요청
-        GLOBAL(600, Duration.ofMinutes(1)); // 전체: 1분에 600회
+        // 글로벌 제한 - 서버(인스턴스) 전체 요청, GlobalRateLimiter 에서 적용
+        GLOBAL(30000, 30000, Duration.ofMinutes(1)); // 전체: 1분에 30000회
 
-        private final long capacity; // 버킷 용량
+        private final long capacity; // IP별 버킷 용량 (NAT 뒤 여러 사용자가 나눠 쓰므로 사용자별보다 크게)
+        private final long userCapacity; // 사용자별 버킷 용량
         private final Duration refillDuration; // 리필 주기
 
-        RateLimitType(long capacity, Duration refillDuration) {
+        RateLimitType(long capacity, long userCapacity, Duration refillDuration) {
             this.capacity = capacity;
+            this.userCapacity = userCapacity;
             this.refillDuration = refillDuration;
         }
 
@@ -54,40 +64,127 @@ public class RateLimitConfig {
             return capacity;
         }
 
+        public long getUserCapacity() {
+            return userCapacity;
+        }
+
         public Duration getRefillDuration() {
             return refillDuration;
         }
     }
 
+    // 타입별 저장소 수 (IPv4 + 그 외 주소 + 사용자), rate-limit.max-buckets 를 이 수 × 타입 수로 나눠 적용
+    private static final int STORES_PER_TYPE = 3;
+
     /**
-     * IP별 버킷 저장소 (인메모리)
-     * Key: "IP:RateLimitType", Value: Bucket
+     * 타입별 IPv4 버킷 저장소 (인메모리, 크기 상한 + 유휴 만료)
+     * Key: 32비트 IPv4 값 (조회 시 키 객체를 만들지 않음), Value: Bucket
      */
-    private final Map<String, Bucket> cache = new ConcurrentHashMap<>();
+    private final Map<RateLimitType, Ipv4BucketStore> bucketStores = new EnumMap<>(RateLimitType.class);
 
     /**
-     * 버킷 생성 또는 조회
-     * 
-     * @param key  IP 주소 또는 사용자 식별자
+     * 타입별 IPv4 가 아닌 주소의 버킷 저장소 (IPv6 등)
+     * Key: ClientAddress.rawKey (최대 64자), Value: Bucket
+     */
+    private final Map<RateLimitType, RateLimitBucketStore<String>> otherBucketStores = new EnumMap<>(RateLimitType.class);
+
+    /**
+     * 타입별 사용자 버킷 저장소 (로그인 요청)
+     * Key: userIdx, Value: Bucket
+     */
+    private final Map<RateLimitType, RateLimitBucketStore<Integer>> userBucketStores = new EnumMap<>(RateLimitType.class);
+
+    private final int maxBucketsPerStore;
+
+    public RateLimitConfig(@Value("${rate-limit.max-buckets:100000}") int maxBuckets,
+            @Value("${rate-limit.bucket-idle-seconds:300}") long bucketIdleSeconds) {
+        // 리필 주기보다 먼저 제거하면 소진된 버킷이 가득 찬 새 버킷으로 바뀌므로 최소 주기만큼은 유지
+        long minIdleMillis = 0;
+        for (RateLimitType type : RateLimitType.values()) {
+            minIdleMillis = Math.max(minIdleMillis, type.getRefillDuration().toMillis());
+        }
+        long idleMillis = Math.max(bucketIdleSeconds * 1000, minIdleMillis);
+        this.maxBucketsPerStore = maxBucketsPerStore(maxBuckets);
+        for (RateLimitType type : RateLimitType.values()) {
+            bucketStores.put(type, new Ipv4BucketStore(maxBucketsPerStore, idleMillis));
+            otherBucketStores.put(type, new RateLimitBucketStore<>(maxBucketsPerStore, idleMillis));
+            userBucketStores.put(type, new RateLimitBucketStore<>(maxBucketsPerStore, idleMillis));
+        }
+    }
+
+    /**
+     * 저장소 하나에 허용하는 버킷 수
+     * rate-limit.max-buckets 는 인스턴스 전체 상한이므로 (IPv4/그 외 주소/사용자 × 타입) 저장소 수로 나눠 적용
+     */
+    public static int maxBucketsPerStore(int maxBuckets) {
+        return Math.max(1, maxBuckets / (STORES_PER_TYPE * RateLimitType.values().length));
+    }
+
+    /**
+     * IPv4 버킷 생성 또는 조회
+     *
+     * @param ipv4 ClientAddress.parseIpv4 값
      * @param type Rate Limit 타입
      * @return Bucket 인스턴스
      */
-    public Bucket resolveBucket(String key, RateLimitType type) {
-        String cacheKey = key + ":" + type.name();
-        return cache.computeIfAbsent(cacheKey, k -> createBucket(type));
+    public Bucket resolveBucket(long ipv4, RateLimitType type) {
+        return bucketStores.get(type).get(ipv4, k -> createBucket(type.getCapacity(), type));
+    }
+
+    /**
+     * IPv4 가 아닌 주소의 버킷 생성 또는 조회
+     *
+     * @param clientKey ClientAddress.rawKey 값
+     * @param type      Rate Limit 타입
+     * @return Bucket 인스턴스
+     */
+    public Bucket resolveBucket(String clientKey, RateLimitType type) {
+        return otherBucketStores.get(type).get(clientKey, k -> createBucket(type.getCapacity(), type));
+    }
+
+    /**
+     * 사용자 버킷 생성 또는 조회
+     *
+     * @param userIdx JWT 의 사용자 번호
+     * @param type    Rate Limit 타입
+     * @return Bucket 인스턴스
+     */
+    public Bucket resolveUserBucket(Integer userIdx, RateLimitType type) {
+        return userBucketStores.get(type).get(userIdx, k -> createBucket(type.getUserCapacity(), type));
+    }
+
+    /**
+     * 유휴 버킷 정리
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.cleanup-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        int removed = 0;
+        for (Ipv4BucketStore store : bucketStores.values()) {
+            removed += store.evictIdle();
+        }
+        for (RateLimitBucketStore<String> store : otherBucketStores.values()) {
+            removed += store.evictIdle();
+        }
+        for (RateLimitBucketStore<Integer> store : userBucketStores.values()) {
+            removed += store.evictIdle();
+        }
+        if (removed > 0) {
+            log.debug("유휴 Rate Limit 버킷 정리: removed={}, remaining={}", removed, getBucketCount());
+        }
     }
 
     /**
      * 새로운 버킷 생성
      * 
-     * @param type Rate Limit 타입
+     * @param capacity 버킷 용량 (IP별 또는 사용자별)
+     * @param type     Rate Limit 타입
      * @return 새로운 Bucket 인스턴스
      */
-    private Bucket createBucket(RateLimitType type) {
+    private Bucket createBucket(long capacity, RateLimitType type) {
         // Bandwidth: 용량과 리필 전략 정의 (Bucket4j 8.x API)
         Bandwidth limit = Bandwidth.builder()
-                .capacity(type.getCapacity())
-                .refillIntervally(type.getCapacity(), type.getRefillDuration())
+                .capacity(capacity)
+                .refillIntervally(capacity, type.getRefillDuration())
                 .build();
 
         return Bucket.builder()
@@ -101,21 +198,56 @@ public class RateLimitConfig {
      * @param key 제거할 키
      */
     public void removeBucket(String key, RateLimitType type) {
-        String cacheKey = key + ":" + type.name();
-        cache.remove(cacheKey);
+        long ipv4 = ClientAddress.parseIpv4(key);
+        if (ipv4 != ClientAddress.NOT_IPV4) {
+            bucketStores.get(type).remove(ipv4);
+        } else {
+            otherBucketStores.get(type).remove(ClientAddress.rawKey(key));
+        }
     }
 
     /**
      * 모든 버킷 초기화 (관리 목적)
      */
     public void clearAllBuckets() {
-        cache.clear();
+        bucketStores.values().forEach(Ipv4BucketStore::clear);
+        otherBucketStores.values().forEach(RateLimitBucketStore::clear);
+        userBucketStores.values().forEach(RateLimitBucketStore::clear);
     }
 
     /**
      * 현재 캐시된 버킷 수 반환 (모니터링 목적)
      */
     public int getBucketCount() {
-        return cache.size();
+        int count = 0;
+        for (Ipv4BucketStore store : bucketStores.values()) {
+            count += store.size();
+        }
+        for (RateLimitBucketStore<String> store : otherBucketStores.values()) {
+            count += store.size();
+        }
+        for (RateLimitBucketStore<Integer> store : userBucketStores.values()) {
+            count += store.size();
+        }
+        return count;
+    }
+
+    /**
+     * 타입별 버킷 저장소 지표 (버킷 수, 적중률, 제거 수)
+     */
+    public Map<String, Object> getBucketStats() {
+        Map<String, Object> ipStats = new LinkedHashMap<>();
+        bucketStores.forEach((type, store) -> ipStats.put(type.name(), store.stats()));
+        Map<String, Object> otherStats = new LinkedHashMap<>();
+        otherBucketStores.forEach((type, store) -> otherStats.put(type.name(), store.stats()));
+        Map<String, Object> userStats = new LinkedHashMap<>();
+        userBucketStores.forEach((type, store) -> userStats.put(type.name(), store.stats()));
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("maxBucketsPerStore", maxBucketsPerStore);
+        stats.put("ip", ipStats);
+        stats.put("ipOther", otherStats);
+        stats.put("user", userStats);
+        return stats;
     }
 }
@@ -0,0 +1,142 @@
+package com.astro.mood.config;
+
+import com.astro.mood.security.login.CustomUserDetails;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 읽기/쓰기 분리 DataSource
+ * - @Transactional(readOnly = true) 트랜잭션은 복제본, 그 외는 원본
+ * - 실제 커넥션은 첫 SQL 시점에 얻으므로 트랜잭션의 readOnly 설정이 반영된 뒤 대상이 정해짐
+ * - 복제 지연이 상한을 넘었거나 복제본 커넥션을 얻지 못하면 원본으로 읽음
+ * - 사용자가 쓰기 트랜잭션을 커밋한 뒤 stickiness 동안은 그 사용자의 읽기도 원본으로 (read-your-writes)
+ *   고정 정보는 인스턴스 메모리에만 있으므로 같은 인스턴스로 온 요청에만 적용됨
+ *   (로드밸런서가 다음 읽기를 다른 인스턴스로 보내면 max-lag-seconds 이내의 이전 데이터를 읽을 수 있음)
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private static final int STICKY_PRUNE_THRESHOLD = 10_000;
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final long stickinessNanos;
+
+    // userIdx -> 원본에서 읽어야 하는 기한 (System.nanoTime)
+    private final Map<Integer, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadWriteRoutingDataSource(HikariDataSource primary, HikariDataSource replica,
+            DataSourceProperties.Replica properties) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = new ReplicaLagMonitor(replica, properties);
+        this.stickinessNanos = properties.getStickinessMs() * 1_000_000;
+        setTargetDataSource(new WriteDataSource());
+        setReadOnlyDataSource(new ReadDataSource());
+    }
+
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.lag-check-interval-ms:5000}")
+    public void checkReplicaLag() {
+        lagMonitor.check();
+    }
+
+    @Override
+    public void close() {
+        replica.close();
+        primary.close();
+    }
+
+    private boolean isSticky(Integer userIdx) {
+        if (userIdx == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(userIdx);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        stickyUntil.remove(userIdx, until);
+        return false;
+    }
+
+    private void markWrite(Integer userIdx) {
+        long now = System.nanoTime();
+        if (stickyUntil.size() > STICKY_PRUNE_THRESHOLD) {
+            stickyUntil.values().removeIf(until -> until - now <= 0);
+        }
+        stickyUntil.put(userIdx, now + stickinessNanos);
+    }
+
+    private static Integer currentUserIdx() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserIdx();
+        }
+        return null;
+    }
+
+    /**
+     * 쓰기(읽기 전용이 아닌) 커넥션: 원본. 트랜잭션이 커밋되면 해당 사용자를 원본 읽기로 고정
+     */
+    private class WriteDataSource extends DelegatingDataSource {
+
+        WriteDataSource() {
+            super(primary);
+        }
+
+        @Override
+        @NonNull
+        public Connection getConnection() throws SQLException {
+            Integer userIdx = currentUserIdx();
+            if (userIdx != null && stickinessNanos > 0
+                    && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        markWrite(userIdx);
+                    }
+                });
+            }
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * 읽기 전용 커넥션: 복제본 (지연 초과/고정된 사용자/복제본 장애 시 원본)
+     */
+    private class ReadDataSource extends DelegatingDataSource {
+
+        ReadDataSource() {
+            super(replica);
+        }
+
+        @Override
+        @NonNull
+        public Connection getConnection() throws SQLException {
+            if (!lagMonitor.isHealthy() || isSticky(currentUserIdx())) {
+                return primary.getConnection();
+            }
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                lagMonitor.markUnhealthy("커넥션 획득 실패: " + e.getMessage());
+                return primary.getConnection();
+            }
+        }
+    }
+}
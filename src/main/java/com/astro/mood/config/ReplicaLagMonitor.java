@@ -0,0 +1,91 @@
+package com.astro.mood.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 복제본 지연 확인
+ * - 지연이 상한 이하일 때만 복제본 읽기를 허용
+ * - 복제 중단(지연 컬럼 NULL), 확인 실패, 커넥션 획득 실패 시 다음 확인까지 원본으로 읽음
+ * - 결과 행이 없으면(복제 설정이 없거나 RESET SLAVE ALL 된 서버) 쓰기를 받지 않는 DB 이므로 원본으로 읽음
+ *   (allow-standalone 이 켜진 로컬 개발 환경에서만 지연 0으로 봄)
+ * - 첫 확인 전에는 원본으로 읽음
+ */
+@Slf4j
+class ReplicaLagMonitor {
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final long maxLagSeconds;
+    private final boolean allowStandalone;
+
+    private volatile boolean healthy = false;
+    private volatile long lastLagSeconds = -1;
+
+    ReplicaLagMonitor(DataSource replica, DataSourceProperties.Replica properties) {
+        this.replica = replica;
+        this.lagQuery = properties.getLagQuery();
+        this.lagColumn = properties.getLagColumn();
+        this.maxLagSeconds = properties.getMaxLagSeconds();
+        this.allowStandalone = properties.isAllowStandalone();
+    }
+
+    boolean isHealthy() {
+        return healthy;
+    }
+
+    long getLastLagSeconds() {
+        return lastLagSeconds;
+    }
+
+    void check() {
+        Long lag;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (!rs.next()) {
+                if (!allowStandalone) {
+                    markUnhealthy("복제 상태 없음 (" + lagQuery + " 결과 없음)");
+                    return;
+                }
+                lag = 0L;
+            } else {
+                Object value = rs.getObject(lagColumn);
+                lag = value == null ? null : Long.parseLong(value.toString());
+            }
+        } catch (SQLException | NumberFormatException e) {
+            markUnhealthy("지연 확인 실패: " + e.getMessage());
+            return;
+        }
+
+        if (lag == null) {
+            markUnhealthy("복제 중단 (" + lagColumn + " = NULL)");
+            return;
+        }
+        lastLagSeconds = lag;
+        if (lag > maxLagSeconds) {
+            markUnhealthy("복제 지연 " + lag + "초 > " + maxLagSeconds + "초");
+            return;
+        }
+        if (!healthy) {
+            log.info("복제본 읽기 사용: lag={}s", lag);
+        }
+        healthy = true;
+    }
+
+    /**
+     * 복제본 커넥션 획득 실패 등 즉시 원본으로 돌려야 할 때
+     */
+    void markUnhealthy(String reason) {
+        if (healthy) {
+            log.warn("복제본 읽기 중단, 원본으로 읽음: {}", reason);
+        }
+        healthy = false;
+    }
+}
@@ -2,10 +2,10 @@ package com.astro.mood.config;
 
 import com.astro.mood.security.jwt.JWTFilter;
 import com.astro.mood.security.jwt.JWTUtil;
+import com.astro.mood.security.jwt.TokenRefreshCoordinator;
 import com.astro.mood.security.filter.SecurityThreatFilter;
 import com.astro.mood.security.filter.RateLimitFilter;
 import com.astro.mood.security.filter.XssFilter;
-import com.astro.mood.service.auth.CustomUserDetailsService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -40,7 +40,7 @@ public class SecurityConfig {
         private Environment environment;
         private final AuthenticationConfiguration authenticationConfiguration;
         private final JWTUtil jwtUtil;
-        private final CustomUserDetailsService customUserDetailsService; // UserDetailsService 추가
+        private final TokenRefreshCoordinator tokenRefreshCoordinator;
         private final SecurityThreatFilter securityThreatFilter; // 보안 위협 필터
         private final RateLimitFilter rateLimitFilter; // Rate Limiting 필터
         private final XssFilter xssFilter; // XSS 방어 필터
@@ -172,7 +172,7 @@ public class SecurityConfig {
                                 .addFilterBefore(securityThreatFilter, UsernamePasswordAuthenticationFilter.class)
                                 .addFilterBefore(xssFilter, UsernamePasswordAuthenticationFilter.class)
                                 .addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class)
-                                .addFilterBefore(new JWTFilter(jwtUtil, customUserDetailsService, objectMapper),
+                                .addFilterBefore(new JWTFilter(jwtUtil, tokenRefreshCoordinator, objectMapper),
                                                 UsernamePasswordAuthenticationFilter.class);
                 return http.build();
         }
@@ -1,5 +1,6 @@
 package com.astro.mood.config;
 
+import com.astro.mood.web.interceptor.LoadSheddingInterceptor;
 import com.astro.mood.web.interceptor.RequestTimeLoggingInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
@@ -14,10 +15,15 @@ public class WebConfig implements WebMvcConfigurer {
 
     //인터셉터 가져오기
     private final RequestTimeLoggingInterceptor requestTimeLoggingInterceptor;
+    private final LoadSheddingInterceptor loadSheddingInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(requestTimeLoggingInterceptor);//레지스트리에 추가
+        // 부하 차단 (관리자 API는 과부하 중에도 상태를 볼 수 있도록 제외)
+        registry.addInterceptor(loadSheddingInterceptor)
+                .addPathPatterns("/api/**")
+                .excludePathPatterns("/api/admin/**");
     }
 
     @Override
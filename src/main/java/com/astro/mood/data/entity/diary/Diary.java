@@ -3,6 +3,7 @@ package com.astro.mood.data.entity.diary;
 import com.astro.mood.data.entity.user.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -19,7 +20,8 @@ import java.util.Set;
 @Table(name = "diary", indexes = {
         @Index(name = "idx_diary_user_created", columnList = "user_idx, created_at"),
         @Index(name = "idx_diary_user_deleted", columnList = "user_idx, deleted_at"),
-        @Index(name = "idx_diary_created_year", columnList = "created_at")
+        @Index(name = "idx_diary_created_year", columnList = "created_at"),
+        @Index(name = "idx_diary_participation_created", columnList = "challenge_participation_idx, created_at")
 })
 public class Diary {
     @Id
@@ -37,10 +39,22 @@ public class Diary {
     @Column(name = "iv", length = 24)
     private String iv; // GCM Initialization Vector (Base64 encoded)
 
+    @Column(name = "key_version", length = 64)
+    private String keyVersion; // 암호화 키 버전 (null이면 버전 도입 이전 - 현재 키로 복호화)
+
+    @ToString.Exclude
+    @Column(name = "content_blob", columnDefinition = "BLOB")
+    private byte[] contentBlob; // 압축 후 암호화한 바이너리 봉투 (content_format = 2)
+
+    @Column(name = "content_format")
+    private Integer contentFormat; // 암호문 포맷 (DiaryContentFormat, null이면 구 AAD 가능성 있음)
+
     @Column(name = "emotion_idx")
     private Integer emotionIdx;
 
+    // 목록 조회 시 일기별 1회씩 로딩되지 않도록 영속성 컨텍스트의 미초기화 컬렉션을 묶어서 로딩 (IN 절)
     @ElementCollection(fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @CollectionTable(name = "diary_imageurls", joinColumns = @JoinColumn(name = "diary_idx"))
     @Column(name = "image_urls")
     @Builder.Default
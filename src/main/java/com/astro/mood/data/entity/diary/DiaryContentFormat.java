@@ -0,0 +1,30 @@
+package com.astro.mood.data.entity.diary;
+
+/**
+ * diary.content_format 컬럼 값 정의
+ * null은 포맷 컬럼 도입 이전 행으로, AAD 방식을 알 수 없어 하위 호환 복호화(2회 시도)가 필요하다.
+ */
+public final class DiaryContentFormat {
+
+    // AES-GCM, AAD = "userId:{userIdx}", content/iv는 Base64 (단일 시도 복호화)
+    public static final int GCM_USER_AAD = 1;
+    // 압축 후 AES-GCM 바이너리 봉투 (ContentEnvelope), content_blob에 저장하고 content/iv는 비움
+    public static final int COMPRESSED_ENVELOPE = 2;
+
+    private DiaryContentFormat() {
+    }
+
+    /**
+     * 구 AAD(userId,diaryId) 하위 호환 시도가 필요한 행인지 확인
+     */
+    public static boolean requiresLegacyFallback(Integer contentFormat) {
+        return contentFormat == null;
+    }
+
+    /**
+     * content_blob 봉투 포맷 행인지 확인
+     */
+    public static boolean isEnvelope(Integer contentFormat) {
+        return contentFormat != null && contentFormat == COMPRESSED_ENVELOPE;
+    }
+}
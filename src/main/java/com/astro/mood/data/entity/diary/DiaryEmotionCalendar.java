@@ -0,0 +1,50 @@
+package com.astro.mood.data.entity.diary;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 연간 감정 달력 (읽기 모델)
+ * 날짜별 최신 일기의 (emotionIdx, diaryIdx)를 EmotionCalendarSlots 포맷으로 압축 저장한다.
+ * 일기 쓰기 시 변경된 날짜만 갱신되고, 어긋난 경우 재구성 잡이 원본(diary)에서 다시 만든다.
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@IdClass(DiaryEmotionCalendar.Key.class)
+@Table(name = "diary_emotion_calendar")
+public class DiaryEmotionCalendar {
+    @Id
+    @Column(name = "user_idx")
+    private Integer userIdx;
+
+    @Id
+    @Column(name = "calendar_year")
+    private Integer year;
+
+    @ToString.Exclude
+    @Column(name = "slots", columnDefinition = "VARBINARY(2048)", nullable = false)
+    private byte[] slots; // EmotionCalendarSlots 인코딩
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Integer userIdx;
+        private Integer year;
+    }
+}
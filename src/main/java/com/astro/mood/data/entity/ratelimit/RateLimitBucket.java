@@ -0,0 +1,32 @@
+package com.astro.mood.data.entity.ratelimit;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 인스턴스 간 공유 Rate Limit 버킷 상태 (rate-limit.distributed.store=database)
+ * version 으로 compare-and-swap 갱신 (행이 없으면 가득 찬 버킷)
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+@Table(name = "rate_limit_bucket", indexes = {
+        @Index(name = "idx_rate_limit_bucket_refilled_at", columnList = "refilled_at")
+})
+public class RateLimitBucket {
+    @Id
+    @Column(name = "bucket_key", length = 128)
+    private String bucketKey; // "식별자:RateLimitType"
+
+    @Column(name = "tokens", nullable = false)
+    private Long tokens; // 남은 토큰 수
+
+    @Column(name = "refilled_at", nullable = false)
+    private Long refilledAt; // 마지막 리필 시각 (epoch ms)
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+}
@@ -57,6 +57,10 @@ public class User {
     @Column(name = "role")
     private String role;
 
+    // 이 시각 이전에 발급된 액세스 토큰은 거부 (로그아웃 시 갱신, 모든 기기에 적용)
+    @Column(name = "tokens_revoked_at")
+    private LocalDateTime tokensRevokedAt;
+
     // 유저 admin 권한 체크
     public Set<UserRole> getAuthorities() {
         if (role != null && role.equals("ROLE_ADMIN")) {
@@ -0,0 +1,49 @@
+package com.astro.mood.data.entity.user;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 일기 통계 집계 (일기 쓰기/삭제/복원 트랜잭션에서 함께 갱신)
+ * updated_at이 null이면 아직 집계되지 않은 행 (원본에서 재계산 필요)
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+@Table(name = "user_stats")
+public class UserStats {
+    @Id
+    @Column(name = "user_idx")
+    private Integer userIdx;
+
+    @Column(name = "total_diaries")
+    private Long totalDiaries; // 휴지통 제외 일기 수
+
+    @Column(name = "first_record_date")
+    private LocalDate firstRecordDate; // 첫 기록일
+
+    @Column(name = "last_record_date")
+    private LocalDate lastRecordDate; // 마지막 기록일
+
+    @Column(name = "current_streak")
+    private Integer currentStreak; // last_record_date에서 끝나는 연속 기록 일수
+
+    @Column(name = "longest_streak")
+    private Integer longestStreak; // 최장 연속 기록 일수
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * 오늘 기준 연속 기록 일수 (오늘 기록이 없으면 0)
+     */
+    public int getCurrentStreakAsOf(LocalDate today) {
+        return today.equals(lastRecordDate) && currentStreak != null ? currentStreak : 0;
+    }
+}
@@ -2,6 +2,9 @@ package com.astro.mood.data.repository.auth;
 
 import com.astro.mood.data.entity.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -18,4 +21,9 @@ public interface AuthRepository extends JpaRepository<User, Integer> {
 
     // 30일 경과한 탈퇴 사용자 조회
     List<User> findByIsDeletedTrueAndDeletedAtBefore(LocalDateTime date);
+
+    // 액세스 토큰 폐기 시각 기록 (로그아웃)
+    @Modifying
+    @Query("UPDATE User u SET u.tokensRevokedAt = :revokedAt WHERE u.userIdx = :userIdx")
+    int updateTokensRevokedAt(@Param("userIdx") Integer userIdx, @Param("revokedAt") LocalDateTime revokedAt);
 }
@@ -0,0 +1,35 @@
+package com.astro.mood.data.repository.auth;
+
+import com.astro.mood.data.entity.user.UserStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface UserStatsRepository extends JpaRepository<UserStats, Integer> {
+
+    // 집계 행이 없으면 빈 행 생성 (동시 생성 시 중복 키 오류 없이 무시)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_stats (user_idx) VALUES (:userIdx)", nativeQuery = true)
+    void insertIfAbsent(@Param("userIdx") Integer userIdx);
+
+    // 갱신용 조회 (같은 사용자의 동시 갱신 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserStats s WHERE s.userIdx = :userIdx")
+    Optional<UserStats> findForUpdate(@Param("userIdx") Integer userIdx);
+
+    // 정합성 검사 잡용 키셋 순회
+    @Query("SELECT s.userIdx FROM UserStats s WHERE s.userIdx > :afterUserIdx ORDER BY s.userIdx ASC")
+    List<Integer> findUserIdxAfter(@Param("afterUserIdx") Integer afterUserIdx, Pageable pageable);
+
+    // 사용자 통계 삭제 (회원탈퇴 시)
+    @Modifying
+    @Query("DELETE FROM UserStats s WHERE s.userIdx = :userIdx")
+    void deleteByUserIdx(@Param("userIdx") Integer userIdx);
+}
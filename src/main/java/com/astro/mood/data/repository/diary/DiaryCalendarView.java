@@ -0,0 +1,15 @@
+package com.astro.mood.data.repository.diary;
+
+import java.time.LocalDate;
+
+/**
+ * 달력/감정비트맵용 프로젝션 (날짜별 최신 일기 1건의 식별자와 감정만)
+ */
+public interface DiaryCalendarView {
+
+    Integer getDiaryIdx();
+
+    LocalDate getDiaryDate();
+
+    Integer getEmotionIdx();
+}
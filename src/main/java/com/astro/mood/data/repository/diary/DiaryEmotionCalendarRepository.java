@@ -0,0 +1,42 @@
+package com.astro.mood.data.repository.diary;
+
+import com.astro.mood.data.entity.diary.DiaryEmotionCalendar;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface DiaryEmotionCalendarRepository
+        extends JpaRepository<DiaryEmotionCalendar, DiaryEmotionCalendar.Key> {
+
+        @Query("SELECT c FROM DiaryEmotionCalendar c WHERE c.userIdx = :userIdx AND c.year = :year")
+        Optional<DiaryEmotionCalendar> findByUserIdxAndYear(@NonNull @Param("userIdx") Integer userIdx,
+                        @NonNull @Param("year") Integer year);
+
+        // 갱신용 조회 (같은 사용자/연도의 동시 갱신 직렬화)
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT c FROM DiaryEmotionCalendar c WHERE c.userIdx = :userIdx AND c.year = :year")
+        Optional<DiaryEmotionCalendar> findForUpdate(@NonNull @Param("userIdx") Integer userIdx,
+                        @NonNull @Param("year") Integer year);
+
+        // 재구성 잡용: 달력이 있는 사용자 키셋 순회
+        @Query("SELECT DISTINCT c.userIdx FROM DiaryEmotionCalendar c WHERE c.userIdx > :afterUserIdx " +
+                        "ORDER BY c.userIdx ASC")
+        List<Integer> findUserIdxAfter(@NonNull @Param("afterUserIdx") Integer afterUserIdx,
+                        @NonNull Pageable pageable);
+
+        @Query("SELECT c.year FROM DiaryEmotionCalendar c WHERE c.userIdx = :userIdx")
+        List<Integer> findYearsByUserIdx(@NonNull @Param("userIdx") Integer userIdx);
+
+        // 사용자 관련 달력 삭제 (회원탈퇴 시)
+        @Modifying
+        @Query("DELETE FROM DiaryEmotionCalendar c WHERE c.userIdx = :userIdx")
+        void deleteByUserIdx(@NonNull @Param("userIdx") Integer userIdx);
+}
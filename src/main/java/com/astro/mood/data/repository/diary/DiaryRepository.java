@@ -2,6 +2,8 @@ package com.astro.mood.data.repository.diary;
 
 import com.astro.mood.data.entity.diary.Diary;
 import com.astro.mood.data.entity.user.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -17,27 +19,56 @@ public interface DiaryRepository extends JpaRepository<Diary, Integer> {
         @NonNull
         Optional<Diary> findById(@NonNull Integer diaryIdx);
 
-        @Query("SELECT d FROM Diary d WHERE d.user = :user AND YEAR(d.createdAt) = :year AND MONTH(d.createdAt) = :month AND d.deletedAt IS NULL ORDER BY d.createdAt DESC")
-        @NonNull
-        List<Diary> findByUserAndMonth(@NonNull @Param("user") User user, @NonNull @Param("year") Integer year,
-                        @NonNull @Param("month") Integer month);
-
-        // 단순화된 월별 조회 (이미지 포함)
+        // 기간 조회 [start, end) - created_at을 함수로 감싸지 않아 idx_diary_user_created 범위 탐색을 탄다
         @Query("SELECT d FROM Diary d " +
-                        "WHERE d.user = :user AND YEAR(d.createdAt) = :year AND MONTH(d.createdAt) = :month AND d.deletedAt IS NULL "
-                        +
+                        "WHERE d.user = :user AND d.createdAt >= :start AND d.createdAt < :end AND d.deletedAt IS NULL " +
                         "ORDER BY d.createdAt DESC")
         @NonNull
-        List<Diary> findByUserAndMonthWithImages(@NonNull @Param("user") User user,
-                        @NonNull @Param("year") Integer year,
-                        @NonNull @Param("month") Integer month);
+        List<Diary> findByUserAndCreatedAtRangeDesc(@NonNull @Param("user") User user,
+                        @NonNull @Param("start") LocalDateTime start,
+                        @NonNull @Param("end") LocalDateTime end);
 
-        // 감정비트맵용 1년치 일기 조회 (성능 최적화 - 감정 정보만)
         @Query("SELECT d FROM Diary d " +
-                        "WHERE d.user = :user AND YEAR(d.createdAt) = :year AND d.deletedAt IS NULL " +
-                        "ORDER BY d.createdAt DESC")
-        List<Diary> findByUserAndYearForEmotionBitmap(@NonNull @Param("user") User user,
-                        @NonNull @Param("year") Integer year);
+                        "WHERE d.user = :user AND d.createdAt >= :start AND d.createdAt < :end AND d.deletedAt IS NULL " +
+                        "ORDER BY d.createdAt ASC")
+        @NonNull
+        List<Diary> findByUserAndCreatedAtRangeAsc(@NonNull @Param("user") User user,
+                        @NonNull @Param("start") LocalDateTime start,
+                        @NonNull @Param("end") LocalDateTime end);
+
+        // 달력/감정비트맵용: [start, end) 기간에서 날짜별 가장 최근 일기 1건의 (diaryIdx, 날짜, 감정)만 조회 (최신 날짜순)
+        // 엔티티/본문 컬럼을 읽지 않고, 날짜별 최신 선택도 SQL(윈도 함수)에서 처리
+        @Query(value = "SELECT t.diary_idx AS diaryIdx, DATE(t.created_at) AS diaryDate, t.emotion_idx AS emotionIdx " +
+                        "FROM (SELECT d.diary_idx, d.created_at, d.emotion_idx, " +
+                        "ROW_NUMBER() OVER (PARTITION BY DATE(d.created_at) " +
+                        "ORDER BY d.created_at DESC, d.diary_idx DESC) AS rn " +
+                        "FROM diary d " +
+                        "WHERE d.user_idx = :userIdx AND d.created_at >= :start AND d.created_at < :end " +
+                        "AND d.deleted_at IS NULL) t " +
+                        "WHERE t.rn = 1 " +
+                        "ORDER BY t.created_at DESC", nativeQuery = true)
+        List<DiaryCalendarView> findLatestPerDayByUserAndCreatedAtRange(@NonNull @Param("userIdx") Integer userIdx,
+                        @NonNull @Param("start") LocalDateTime start,
+                        @NonNull @Param("end") LocalDateTime end);
+
+        @NonNull
+        default List<Diary> findByUserAndMonth(@NonNull User user, @NonNull Integer year, @NonNull Integer month) {
+                LocalDateTime start = LocalDate.of(year, month, 1).atStartOfDay();
+                return findByUserAndCreatedAtRangeDesc(user, start, start.plusMonths(1));
+        }
+
+        // 단순화된 월별 조회 (이미지 포함)
+        @NonNull
+        default List<Diary> findByUserAndMonthWithImages(@NonNull User user, @NonNull Integer year,
+                        @NonNull Integer month) {
+                return findByUserAndMonth(user, year, month);
+        }
+
+        // 감정비트맵용 1년치 일기 조회
+        default List<Diary> findByUserAndYearForEmotionBitmap(@NonNull User user, @NonNull Integer year) {
+                LocalDateTime start = LocalDate.of(year, 1, 1).atStartOfDay();
+                return findByUserAndCreatedAtRangeDesc(user, start, start.plusYears(1));
+        }
 
         @Query("SELECT COUNT(d) FROM Diary d WHERE d.user.userIdx = :userIdx AND d.deletedAt IS NULL")
         int countByUserUserIdx(@NonNull @Param("userIdx") Integer userIdx);
@@ -54,6 +85,7 @@ public interface DiaryRepository extends JpaRepository<Diary, Integer> {
         List<Diary> findDeletedDiariesByUser(@NonNull @Param("user") User user);
 
         // 휴지통 조회 (이미지 포함)
+        @EntityGraph(attributePaths = "imageUrls")
         @Query("SELECT d FROM Diary d " +
                         "WHERE d.user = :user AND d.deletedAt IS NOT NULL " +
                         "ORDER BY d.deletedAt DESC")
@@ -66,31 +98,50 @@ public interface DiaryRepository extends JpaRepository<Diary, Integer> {
         Optional<Diary> findActiveById(@NonNull @Param("diaryIdx") Integer diaryIdx);
 
         // 개별 일기 조회 (이미지 포함)
+        @EntityGraph(attributePaths = "imageUrls")
         @Query("SELECT d FROM Diary d " +
                         "WHERE d.diaryIdx = :diaryIdx AND d.deletedAt IS NULL")
         Optional<Diary> findActiveByIdWithImages(@NonNull @Param("diaryIdx") Integer diaryIdx);
 
         // 통계 관련 메서드들 (네이티브 쿼리 사용)
-        @Query(value = "SELECT MIN(DATE(created_at)) FROM diary WHERE user_idx = :loginIdx AND deleted_at IS NULL", nativeQuery = true)
+        @Query(value = "SELECT DATE(MIN(created_at)) FROM diary WHERE user_idx = :loginIdx AND deleted_at IS NULL", nativeQuery = true)
         LocalDate findFirstRecordDateByUser(@NonNull @Param("loginIdx") Integer loginIdx);
 
-        @Query(value = "SELECT COUNT(*) FROM diary WHERE user_idx = :loginIdx AND DATE(created_at) = :date AND deleted_at IS NULL", nativeQuery = true)
-        Long countByUserLoginIdxAndDate(@NonNull @Param("loginIdx") Integer loginIdx,
-                        @NonNull @Param("date") LocalDate date);
+        @Query(value = "SELECT COUNT(*) FROM diary WHERE user_idx = :loginIdx AND created_at >= :start AND created_at < :end AND deleted_at IS NULL", nativeQuery = true)
+        Long countByUserLoginIdxAndCreatedAtRange(@NonNull @Param("loginIdx") Integer loginIdx,
+                        @NonNull @Param("start") LocalDateTime start,
+                        @NonNull @Param("end") LocalDateTime end);
+
+        default Long countByUserLoginIdxAndDate(@NonNull Integer loginIdx, @NonNull LocalDate date) {
+                return countByUserLoginIdxAndCreatedAtRange(loginIdx, date.atStartOfDay(),
+                                date.plusDays(1).atStartOfDay());
+        }
+
+        // 연속 기록 계산용: 일기를 쓴 날짜 목록 (중복 없음, 최신순)
+        @Query("SELECT DISTINCT CAST(d.createdAt AS LocalDate) AS diaryDate FROM Diary d " +
+                        "WHERE d.user.userIdx = :loginIdx AND d.deletedAt IS NULL " +
+                        "ORDER BY diaryDate DESC")
+        List<LocalDate> findDistinctDiaryDatesDesc(@NonNull @Param("loginIdx") Integer loginIdx);
 
         @Query(value = "SELECT COUNT(*) FROM diary WHERE user_idx = :loginIdx AND deleted_at IS NULL", nativeQuery = true)
         Long countByUserLoginIdxAndIsDeletedFalse(@NonNull @Param("loginIdx") Integer loginIdx);
 
+        // 사용자의 이미지 키 일괄 조회 (휴지통 제외)
+        @Query("SELECT i FROM Diary d JOIN d.imageUrls i WHERE d.user.userIdx = :userIdx AND d.deletedAt IS NULL")
+        List<String> findActiveImageUrlsByUserIdx(@NonNull @Param("userIdx") Integer userIdx);
+
+        // 사용자의 이미지 키 일괄 조회 (휴지통 포함 - 회원탈퇴 시)
+        @Query("SELECT i FROM Diary d JOIN d.imageUrls i WHERE d.user.userIdx = :userIdx")
+        List<String> findAllImageUrlsByUserIdx(@NonNull @Param("userIdx") Integer userIdx);
+
         // 사용자의 모든 일기 조회 (ACL 수정용)
         @Query("SELECT d FROM Diary d WHERE d.user.userIdx = :userIdx AND d.deletedAt IS NULL")
         List<Diary> findByUserIdx(@NonNull @Param("userIdx") Integer userIdx);
 
         // 특정 날짜의 모든 일기 조회 (시간순 정렬 - 오래된 순)
-        @Query("SELECT d FROM Diary d " +
-                        "WHERE d.user = :user AND DATE(d.createdAt) = :date AND d.deletedAt IS NULL " +
-                        "ORDER BY d.createdAt ASC")
-        List<Diary> findByUserAndDateOrderByCreatedAtAsc(@NonNull @Param("user") User user,
-                        @NonNull @Param("date") LocalDate date);
+        default List<Diary> findByUserAndDateOrderByCreatedAtAsc(@NonNull User user, @NonNull LocalDate date) {
+                return findByUserAndCreatedAtRangeAsc(user, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+        }
 
         // 챌린지 참여별 일기 조회 (정확한 연동)
         @Query("SELECT d FROM Diary d " +
@@ -120,11 +171,99 @@ public interface DiaryRepository extends JpaRepository<Diary, Integer> {
         // 특정 날짜에 해당 챌린지로 작성된 일기가 있는지 확인 (현재 수정 중인 일기 제외)
         @Query("SELECT COUNT(d) > 0 FROM Diary d " +
                         "WHERE d.challengeParticipationIdx = :participationIdx " +
-                        "AND DATE(d.createdAt) = :date " +
+                        "AND d.createdAt >= :start AND d.createdAt < :end " +
                         "AND d.deletedAt IS NULL " +
                         "AND d.diaryIdx != :excludeDiaryIdx")
-        boolean existsByChallengeParticipationIdxAndDateExcludingDiary(
+        boolean existsByChallengeParticipationIdxAndCreatedAtRangeExcludingDiary(
                         @NonNull @Param("participationIdx") Integer participationIdx,
-                        @NonNull @Param("date") LocalDate date,
+                        @NonNull @Param("start") LocalDateTime start,
+                        @NonNull @Param("end") LocalDateTime end,
                         @NonNull @Param("excludeDiaryIdx") Integer excludeDiaryIdx);
+
+        default boolean existsByChallengeParticipationIdxAndDateExcludingDiary(@NonNull Integer participationIdx,
+                        @NonNull LocalDate date, @NonNull Integer excludeDiaryIdx) {
+                return existsByChallengeParticipationIdxAndCreatedAtRangeExcludingDiary(participationIdx,
+                                date.atStartOfDay(), date.plusDays(1).atStartOfDay(), excludeDiaryIdx);
+        }
+
+        // 타임라인 (created_at, diary_idx) 내림차순 - 첫 페이지
+        @Query("SELECT d FROM Diary d " +
+                        "WHERE d.user.userIdx = :userIdx AND d.deletedAt IS NULL " +
+                        "ORDER BY d.createdAt DESC, d.diaryIdx DESC")
+        List<Diary> findTimelinePage(@NonNull @Param("userIdx") Integer userIdx, @NonNull Pageable pageable);
+
+        // 타임라인 - 커서 이후 페이지
+        @Query("SELECT d FROM Diary d " +
+                        "WHERE d.user.userIdx = :userIdx AND d.deletedAt IS NULL " +
+                        "AND (d.createdAt < :cursorCreatedAt " +
+                        "OR (d.createdAt = :cursorCreatedAt AND d.diaryIdx < :cursorDiaryIdx)) " +
+                        "ORDER BY d.createdAt DESC, d.diaryIdx DESC")
+        List<Diary> findTimelinePageAfter(@NonNull @Param("userIdx") Integer userIdx,
+                        @NonNull @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                        @NonNull @Param("cursorDiaryIdx") Integer cursorDiaryIdx,
+                        @NonNull Pageable pageable);
+
+        // 휴지통 (deleted_at, diary_idx) 내림차순 - 첫 페이지
+        @Query("SELECT d FROM Diary d " +
+                        "WHERE d.user.userIdx = :userIdx AND d.deletedAt IS NOT NULL " +
+                        "ORDER BY d.deletedAt DESC, d.diaryIdx DESC")
+        List<Diary> findTrashPage(@NonNull @Param("userIdx") Integer userIdx, @NonNull Pageable pageable);
+
+        // 휴지통 - 커서 이후 페이지
+        @Query("SELECT d FROM Diary d " +
+                        "WHERE d.user.userIdx = :userIdx AND d.deletedAt IS NOT NULL " +
+                        "AND (d.deletedAt < :cursorDeletedAt " +
+                        "OR (d.deletedAt = :cursorDeletedAt AND d.diaryIdx < :cursorDiaryIdx)) " +
+                        "ORDER BY d.deletedAt DESC, d.diaryIdx DESC")
+        List<Diary> findTrashPageAfter(@NonNull @Param("userIdx") Integer userIdx,
+                        @NonNull @Param("cursorDeletedAt") LocalDateTime cursorDeletedAt,
+                        @NonNull @Param("cursorDiaryIdx") Integer cursorDiaryIdx,
+                        @NonNull Pageable pageable);
+
+        // 챌린지 참여별 일기 (created_at, diary_idx) 내림차순 - 첫 페이지
+        @Query("SELECT d FROM Diary d " +
+                        "WHERE d.challengeParticipationIdx = :participationIdx AND d.deletedAt IS NULL " +
+                        "ORDER BY d.createdAt DESC, d.diaryIdx DESC")
+        List<Diary> findChallengeDiaryPage(@NonNull @Param("participationIdx") Integer participationIdx,
+                        @NonNull Pageable pageable);
+
+        // 챌린지 참여별 일기 - 커서 이후 페이지
+        @Query("SELECT d FROM Diary d " +
+                        "WHERE d.challengeParticipationIdx = :participationIdx AND d.deletedAt IS NULL " +
+                        "AND (d.createdAt < :cursorCreatedAt " +
+                        "OR (d.createdAt = :cursorCreatedAt AND d.diaryIdx < :cursorDiaryIdx)) " +
+                        "ORDER BY d.createdAt DESC, d.diaryIdx DESC")
+        List<Diary> findChallengeDiaryPageAfter(@NonNull @Param("participationIdx") Integer participationIdx,
+                        @NonNull @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                        @NonNull @Param("cursorDiaryIdx") Integer cursorDiaryIdx,
+                        @NonNull Pageable pageable);
+
+        // 콘텐츠 포맷 마이그레이션 대상 조회 (포맷 미기록 암호문, diary_idx 키셋 순회)
+        @Query("SELECT d FROM Diary d " +
+                        "WHERE d.contentFormat IS NULL AND d.iv IS NOT NULL AND d.diaryIdx > :afterDiaryIdx " +
+                        "ORDER BY d.diaryIdx ASC")
+        List<Diary> findContentFormatMigrationCandidates(@NonNull @Param("afterDiaryIdx") Integer afterDiaryIdx,
+                        @NonNull Pageable pageable);
+
+        @Query("SELECT COUNT(d) FROM Diary d WHERE d.contentFormat IS NULL AND d.iv IS NOT NULL")
+        long countContentFormatMigrationCandidates();
+
+        // 재암호화 결과를 봉투 포맷으로 저장 (iv가 조회 시점과 같을 때만 - 동시에 수정된 일기는 덮어쓰지 않음)
+        @Modifying
+        @Query("UPDATE Diary d SET d.contentBlob = :contentBlob, d.content = NULL, d.iv = NULL, " +
+                        "d.keyVersion = :keyVersion, d.contentFormat = :contentFormat " +
+                        "WHERE d.diaryIdx = :diaryIdx AND d.iv = :expectedIv")
+        int updateEnvelopeContent(@NonNull @Param("diaryIdx") Integer diaryIdx,
+                        @NonNull @Param("expectedIv") String expectedIv,
+                        @NonNull @Param("contentBlob") byte[] contentBlob,
+                        @Param("keyVersion") String keyVersion,
+                        @NonNull @Param("contentFormat") Integer contentFormat);
+
+        // 포맷만 기록 (이미 현재 방식으로 암호화된 행)
+        @Modifying
+        @Query("UPDATE Diary d SET d.contentFormat = :contentFormat " +
+                        "WHERE d.diaryIdx = :diaryIdx AND d.iv = :expectedIv")
+        int updateContentFormat(@NonNull @Param("diaryIdx") Integer diaryIdx,
+                        @NonNull @Param("expectedIv") String expectedIv,
+                        @NonNull @Param("contentFormat") Integer contentFormat);
 }
@@ -0,0 +1,30 @@
+package com.astro.mood.data.repository.ratelimit;
+
+import com.astro.mood.data.entity.ratelimit.RateLimitBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RateLimitBucketRepository extends JpaRepository<RateLimitBucket, String> {
+
+    // 버킷 행 생성 (다른 인스턴스가 먼저 만들었으면 0 반환)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO rate_limit_bucket (bucket_key, tokens, refilled_at, version) "
+            + "VALUES (:bucketKey, :tokens, :refilledAt, :version)", nativeQuery = true)
+    int insertIfAbsent(@Param("bucketKey") String bucketKey, @Param("tokens") long tokens,
+            @Param("refilledAt") long refilledAt, @Param("version") long version);
+
+    // 읽은 뒤 다른 인스턴스가 갱신하지 않았을 때만 반영 (compare-and-swap)
+    @Modifying
+    @Query("UPDATE RateLimitBucket b SET b.tokens = :tokens, b.refilledAt = :refilledAt, b.version = :newVersion "
+            + "WHERE b.bucketKey = :bucketKey AND b.version = :expectedVersion")
+    int compareAndSet(@Param("bucketKey") String bucketKey, @Param("expectedVersion") long expectedVersion,
+            @Param("tokens") long tokens, @Param("refilledAt") long refilledAt,
+            @Param("newVersion") long newVersion);
+
+    // 리필 주기가 지나 가득 찬 것과 같은 행 정리
+    @Modifying
+    @Query("DELETE FROM RateLimitBucket b WHERE b.refilledAt < :refilledBefore")
+    int deleteRefilledBefore(@Param("refilledBefore") long refilledBefore);
+}
@@ -1,7 +1,11 @@
 package com.astro.mood.security.filter;
 
 import com.astro.mood.config.RateLimitConfig;
+import com.astro.mood.service.exception.CustomException;
+import com.astro.mood.service.exception.ErrorCode;
+import com.astro.mood.service.ratelimit.GlobalRateLimiter;
 import com.astro.mood.service.ratelimit.RateLimitService;
+import com.astro.mood.web.dto.ApiResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -27,8 +31,15 @@ import java.util.Map;
 @Slf4j
 public class RateLimitFilter extends OncePerRequestFilter {
 
+    // 분류된 RateLimitType 을 요청에 보관 (LoadSheddingInterceptor 에서 우선순위로 사용)
+    public static final String RATE_LIMIT_TYPE_ATTRIBUTE = RateLimitFilter.class.getName() + ".RATE_LIMIT_TYPE";
+
+    private static final long SERVER_BUSY_RETRY_AFTER_SECONDS = 1;
+
     private final RateLimitService rateLimitService;
+    private final GlobalRateLimiter globalRateLimiter;
     private final ObjectMapper objectMapper;
+    private final RateLimitRouteTable routeTable = new RateLimitRouteTable(); // 요청 경로 분류표 (기동 시 생성)
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -39,13 +50,14 @@ public class RateLimitFilter extends OncePerRequestFilter {
         String method = request.getMethod();
 
         // Rate Limit 타입 결정
-        RateLimitConfig.RateLimitType limitType = determineRateLimitType(requestUri, method);
+        RateLimitConfig.RateLimitType limitType = routeTable.classify(requestUri, method);
+        request.setAttribute(RATE_LIMIT_TYPE_ATTRIBUTE, limitType);
 
-        // Rate Limit 체크
+        // Rate Limit 체크 (로그인 요청은 사용자 + IP)
         RateLimitService.RateLimitResult result = rateLimitService.checkRateLimit(request, limitType);
 
-        // 응답 헤더에 Rate Limit 정보 추가
-        response.setHeader("X-Rate-Limit-Limit", String.valueOf(limitType.getCapacity()));
+        // 응답 헤더에 Rate Limit 정보 추가 (더 적게 남은 버킷 기준)
+        response.setHeader("X-Rate-Limit-Limit", String.valueOf(result.getLimit()));
         response.setHeader("X-Rate-Limit-Remaining", String.valueOf(result.getRemainingTokens()));
 
         if (!result.isAllowed()) {
@@ -55,48 +67,18 @@ public class RateLimitFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 다음 필터로 진행
-        filterChain.doFilter(request, response);
-    }
-
-    /**
-     * 요청 URI와 메서드에 따라 Rate Limit 타입 결정
-     */
-    private RateLimitConfig.RateLimitType determineRateLimitType(String uri, String method) {
-        // 인증 관련
-        if (uri.contains("/login") || uri.contains("/signin")) {
-            return RateLimitConfig.RateLimitType.AUTH_LOGIN;
-        }
-        if (uri.contains("/register") || uri.contains("/signup") || uri.contains("/join")) {
-            return RateLimitConfig.RateLimitType.AUTH_REGISTER;
-        }
-        if (uri.contains("/refresh") || uri.contains("/reissue")) {
-            return RateLimitConfig.RateLimitType.AUTH_TOKEN_REFRESH;
-        }
-
-        // 일기 관련
-        if (uri.contains("/writediary") || (uri.contains("/diary") && "POST".equals(method))) {
-            return RateLimitConfig.RateLimitType.DIARY_CREATE;
-        }
-        if (uri.contains("/diary") && "PUT".equals(method)) {
-            return RateLimitConfig.RateLimitType.DIARY_UPDATE;
-        }
-        if (uri.contains("/diary") && "GET".equals(method)) {
-            return RateLimitConfig.RateLimitType.DIARY_READ;
-        }
-
-        // 파일 업로드 관련
-        if (uri.contains("/upload") || (uri.contains("/image") && "POST".equals(method))) {
-            return RateLimitConfig.RateLimitType.FILE_UPLOAD;
+        // 서버 전체 처리량/동시 처리 수 보호 (초과 시 503)
+        if (!globalRateLimiter.tryEnter()) {
+            sendServerBusyResponse(response);
+            return;
         }
 
-        // 프로필 수정
-        if (uri.contains("/user") && "PUT".equals(method)) {
-            return RateLimitConfig.RateLimitType.PROFILE_UPDATE;
+        // 다음 필터로 진행
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            globalRateLimiter.exit();
         }
-
-        // 기본값
-        return RateLimitConfig.RateLimitType.GENERAL_API;
     }
 
     /**
@@ -116,9 +98,18 @@ public class RateLimitFilter extends OncePerRequestFilter {
 
         String jsonResponse = objectMapper.writeValueAsString(errorResponse);
         response.getWriter().write(jsonResponse);
+    }
 
-        log.warn("🚫 Rate limit exceeded - URI: {}, Retry after: {}s",
-                response.getHeader("X-Original-URI"), retryAfterSeconds);
+    /**
+     * 서버 전체 한도 초과 응답 전송
+     */
+    private void sendServerBusyResponse(HttpServletResponse response) throws IOException {
+        ErrorCode errorCode = ErrorCode.SERVER_BUSY;
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setHeader("Retry-After", String.valueOf(SERVER_BUSY_RETRY_AFTER_SECONDS));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), ApiResponse.fail(new CustomException(errorCode)));
     }
 
     /**
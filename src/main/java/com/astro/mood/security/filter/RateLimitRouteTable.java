@@ -0,0 +1,157 @@
+package com.astro.mood.security.filter;
+
+import com.astro.mood.config.RateLimitConfig.RateLimitType;
+
+import java.util.List;
+
+/**
+ * 요청 경로 + 메서드 → RateLimitType 분류표 (기동 시 한 번 생성)
+ * - 경로 세그먼트 시작 부분을 키워드 트라이로 한 번만 훑어 등장한 키워드를 비트로 모음
+ *   (uri.contains("/login") 은 "login" 으로 시작하는 세그먼트가 있다는 것과 같으므로 기존 분류와 결과가 같음)
+ * - 키워드 비트 조합 × 메서드별 결과를 미리 계산해 두고 요청 시에는 배열 조회만 함
+ */
+final class RateLimitRouteTable {
+
+    private static final int LOGIN = 1;
+    private static final int SIGNIN = 1 << 1;
+    private static final int REGISTER = 1 << 2;
+    private static final int SIGNUP = 1 << 3;
+    private static final int JOIN = 1 << 4;
+    private static final int REFRESH = 1 << 5;
+    private static final int REISSUE = 1 << 6;
+    private static final int WRITEDIARY = 1 << 7;
+    private static final int DIARY = 1 << 8;
+    private static final int UPLOAD = 1 << 9;
+    private static final int IMAGE = 1 << 10;
+    private static final int USER = 1 << 11;
+    private static final int KEYWORD_BITS = 12;
+
+    private static final List<String> KEYWORDS = List.of(
+            "login", "signin", "register", "signup", "join", "refresh", "reissue",
+            "writediary", "diary", "upload", "image", "user");
+
+    private static final int METHOD_GET = 0;
+    private static final int METHOD_POST = 1;
+    private static final int METHOD_PUT = 2;
+    private static final int METHOD_OTHER = 3;
+
+    // 소문자 알파벳 트라이 (0 = 루트이자 "자식 없음")
+    private final int[][] children;
+    private final int[] keywordBits;
+
+    // [메서드][키워드 비트 조합]
+    private final RateLimitType[][] table;
+
+    RateLimitRouteTable() {
+        int maxNodes = 1 + KEYWORDS.stream().mapToInt(String::length).sum();
+        this.children = new int[maxNodes][26];
+        this.keywordBits = new int[maxNodes];
+
+        int nodes = 1;
+        for (int k = 0; k < KEYWORDS.size(); k++) {
+            int node = 0;
+            for (char c : KEYWORDS.get(k).toCharArray()) {
+                int next = children[node][c - 'a'];
+                if (next == 0) {
+                    next = nodes++;
+                    children[node][c - 'a'] = next;
+                }
+                node = next;
+            }
+            keywordBits[node] |= 1 << k;
+        }
+
+        this.table = new RateLimitType[4][1 << KEYWORD_BITS];
+        for (int method = 0; method < 4; method++) {
+            for (int mask = 0; mask < (1 << KEYWORD_BITS); mask++) {
+                table[method][mask] = resolve(mask, method);
+            }
+        }
+    }
+
+    RateLimitType classify(String uri, String method) {
+        return table[methodIndex(method)][scan(uri)];
+    }
+
+    /**
+     * 각 세그먼트 앞부분이 어떤 키워드로 시작하는지 비트로 모읍니다.
+     */
+    private int scan(String uri) {
+        int mask = 0;
+        int node = -1; // -1: 키워드 매칭 중이 아님
+        for (int i = 0, length = uri.length(); i < length; i++) {
+            char c = uri.charAt(i);
+            if (c == '/') {
+                node = 0;
+                continue;
+            }
+            if (node < 0) {
+                continue;
+            }
+            if (c < 'a' || c > 'z') {
+                node = -1;
+                continue;
+            }
+            node = children[node][c - 'a'];
+            if (node == 0) {
+                node = -1;
+                continue;
+            }
+            mask |= keywordBits[node];
+        }
+        return mask;
+    }
+
+    private static int methodIndex(String method) {
+        return switch (method) {
+            case "GET" -> METHOD_GET;
+            case "POST" -> METHOD_POST;
+            case "PUT" -> METHOD_PUT;
+            default -> METHOD_OTHER;
+        };
+    }
+
+    /**
+     * 분류 규칙 (위에서부터 먼저 맞는 규칙 적용)
+     */
+    private static RateLimitType resolve(int mask, int method) {
+        // 인증 관련
+        if (has(mask, LOGIN | SIGNIN)) {
+            return RateLimitType.AUTH_LOGIN;
+        }
+        if (has(mask, REGISTER | SIGNUP | JOIN)) {
+            return RateLimitType.AUTH_REGISTER;
+        }
+        if (has(mask, REFRESH | REISSUE)) {
+            return RateLimitType.AUTH_TOKEN_REFRESH;
+        }
+
+        // 일기 관련
+        if (has(mask, WRITEDIARY) || (has(mask, DIARY) && method == METHOD_POST)) {
+            return RateLimitType.DIARY_CREATE;
+        }
+        if (has(mask, DIARY) && method == METHOD_PUT) {
+            return RateLimitType.DIARY_UPDATE;
+        }
+        if (has(mask, DIARY) && method == METHOD_GET) {
+            return RateLimitType.DIARY_READ;
+        }
+
+        // 파일 업로드 관련
+        if (has(mask, UPLOAD) || (has(mask, IMAGE) && method == METHOD_POST)) {
+            return RateLimitType.FILE_UPLOAD;
+        }
+
+        // 프로필 수정
+        if (has(mask, USER) && method == METHOD_PUT) {
+            return RateLimitType.PROFILE_UPDATE;
+        }
+
+        // 기본값
+        return RateLimitType.GENERAL_API;
+    }
+
+    private static boolean has(int mask, int bits) {
+        return (mask & bits) != 0;
+    }
+}
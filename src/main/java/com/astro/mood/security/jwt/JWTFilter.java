@@ -1,8 +1,5 @@
 package com.astro.mood.security.jwt;
 
-import com.astro.mood.data.entity.user.UserToken;
-import com.astro.mood.security.login.CustomUserDetails;
-import com.astro.mood.service.auth.CustomUserDetailsService;
 import com.astro.mood.service.exception.CustomException;
 import com.astro.mood.service.exception.ErrorCode;
 import com.astro.mood.web.dto.ApiResponse;
@@ -16,20 +13,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.lang.NonNull;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
 
 @RequiredArgsConstructor
 @Slf4j
 public class JWTFilter extends OncePerRequestFilter {
 
     private final JWTUtil jwtUtil;
-    private final CustomUserDetailsService customUserDetailsService;
+    private final TokenRefreshCoordinator tokenRefreshCoordinator;
     private final ObjectMapper objectMapper;
 
     /**
@@ -61,26 +56,8 @@ public class JWTFilter extends OncePerRequestFilter {
         }
 
         // 토큰 추출: 쿠키에서 먼저 시도, 없으면 Authorization 헤더에서
-        String token = null;
-
-        // 1. HttpOnly 쿠키에서 accessToken 가져오기
+        String token = jwtUtil.resolveAccessToken(request);
         Cookie[] cookies = request.getCookies();
-        if (cookies != null) {
-            for (Cookie cookie : cookies) {
-                if ("accessToken".equals(cookie.getName())) {
-                    token = cookie.getValue();
-                    break;
-                }
-            }
-        }
-
-        // 2. 쿠키에 토큰이 없으면 Authorization 헤더에서 가져오기 (기존 호환성)
-        if (token == null) {
-            String authorization = request.getHeader("Authorization");
-            if (authorization != null && authorization.startsWith("Bearer ")) {
-                token = authorization.substring(7);
-            }
-        }
 
         // 토큰이 없는 경우
         if (token == null) {
@@ -89,8 +66,11 @@ public class JWTFilter extends OncePerRequestFilter {
             return;
         }
 
+        // 토큰은 한 번만 파싱/검증하고 결과(VerifiedJwt)를 이후 단계에서 재사용 (RateLimitFilter 에서 이미 검증했으면 그 결과)
+        VerifiedJwt verified = jwtUtil.verifyAccessToken(request);
+
         // token 소멸 시간 검증
-        if (jwtUtil.isExpired(token)) {
+        if (verified.isExpired()) {
             // 유효기간이 만료한 경우
             log.info("token 갱신 필요 - 만료됨");
             // 1. 엑세스토큰 만료시, 리프레시토큰 만료시간 체크
@@ -105,59 +85,33 @@ public class JWTFilter extends OncePerRequestFilter {
             }
 
             // 1-2 리프레시 토큰 검증
-            if (!jwtUtil.validateToken(refreshToken)) {
+            VerifiedJwt verifiedRefresh = jwtUtil.verify(refreshToken);
+            if (!verifiedRefresh.isValid()) {
                 log.warn("리프레시 토큰 검증 실패");
                 writeJsonErrorResponse(response, ErrorCode.INVALID_TOKEN);
                 return;
             }
 
-            // 1-3 리프레시 토큰값으로 DB 토큰정보 가져오기
-            Integer loginIdx = jwtUtil.getLoginIdx(refreshToken);
-            UserToken userToken = customUserDetailsService.findUserToken(loginIdx);
-
-            // 1-4 쿠키에서 가져온 토큰과 db에서 가져온 토큰이 같은지 확인
-            if (!refreshToken.equals(userToken.getRefreshToken())) {
-                log.warn("리프레시 토큰 불일치 - DB와 쿠키의 토큰이 다름");
-                writeJsonErrorResponse(response, ErrorCode.INVALID_TOKEN);
+            // 1-3 DB 토큰정보 확인 후 재발급 (같은 사용자의 동시 재발급은 한 번만 수행하고 결과 공유)
+            TokenRefreshCoordinator.RefreshResult refreshed = tokenRefreshCoordinator
+                    .refresh(verifiedRefresh.getLoginIdx(), refreshToken);
+            if (!refreshed.isSuccess()) {
+                writeJsonErrorResponse(response, refreshed.errorCode());
                 return;
             }
-            refreshToken = userToken.getRefreshToken();
 
-            // 1-4 리프레시 토큰 만료시간 체크 (JWT 만료 시간)
-            if (jwtUtil.isExpired(refreshToken)) {
-                log.warn("refreshToken 유효기간 만료");
-                writeJsonErrorResponse(response, ErrorCode.EXPIRED_TOKEN);
-                return;
-            }
-
-            // 1-5 DB의 expiresAt 체크 (이틀 후 자동 로그인 풀림 문제 해결)
-            if (userToken.getExpiresAt() == null || userToken.getExpiresAt().isBefore(LocalDateTime.now())) {
-                log.warn("refreshToken DB 만료시간 초과 - expiresAt: {}", userToken.getExpiresAt());
-                writeJsonErrorResponse(response, ErrorCode.EXPIRED_TOKEN);
-                return;
-            }
-
-            {
-                log.info("refreshToken 유효기간이 만료되지 않아 AccessToken 재발급");
-                // 2. 사용자 정보를 기반으로 Authentication 객체 생성
-                // CustomUserDetails userDetails = (CustomUserDetails)
-                // customUserDetailsService.loadUserByUsername(userToken.getUser().getEmail());
-                CustomUserDetails userDetails = (CustomUserDetails) customUserDetailsService
-                        .loadUserByUserIdx(userToken.getUser().getUserIdx());
-                Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, "",
-                        userDetails.getAuthorities());
-
-                String newToken = jwtUtil.createJwt(authentication);
-                userToken.setAccessToken(newToken);
-                customUserDetailsService.saveRefreshToken(userToken);
-
-                token = newToken;
-            }
+            token = refreshed.accessToken();
+            verified = jwtUtil.verify(token);
         }
 
-        if (jwtUtil.validateToken(token)) {
+        if (verified.isValid()) {
             // 스프링 시큐리티 인증 토큰 생성
-            Authentication authentication = jwtUtil.getAuthentication(token);
+            Authentication authentication = jwtUtil.getAuthentication(verified);
+            if (authentication == null) {
+                log.warn("탈퇴했거나 폐기된 토큰");
+                writeJsonErrorResponse(response, ErrorCode.INVALID_TOKEN);
+                return;
+            }
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
             // 새로운 토큰이 발급된 경우 쿠키 업데이트
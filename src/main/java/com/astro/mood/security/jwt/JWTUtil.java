@@ -2,10 +2,14 @@ package com.astro.mood.security.jwt;
 
 import com.astro.mood.security.login.CustomUserDetails;
 import com.astro.mood.service.auth.CustomUserDetailsService;
+import com.astro.mood.utils.BoundedTtlCache;
 import com.astro.mood.web.dto.auth.KakaoUserDto;
+import com.astro.mood.web.dto.auth.UserRole;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.*;
 import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,18 +25,33 @@ import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
 
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class JWTUtil {
+    // 같은 요청 안에서 검증 결과 재사용 (RateLimitFilter → JWTFilter)
+    private static final String VERIFIED_ACCESS_TOKEN_ATTRIBUTE = JWTUtil.class.getName() + ".VERIFIED_ACCESS_TOKEN";
+
     private SecretKey secretKey;
+    private JwtParser parser;
+    private BoundedTtlCache<String, Claims> verifiedTokens;
+    @Value("${jwt.verify-cache.size:10000}")
+    private int verifiedCacheSize;
+    @Value("${jwt.verify-cache.ttl-seconds:300}")
+    private long verifiedCacheTtlSeconds;
     @Value("${jwt.secret}")
     private String secret;
     @Value("${jwt.expiration_time}")
     private long accessTokenExpTime;
     private final CustomUserDetailsService customUserDetailsService;
+    private final UserAuthStatusCache userAuthStatusCache;
+    // true면 users 조회 없이 클레임으로 인증 (탈퇴/폐기 여부만 캐시로 확인)
+    @Value("${jwt.stateless.enabled:true}")
+    private boolean statelessAuth;
 
     @Value("${KAKAO_REST_API_KEY}")
     private String kakaoKey;
@@ -47,48 +66,117 @@ public class JWTUtil {
     public void setUp() {
         this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8),
                 SignatureAlgorithm.HS256.getJcaName());
+        // JwtParser는 불변이라 스레드 간 공유 가능
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.verifiedTokens = new BoundedTtlCache<>(verifiedCacheSize, verifiedCacheTtlSeconds * 1000);
+    }
+
+    /**
+     * 토큰을 한 번 파싱/서명 검증합니다.
+     * 최근 검증에 성공한 토큰은 해시로 캐시하여 재검증하지 않고, 만료 여부만 다시 확인합니다.
+     */
+    public VerifiedJwt verify(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            return VerifiedJwt.INVALID;
+        }
+
+        String tokenHash = hash(token);
+        Claims cached = verifiedTokens.get(tokenHash);
+        if (cached != null) {
+            return VerifiedJwt.of(cached);
+        }
+
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            VerifiedJwt verified = VerifiedJwt.of(claims);
+            if (verified.isValid()) {
+                verifiedTokens.put(tokenHash, claims);
+            }
+            return verified;
+        } catch (ExpiredJwtException e) {
+            return new VerifiedJwt(VerifiedJwt.Status.EXPIRED, e.getClaims());
+        } catch (JwtException | IllegalArgumentException e) {
+            return VerifiedJwt.INVALID;
+        }
+    }
+
+    /**
+     * 요청에서 액세스 토큰을 꺼냅니다. (HttpOnly 쿠키 우선, 없으면 Authorization 헤더)
+     */
+    public String resolveAccessToken(HttpServletRequest request) {
+        // 1. HttpOnly 쿠키에서 accessToken 가져오기
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if ("accessToken".equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+
+        // 2. 쿠키에 토큰이 없으면 Authorization 헤더에서 가져오기 (기존 호환성)
+        String authorization = request.getHeader("Authorization");
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            return authorization.substring(7);
+        }
+        return null;
+    }
+
+    /**
+     * 요청의 액세스 토큰을 검증합니다. 같은 요청에서 다시 호출하면 처음 결과를 그대로 반환합니다.
+     *
+     * @return 검증 결과, 토큰이 없으면 null
+     */
+    public VerifiedJwt verifyAccessToken(HttpServletRequest request) {
+        if (request.getAttribute(VERIFIED_ACCESS_TOKEN_ATTRIBUTE) instanceof VerifiedJwt verified) {
+            return verified;
+        }
+        String token = resolveAccessToken(request);
+        if (token == null) {
+            return null;
+        }
+        VerifiedJwt verified = verify(token);
+        request.setAttribute(VERIFIED_ACCESS_TOKEN_ATTRIBUTE, verified);
+        return verified;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원", e);
+        }
     }
 
     public Integer getLoginIdx(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.get("loginIdx", Integer.class);
+        return verifyOrThrow(token).getLoginIdx();
     }
 
     public String getRole(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.get("role", String.class);
+        return verifyOrThrow(token).getRole();
     }
 
     public String getNickname(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.get("nickname", String.class);
+        return verifyOrThrow(token).claims().get("nickname", String.class);
     }
 
-    public Boolean isExpired(String token) {
-        try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            return claims != null && claims.getExpiration().before(new Date());
-        } catch (ExpiredJwtException e) {
-            return true;
-        } catch (Exception e) {
-            return false;
+    // 기존 동작과 같이 만료 토큰은 ExpiredJwtException, 잘못된 토큰은 JwtException
+    private VerifiedJwt verifyOrThrow(String token) {
+        VerifiedJwt verified = verify(token);
+        if (verified.isExpired()) {
+            throw new ExpiredJwtException(null, verified.claims(), "JWT expired");
+        }
+        if (!verified.isValid()) {
+            throw new MalformedJwtException("Invalid JWT");
         }
+        return verified;
+    }
+
+    public Boolean isExpired(String token) {
+        return verify(token).isExpired();
     }
 
     public String createJwt(Authentication loginInfo) {
@@ -390,27 +478,7 @@ public class JWTUtil {
     }
 
     public boolean validateToken(String token) {
-        if (token == null || token.trim().isEmpty()) {
-            return false;
-        }
-
-        try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-
-            return claims != null && claims.getExpiration() != null && claims.getExpiration().after(new Date());
-        } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
-            return false;
-        } catch (ExpiredJwtException e) {
-            return false;
-        } catch (UnsupportedJwtException e) {
-            return false;
-        } catch (IllegalArgumentException e) {
-            return false;
-        }
+        return verify(token).isValid();
     }
 
     public String createRefreshToken(Integer loginId) {
@@ -422,9 +490,46 @@ public class JWTUtil {
                 .compact();
     }
 
+    /**
+     * 액세스 토큰으로 인증 객체를 만듭니다.
+     * 무상태 모드에서는 서명된 클레임으로 사용자 정보를 구성하고, 탈퇴/폐기 여부만 캐시에서 확인합니다.
+     *
+     * @return 검증 실패, 탈퇴했거나 폐기된 토큰, 액세스 토큰이 아닌 경우 null
+     */
     public Authentication getAuthentication(String token) {
-        Integer userIdx = getLoginIdx(token);
-        CustomUserDetails userDetails = (CustomUserDetails) customUserDetailsService.loadUserByUserIdx(userIdx);
+        VerifiedJwt verified = verify(token);
+        return verified.isValid() ? getAuthentication(verified) : null;
+    }
+
+    /**
+     * 이미 검증된 토큰으로 인증 객체를 만듭니다. (JWTFilter에서 토큰을 다시 파싱하지 않도록)
+     */
+    public Authentication getAuthentication(VerifiedJwt verified) {
+        Claims claims = verified.claims();
+        if (!statelessAuth) {
+            Integer userIdx = verified.getLoginIdx();
+            CustomUserDetails userDetails = (CustomUserDetails) customUserDetailsService.loadUserByUserIdx(userIdx);
+            return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        }
+
+        Integer userIdx = claims.get("loginIdx", Integer.class);
+        String role = claims.get("role", String.class);
+        // role 클레임이 없는 토큰(리프레시 토큰)은 인증에 사용할 수 없음
+        if (userIdx == null || role == null) {
+            return null;
+        }
+        if (!userAuthStatusCache.isActive(userIdx, claims.getIssuedAt())) {
+            return null;
+        }
+
+        CustomUserDetails userDetails = CustomUserDetails.builder()
+                .userIdx(userIdx)
+                .nickname(claims.get("nickname", String.class))
+                .email(claims.get("email", String.class))
+                .profileImage(claims.get("profileImage", String.class))
+                .role(role)
+                .authorities(Set.of("ROLE_ADMIN".equals(role) ? UserRole.ROLE_ADMIN : UserRole.ROLE_USER))
+                .build();
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 }
@@ -0,0 +1,139 @@
+package com.astro.mood.security.jwt;
+
+import com.astro.mood.data.entity.user.UserToken;
+import com.astro.mood.security.login.CustomUserDetails;
+import com.astro.mood.service.auth.CustomUserDetailsService;
+import com.astro.mood.service.exception.ErrorCode;
+import com.astro.mood.utils.BoundedTtlCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 액세스 토큰 재발급 단일 실행 (single-flight)
+ * - 같은 사용자·같은 리프레시 토큰으로 동시에 들어온 재발급은 한 요청만 DB 조회/저장을 수행하고
+ *   나머지는 그 결과(같은 새 액세스 토큰)를 기다려 받음
+ * - 직후 도착하는 요청(새 쿠키를 아직 받지 못한 병렬 요청)도 잠시 동안 같은 결과를 재사용
+ */
+@Component
+@Slf4j
+public class TokenRefreshCoordinator {
+
+    private final JWTUtil jwtUtil;
+    private final CustomUserDetailsService customUserDetailsService;
+    private final long waitTimeoutMs;
+
+    private final Map<RefreshKey, CompletableFuture<RefreshResult>> inFlight = new ConcurrentHashMap<>();
+    private final BoundedTtlCache<RefreshKey, RefreshResult> recentResults;
+
+    public TokenRefreshCoordinator(JWTUtil jwtUtil,
+            CustomUserDetailsService customUserDetailsService,
+            @Value("${jwt.refresh.wait-timeout-ms:5000}") long waitTimeoutMs,
+            @Value("${jwt.refresh.reuse-seconds:10}") long reuseSeconds) {
+        this.jwtUtil = jwtUtil;
+        this.customUserDetailsService = customUserDetailsService;
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.recentResults = new BoundedTtlCache<>(10_000, reuseSeconds * 1000);
+    }
+
+    /**
+     * 서명/만료 검증을 통과한 리프레시 토큰으로 새 액세스 토큰을 발급합니다.
+     */
+    public RefreshResult refresh(Integer userIdx, String refreshToken) {
+        RefreshKey key = new RefreshKey(userIdx, refreshToken);
+        RefreshResult recent = recentResults.get(key);
+        if (recent != null) {
+            return recent;
+        }
+
+        CompletableFuture<RefreshResult> mine = new CompletableFuture<>();
+        CompletableFuture<RefreshResult> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return await(running, userIdx);
+        }
+
+        try {
+            RefreshResult result = doRefresh(userIdx, refreshToken);
+            if (result.isSuccess()) {
+                recentResults.put(key, result);
+            }
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private RefreshResult await(CompletableFuture<RefreshResult> running, Integer userIdx) {
+        try {
+            return running.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return RefreshResult.failure(ErrorCode.INVALID_TOKEN);
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("동시 토큰 재발급 대기 실패: userIdx={}, error={}", userIdx, e.toString());
+            return RefreshResult.failure(ErrorCode.INVALID_TOKEN);
+        }
+    }
+
+    private RefreshResult doRefresh(Integer userIdx, String refreshToken) {
+        UserToken userToken = customUserDetailsService.findUserToken(userIdx);
+
+        // 쿠키에서 가져온 토큰과 db에서 가져온 토큰이 같은지 확인
+        if (userToken == null || !refreshToken.equals(userToken.getRefreshToken())) {
+            log.warn("리프레시 토큰 불일치 - DB와 쿠키의 토큰이 다름");
+            return RefreshResult.failure(ErrorCode.INVALID_TOKEN);
+        }
+
+        // DB의 expiresAt 체크 (이틀 후 자동 로그인 풀림 문제 해결)
+        if (userToken.getExpiresAt() == null || userToken.getExpiresAt().isBefore(LocalDateTime.now())) {
+            log.warn("refreshToken DB 만료시간 초과 - expiresAt: {}", userToken.getExpiresAt());
+            return RefreshResult.failure(ErrorCode.EXPIRED_TOKEN);
+        }
+
+        log.info("refreshToken 유효기간이 만료되지 않아 AccessToken 재발급");
+        CustomUserDetails userDetails = (CustomUserDetails) customUserDetailsService
+                .loadUserByUserIdx(userToken.getUser().getUserIdx());
+        Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, "",
+                userDetails.getAuthorities());
+
+        String newToken = jwtUtil.createJwt(authentication);
+        userToken.setAccessToken(newToken);
+        customUserDetailsService.saveRefreshToken(userToken);
+        return RefreshResult.success(newToken);
+    }
+
+    private record RefreshKey(Integer userIdx, String refreshToken) {
+    }
+
+    /**
+     * 재발급 결과 (성공 시 새 액세스 토큰, 실패 시 응답할 에러 코드)
+     */
+    public record RefreshResult(String accessToken, ErrorCode errorCode) {
+
+        static RefreshResult success(String accessToken) {
+            return new RefreshResult(accessToken, null);
+        }
+
+        static RefreshResult failure(ErrorCode errorCode) {
+            return new RefreshResult(null, errorCode);
+        }
+
+        public boolean isSuccess() {
+            return accessToken != null;
+        }
+    }
+}
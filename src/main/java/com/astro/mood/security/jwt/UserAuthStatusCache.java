@@ -0,0 +1,109 @@
+package com.astro.mood.security.jwt;
+
+import com.astro.mood.data.entity.user.User;
+import com.astro.mood.data.repository.auth.AuthRepository;
+import com.astro.mood.data.repository.auth.UserTokenRepository;
+import com.astro.mood.utils.BoundedTtlCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * 무상태 JWT 인증용 사용자 상태 확인
+ * - 탈퇴 여부와 토큰 폐기 시각은 TTL 캐시에서 확인하고, 캐시에 없을 때만 users 를 조회
+ * - 로그아웃 시 users.tokens_revoked_at 을 기록하고, 그 시각(초) 이하에 발급된 액세스 토큰은 거부
+ * - 로그아웃은 모든 기기에 적용: 액세스 토큰 거부 + 리프레시 토큰(user_token) 삭제
+ *   → 다른 기기도 재발급 없이 다시 로그인해야 함 (만료 후 리프레시로 조용히 재로그인되지 않음)
+ * - 탈퇴/복구/로그아웃 시 커밋 후 이 인스턴스의 캐시를 무효화 (다른 인스턴스는 캐시 TTL 이내에 반영)
+ */
+@Component
+@Slf4j
+public class UserAuthStatusCache {
+
+    private final AuthRepository authRepository;
+    private final UserTokenRepository userTokenRepository;
+    private final BoundedTtlCache<Integer, AuthStatus> statuses;
+    private final long ttlSeconds;
+
+    // 탈퇴 여부 + 토큰 폐기 시각(ms, 없으면 0)
+    private record AuthStatus(boolean active, long revokedBefore) {
+        private static final AuthStatus INACTIVE = new AuthStatus(false, 0);
+    }
+
+    public UserAuthStatusCache(AuthRepository authRepository, UserTokenRepository userTokenRepository,
+            @Value("${jwt.stateless.status-cache-size:10000}") int maxSize,
+            @Value("${jwt.stateless.status-cache-ttl-seconds:60}") long ttlSeconds) {
+        this.authRepository = authRepository;
+        this.userTokenRepository = userTokenRepository;
+        this.statuses = new BoundedTtlCache<>(maxSize, ttlSeconds * 1000);
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * 토큰 주인이 탈퇴하지 않았고, 토큰이 폐기 시각 이후에 발급되었는지 확인합니다.
+     */
+    public boolean isActive(Integer userIdx, Date issuedAt) {
+        AuthStatus status = statuses.get(userIdx);
+        if (status == null) {
+            status = load(userIdx);
+            statuses.put(userIdx, status);
+        }
+        if (!status.active()) {
+            return false;
+        }
+        if (status.revokedBefore() > 0) {
+            // iat는 초 단위이므로 폐기와 같은 초에 발급된 토큰도 거부 (폐기 직전에 발급된 토큰이 남지 않도록)
+            return issuedAt != null && issuedAt.getTime() / 1000 > status.revokedBefore() / 1000;
+        }
+        return true;
+    }
+
+    private AuthStatus load(Integer userIdx) {
+        Optional<User> user = authRepository.findUserByUserIdxAndIsDeleted(userIdx, false);
+        if (user.isEmpty()) {
+            return AuthStatus.INACTIVE;
+        }
+        LocalDateTime revokedAt = user.get().getTokensRevokedAt();
+        return new AuthStatus(true,
+                revokedAt != null ? revokedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0);
+    }
+
+    /**
+     * 지금까지 발급된 이 사용자의 액세스/리프레시 토큰을 모든 기기에서 폐기합니다. (로그아웃)
+     * 액세스 토큰은 이 인스턴스는 커밋 직후, 다른 인스턴스는 상태 캐시 TTL 이내에 거부되고
+     * 리프레시 토큰은 삭제되므로 어느 인스턴스에서도 재발급되지 않습니다.
+     */
+    @Transactional(transactionManager = "tmJpa")
+    public void revokeIssuedTokens(Integer userIdx) {
+        // DATETIME 컬럼 정밀도(초)와 맞춤
+        authRepository.updateTokensRevokedAt(userIdx, LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+        userTokenRepository.deleteByUserIdx(userIdx);
+        invalidateAfterCommit(userIdx);
+        log.info("액세스 토큰 폐기 (모든 기기): userIdx={}, 다른 인스턴스 반영까지 최대 {}초", userIdx, ttlSeconds);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 사용자 상태 캐시를 무효화합니다. (탈퇴/복구)
+     */
+    public void invalidateAfterCommit(Integer userIdx) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            statuses.remove(userIdx);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                statuses.remove(userIdx);
+            }
+        });
+    }
+}
@@ -0,0 +1,44 @@
+package com.astro.mood.security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * 한 번 파싱/서명 검증한 토큰 결과
+ * - VALID: 서명 검증 통과, 만료 전
+ * - EXPIRED: 서명은 유효하나 만료됨 (claims 포함)
+ * - INVALID: 형식 오류, 서명 불일치 등 (claims 없음)
+ */
+public record VerifiedJwt(Status status, Claims claims) {
+
+    public enum Status {
+        VALID, EXPIRED, INVALID
+    }
+
+    static final VerifiedJwt INVALID = new VerifiedJwt(Status.INVALID, null);
+
+    static VerifiedJwt of(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return INVALID;
+        }
+        return new VerifiedJwt(expiration.after(new Date()) ? Status.VALID : Status.EXPIRED, claims);
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+
+    public boolean isExpired() {
+        return status == Status.EXPIRED;
+    }
+
+    public Integer getLoginIdx() {
+        return claims != null ? claims.get("loginIdx", Integer.class) : null;
+    }
+
+    public String getRole() {
+        return claims != null ? claims.get("role", String.class) : null;
+    }
+}
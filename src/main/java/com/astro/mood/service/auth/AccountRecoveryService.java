@@ -2,6 +2,7 @@ package com.astro.mood.service.auth;
 
 import com.astro.mood.data.entity.user.User;
 import com.astro.mood.data.repository.auth.AuthRepository;
+import com.astro.mood.security.jwt.UserAuthStatusCache;
 import com.astro.mood.service.exception.CustomException;
 import com.astro.mood.service.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,7 @@ import java.util.Optional;
 public class AccountRecoveryService {
 
     private final AuthRepository authRepository;
+    private final UserAuthStatusCache userAuthStatusCache;
 
     /**
      * 계정 복구 가능 여부 확인
@@ -64,6 +66,7 @@ public class AccountRecoveryService {
         // 계정 복구
         user.recoverAccount();
         User recoveredUser = authRepository.save(user);
+        userAuthStatusCache.invalidateAfterCommit(recoveredUser.getUserIdx());
 
         log.info("계정 복구 완료 - userIdx: {}, oauthId: {}",
                 recoveredUser.getUserIdx(), oauthId);
@@ -2,6 +2,7 @@ package com.astro.mood.service.auth;
 
 import com.astro.mood.data.entity.user.User;
 import com.astro.mood.data.repository.auth.AuthRepository;
+import com.astro.mood.security.jwt.UserAuthStatusCache;
 import com.astro.mood.security.login.CustomUserDetails;
 import com.astro.mood.service.exception.CustomException;
 import com.astro.mood.service.exception.ErrorCode;
@@ -19,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
     private final AuthRepository authRepository;
     private final AwsS3Service awsS3Service;
+    private final UserAuthStatusCache userAuthStatusCache;
 
     // 유저 검증 메서드
     public void validateUser(CustomUserDetails userDetails, Integer loginIdx) {
@@ -79,6 +81,7 @@ public class AuthService {
 
         user.deleteUser();
         authRepository.save(user);
+        userAuthStatusCache.invalidateAfterCommit(loginIdx);
     }
 
 }
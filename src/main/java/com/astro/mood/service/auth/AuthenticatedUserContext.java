@@ -0,0 +1,45 @@
+package com.astro.mood.service.auth;
+
+import com.astro.mood.data.entity.user.User;
+import com.astro.mood.data.repository.auth.AuthRepository;
+import com.astro.mood.security.login.CustomUserDetails;
+import com.astro.mood.service.exception.CustomException;
+import com.astro.mood.service.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 요청의 인증 사용자 정보
+ * - JWTFilter가 요청마다 한 번 조회해 SecurityContext에 넣은 principal을 그대로 사용 (users 재조회 없음)
+ * - 연관관계 설정/조회 조건에는 SELECT 없이 만든 User 참조(프록시)를 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthenticatedUserContext {
+
+    private final AuthRepository authRepository;
+
+    /**
+     * 인증 principal (userIdx, 닉네임, 이메일, 권한 등)
+     */
+    public CustomUserDetails getUserDetails() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED);
+        }
+        return userDetails;
+    }
+
+    public Integer getUserIdx() {
+        return getUserDetails().getUserIdx();
+    }
+
+    /**
+     * 연관관계용 User 참조 (getUserIdx 외의 필드에 접근하면 그때 로딩됨)
+     */
+    public User getUserReference() {
+        return authRepository.getReferenceById(getUserIdx());
+    }
+}
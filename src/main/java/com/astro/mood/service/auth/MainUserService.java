@@ -1,7 +1,7 @@
 package com.astro.mood.service.auth;
 
 import com.astro.mood.data.entity.user.User;
-import com.astro.mood.service.diary.DiaryService;
+import com.astro.mood.service.diary.UserStatsService;
 import com.astro.mood.web.dto.auth.MainUserInfoResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,12 +12,12 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class MainUserService {
     private final AuthService authService;
-    private final DiaryService diaryService;
+    private final UserStatsService userStatsService;
 
     // 유저정보 가져오기
     public MainUserInfoResponse getUserInfo(Integer loginIdx) {
         User user = authService.findUserByIdOrThrow(loginIdx);
-        int diaryCount = diaryService.getCountDiaryByUserIdx(loginIdx); // 작성한 일기 수
+        int diaryCount = userStatsService.getStats(loginIdx).getTotalDiaries().intValue(); // 작성한 일기 수 (user_stats)
 
         return new MainUserInfoResponse(user, diaryCount);
     }
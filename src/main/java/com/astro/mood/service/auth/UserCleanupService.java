@@ -1,9 +1,10 @@
 package com.astro.mood.service.auth;
 
 import com.astro.mood.data.entity.user.User;
-import com.astro.mood.data.entity.diary.Diary;
 import com.astro.mood.data.repository.auth.AuthRepository;
+import com.astro.mood.data.repository.auth.UserStatsRepository;
 import com.astro.mood.data.repository.auth.UserTokenRepository;
+import com.astro.mood.data.repository.diary.DiaryEmotionCalendarRepository;
 import com.astro.mood.data.repository.diary.DiaryRepository;
 import com.astro.mood.data.repository.challenge.ChallengeParticipationRepository;
 import com.astro.mood.service.s3Image.AwsS3Service;
@@ -23,7 +24,9 @@ public class UserCleanupService {
 
     private final AuthRepository authRepository;
     private final UserTokenRepository userTokenRepository;
+    private final UserStatsRepository userStatsRepository;
     private final DiaryRepository diaryRepository;
+    private final DiaryEmotionCalendarRepository diaryEmotionCalendarRepository;
     private final ChallengeParticipationRepository challengeParticipationRepository;
     private final AwsS3Service awsS3Service;
 
@@ -79,15 +82,15 @@ public class UserCleanupService {
         log.info("사용자 관련 데이터 삭제 시작 - userIdx: {}", userIdx);
 
         try {
-            // 1. 일기 데이터 삭제 (이미지 URL 수집을 위해 먼저 조회)
+            // 1. 일기 데이터 삭제 (이미지 키 수집을 위해 먼저 한 번에 조회 - 휴지통 일기 포함)
             log.info("1단계: 일기 데이터 삭제 중... - userIdx: {}", userIdx);
-            List<Diary> userDiaries = diaryRepository.findByUserIdx(userIdx);
+            List<String> imageKeys = diaryRepository.findAllImageUrlsByUserIdx(userIdx);
             diaryRepository.deleteByUserIdx(userIdx);
-            log.info("일기 데이터 삭제 완료 - 삭제된 일기 수: {}", userDiaries.size());
+            log.info("일기 데이터 삭제 완료 - userIdx: {}", userIdx);
 
             // 2. 삭제된 일기의 이미지 URL들을 S3에서 삭제
             log.info("2단계: 일기 이미지 S3 삭제 중... - userIdx: {}", userIdx);
-            deleteUserDiaryImagesFromS3(userIdx, userDiaries);
+            deleteUserDiaryImagesFromS3(userIdx, imageKeys);
 
             // 3. 사용자 토큰 삭제
             log.info("3단계: 사용자 토큰 삭제 중... - userIdx: {}", userIdx);
@@ -96,6 +99,8 @@ public class UserCleanupService {
             // 4. 기타 관련 데이터 삭제
             log.info("4단계: 기타 관련 데이터 삭제 중... - userIdx: {}", userIdx);
             challengeParticipationRepository.deleteByUserIdx(userIdx);
+            diaryEmotionCalendarRepository.deleteByUserIdx(userIdx);
+            userStatsRepository.deleteByUserIdx(userIdx);
 
             log.info("사용자 관련 데이터 삭제 완료 - userIdx: {}", userIdx);
 
@@ -107,31 +112,27 @@ public class UserCleanupService {
     }
 
     /**
-     * 사용자의 모든 일기 이미지를 S3에서 삭제 (이미 조회된 일기 목록 사용)
+     * 사용자의 모든 일기 이미지를 S3에서 삭제 (이미 조회된 이미지 키 목록 사용)
      */
-    private void deleteUserDiaryImagesFromS3(Integer userIdx, List<Diary> userDiaries) {
+    private void deleteUserDiaryImagesFromS3(Integer userIdx, List<String> imageKeys) {
         try {
             int deletedImageCount = 0;
 
-            for (Diary diary : userDiaries) {
-                if (diary.getImageUrls() != null && !diary.getImageUrls().isEmpty()) {
-                    for (String imageUrl : diary.getImageUrls()) {
-                        if (imageUrl != null && !imageUrl.isEmpty()) {
-                            try {
-                                awsS3Service.deleteImageFromS3(imageUrl);
-                                deletedImageCount++;
-                                log.info("S3 이미지 삭제 성공: {}", imageUrl);
-                            } catch (Exception e) {
-                                log.error("S3 이미지 삭제 실패: {}, error: {}", imageUrl, e.getMessage());
-                                // S3 삭제 실패해도 계속 진행 (이미지가 이미 삭제되었을 수 있음)
-                            }
-                        }
+            for (String imageUrl : imageKeys) {
+                if (imageUrl != null && !imageUrl.isEmpty()) {
+                    try {
+                        awsS3Service.deleteImageFromS3(imageUrl);
+                        deletedImageCount++;
+                        log.info("S3 이미지 삭제 성공: {}", imageUrl);
+                    } catch (Exception e) {
+                        log.error("S3 이미지 삭제 실패: {}, error: {}", imageUrl, e.getMessage());
+                        // S3 삭제 실패해도 계속 진행 (이미지가 이미 삭제되었을 수 있음)
                     }
                 }
             }
 
-            log.info("사용자 일기 이미지 S3 삭제 완료 - userIdx: {}, 일기 수: {}, 삭제된 이미지 수: {}",
-                    userIdx, userDiaries.size(), deletedImageCount);
+            log.info("사용자 일기 이미지 S3 삭제 완료 - userIdx: {}, 이미지 수: {}, 삭제된 이미지 수: {}",
+                    userIdx, imageKeys.size(), deletedImageCount);
 
         } catch (Exception e) {
             log.error("사용자 일기 이미지 S3 삭제 실패 - userIdx: {}, error: {}", userIdx, e.getMessage(), e);
@@ -139,4 +140,4 @@ public class UserCleanupService {
         }
     }
 
-}
\ No newline at end of file
+}
@@ -3,10 +3,9 @@ package com.astro.mood.service.challenge;
 import com.astro.mood.data.entity.challenge.Challenge;
 import com.astro.mood.data.entity.challenge.ChallengeParticipation;
 import com.astro.mood.data.entity.user.User;
-import com.astro.mood.data.repository.auth.AuthRepository;
 import com.astro.mood.data.repository.challenge.ChallengeParticipationRepository;
 import com.astro.mood.data.repository.challenge.ChallengeRepository;
-import com.astro.mood.security.login.CustomUserDetails;
+import com.astro.mood.service.auth.AuthenticatedUserContext;
 import com.astro.mood.service.exception.CustomException;
 import com.astro.mood.service.exception.ErrorCode;
 import com.astro.mood.web.dto.challenge.TravelLogCreateRequest;
@@ -17,8 +16,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.temporal.ChronoUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,7 +30,7 @@ public class TravelLogService {
 
     private final ChallengeRepository challengeRepository;
     private final ChallengeParticipationRepository participationRepository;
-    private final AuthRepository authRepository;
+    private final AuthenticatedUserContext authenticatedUserContext;
     private final ObjectMapper objectMapper;
     private final TimezoneService timezoneService;
 
@@ -41,16 +38,7 @@ public class TravelLogService {
      * 현재 인증된 사용자 가져오기
      */
     private User getAuthenticatedUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED);
-        }
-
-        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-        Integer userIdx = userDetails.getUserIdx();
-
-        return authRepository.findById(userIdx)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        return authenticatedUserContext.getUserReference();
     }
 
     /**
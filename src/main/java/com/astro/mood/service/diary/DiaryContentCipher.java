@@ -0,0 +1,113 @@
+package com.astro.mood.service.diary;
+
+import com.astro.mood.data.entity.diary.Diary;
+import com.astro.mood.data.entity.diary.DiaryContentFormat;
+import com.astro.mood.utils.EncryptionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일기 내용 암복호화 (포맷별 분기)
+ * - 쓰기: 항상 압축 봉투 포맷(content_blob)으로 저장
+ * - 읽기: 봉투 포맷 / Base64 GCM 포맷(content+iv) / 암호화 이전 평문을 모두 지원
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class DiaryContentCipher {
+
+    private final EncryptionUtils encryptionUtils;
+
+    /**
+     * 엔티티의 평문 content를 봉투로 암호화하여 content_blob에 설정합니다.
+     * 빈 내용이면 이전 암호문 흔적을 지우고 평문(빈 값) 그대로 둡니다.
+     */
+    public void encrypt(Diary diary) {
+        String plainText = diary.getContent();
+        if (plainText == null || plainText.isEmpty()) {
+            diary.setContentBlob(null);
+            diary.setIv(null);
+            diary.setKeyVersion(null);
+            diary.setContentFormat(null);
+            return;
+        }
+
+        EncryptionUtils.GCMEnvelopeResult result = encryptionUtils.encryptEnvelope(plainText,
+                diary.getUser().getUserIdx());
+
+        diary.setContent(null);
+        diary.setIv(null);
+        diary.setContentBlob(result.getEnvelope());
+        diary.setKeyVersion(result.getKeyVersion());
+        diary.setContentFormat(DiaryContentFormat.COMPRESSED_ENVELOPE);
+
+        log.debug("다이어리 내용 봉투 암호화 완료: diaryIdx={}, originalLength={}, envelopeBytes={}",
+                diary.getDiaryIdx(), plainText.length(), result.getEnvelope().length);
+    }
+
+    /**
+     * 저장 포맷에 맞게 복호화한 내용을 반환합니다. (엔티티는 건드리지 않음)
+     */
+    public String decrypt(Diary diary) {
+        // 1. 압축 봉투 포맷
+        if (DiaryContentFormat.isEnvelope(diary.getContentFormat())) {
+            return encryptionUtils.decryptEnvelope(
+                    diary.getContentBlob(),
+                    diary.getKeyVersion(),
+                    diary.getUser().getUserIdx());
+        }
+
+        if (diary.getContent() == null || diary.getContent().isEmpty()) {
+            return diary.getContent();
+        }
+
+        // 2. Base64 GCM 포맷 (iv가 있는 경우)
+        if (diary.getIv() != null && !diary.getIv().isEmpty()) {
+            return encryptionUtils.decryptGCM(
+                    diary.getContent(),
+                    diary.getIv(),
+                    diary.getKeyVersion(),
+                    diary.getUser().getUserIdx(),
+                    // 포맷이 기록된 행은 구 AAD 시도 없이 단일 시도
+                    DiaryContentFormat.requiresLegacyFallback(diary.getContentFormat())
+                            ? diary.getDiaryIdx()
+                            : null);
+        }
+
+        // 3. 기존 테스트 일기는 그대로 반환 (복호화하지 않음)
+        log.info("기존 테스트 일기 (복호화하지 않음): diaryIdx={}", diary.getDiaryIdx());
+        return diary.getContent();
+    }
+
+    /**
+     * 여러 일기를 한 번에 복호화합니다. (목록 조회용, 입력 순서 유지)
+     */
+    public List<String> decryptAll(List<Diary> diaries) {
+        List<EncryptionUtils.BatchDecryptItem> items = new ArrayList<>(diaries.size());
+        for (Diary diary : diaries) {
+            items.add(toBatchItem(diary));
+        }
+        return encryptionUtils.decryptBatch(items);
+    }
+
+    private EncryptionUtils.BatchDecryptItem toBatchItem(Diary diary) {
+        Integer userIdx = diary.getUser().getUserIdx();
+        if (DiaryContentFormat.isEnvelope(diary.getContentFormat())) {
+            return EncryptionUtils.BatchDecryptItem.envelope(diary.getContentBlob(), diary.getKeyVersion(), userIdx);
+        }
+        if (diary.getContent() == null || diary.getContent().isEmpty()
+                || diary.getIv() == null || diary.getIv().isEmpty()) {
+            return EncryptionUtils.BatchDecryptItem.plain(diary.getContent());
+        }
+        return EncryptionUtils.BatchDecryptItem.gcm(
+                diary.getContent(),
+                diary.getIv(),
+                diary.getKeyVersion(),
+                userIdx,
+                DiaryContentFormat.requiresLegacyFallback(diary.getContentFormat()) ? diary.getDiaryIdx() : null);
+    }
+}
@@ -0,0 +1,125 @@
+package com.astro.mood.service.diary;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 구 AAD 일기 재암호화 백그라운드 작업
+ * - 스케줄 주기마다 한 청크씩 처리 (주기 = 스로틀링)
+ * - diary_idx 커서로 이어서 처리하며, 처리된 행은 content_format이 기록되어 재시작 시에도 다시 대상이 되지 않음
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class DiaryContentMigrationJob {
+
+    private final DiaryContentMigrationService migrationService;
+
+    @Value("${diary.content-migration.enabled:false}")
+    private boolean enabledOnStartup;
+
+    @Value("${diary.content-migration.chunk-size:100}")
+    private int chunkSize;
+
+    private volatile boolean running;
+    private volatile boolean finished;
+    private volatile int cursor = 0;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    private final AtomicLong scanned = new AtomicLong();
+    private final AtomicLong alreadyCurrent = new AtomicLong();
+    private final AtomicLong reencrypted = new AtomicLong();
+    private final AtomicLong skippedConcurrentUpdate = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        // 설정값에 따라 기동 시 자동 시작
+        if (enabledOnStartup) {
+            start();
+        }
+    }
+
+    /**
+     * 마이그레이션 시작 (이미 진행 중이면 무시, 완료 후 다시 시작하면 처음부터 재검사)
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        if (finished || startedAt == null) {
+            cursor = 0;
+            finished = false;
+            finishedAt = null;
+            startedAt = LocalDateTime.now();
+        }
+        running = true;
+        log.info("일기 암호문 마이그레이션 시작: cursor={}, chunkSize={}", cursor, chunkSize);
+    }
+
+    /**
+     * 마이그레이션 일시 중지 (커서 유지 - start 시 이어서 진행)
+     */
+    public synchronized void stop() {
+        running = false;
+        log.info("일기 암호문 마이그레이션 중지: cursor={}", cursor);
+    }
+
+    @Scheduled(fixedDelayString = "${diary.content-migration.interval-ms:1000}")
+    public void processNextChunk() {
+        if (!running) {
+            return;
+        }
+
+        try {
+            DiaryContentMigrationService.ChunkResult result = migrationService.migrateChunk(cursor, chunkSize);
+
+            if (result.getScanned() == 0) {
+                finished = true;
+                running = false;
+                finishedAt = LocalDateTime.now();
+                log.info("일기 암호문 마이그레이션 완료: scanned={}, reencrypted={}, failed={}",
+                        scanned.get(), reencrypted.get(), failed.get());
+                return;
+            }
+
+            cursor = result.getLastDiaryIdx();
+            scanned.addAndGet(result.getScanned());
+            alreadyCurrent.addAndGet(result.getAlreadyCurrent());
+            reencrypted.addAndGet(result.getReencrypted());
+            skippedConcurrentUpdate.addAndGet(result.getSkippedConcurrentUpdate());
+            failed.addAndGet(result.getFailed());
+        } catch (Exception e) {
+            log.error("일기 암호문 마이그레이션 청크 처리 실패: cursor={}", cursor, e);
+        }
+    }
+
+    /**
+     * 진행 상황 조회
+     */
+    public Map<String, Object> getProgress() {
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("running", running);
+        progress.put("finished", finished);
+        progress.put("cursor", cursor);
+        progress.put("startedAt", startedAt);
+        progress.put("finishedAt", finishedAt);
+        progress.put("scanned", scanned.get());
+        progress.put("alreadyCurrent", alreadyCurrent.get());
+        progress.put("reencrypted", reencrypted.get());
+        progress.put("skippedConcurrentUpdate", skippedConcurrentUpdate.get());
+        progress.put("failed", failed.get());
+        progress.put("remaining", migrationService.countRemaining());
+        return progress;
+    }
+}
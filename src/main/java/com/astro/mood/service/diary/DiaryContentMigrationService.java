@@ -0,0 +1,146 @@
+package com.astro.mood.service.diary;
+
+import com.astro.mood.data.entity.diary.Diary;
+import com.astro.mood.data.entity.diary.DiaryContentFormat;
+import com.astro.mood.data.repository.diary.DiaryRepository;
+import com.astro.mood.utils.EncryptionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 일기 암호문 포맷 마이그레이션 (청크 단위 처리)
+ * 포맷이 기록되지 않은 행을 검사하여
+ * - 현재 AAD(userId)로 복호화되면 포맷만 기록
+ * - 구 AAD(userId,diaryId)로만 복호화되면 압축 봉투 포맷/현재 키로 재암호화
+ * 이후 해당 행은 조회 시 단일 시도 복호화 경로를 탄다.
+ * 행마다 별도 트랜잭션으로 처리하여 한 행의 실패가 청크 전체를 롤백시키지 않는다.
+ */
+@Service
+@Slf4j
+public class DiaryContentMigrationService {
+
+    private final DiaryRepository diaryRepository;
+    private final EncryptionUtils encryptionUtils;
+    private final TransactionTemplate requiresNewTx;
+
+    public DiaryContentMigrationService(DiaryRepository diaryRepository,
+            EncryptionUtils encryptionUtils,
+            PlatformTransactionManager transactionManager) {
+        this.diaryRepository = diaryRepository;
+        this.encryptionUtils = encryptionUtils;
+        this.requiresNewTx = new TransactionTemplate(transactionManager);
+        this.requiresNewTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * afterDiaryIdx 이후의 대상 행을 최대 chunkSize개 처리합니다.
+     * 실패한 행은 failed로 집계하고 건너뛰므로 다음 청크는 항상 lastDiaryIdx 이후부터 진행됩니다.
+     */
+    @Transactional
+    public ChunkResult migrateChunk(Integer afterDiaryIdx, int chunkSize) {
+        List<Diary> candidates = diaryRepository.findContentFormatMigrationCandidates(afterDiaryIdx,
+                PageRequest.of(0, chunkSize));
+
+        ChunkResult result = new ChunkResult();
+        for (Diary diary : candidates) {
+            result.lastDiaryIdx = diary.getDiaryIdx();
+            result.scanned++;
+            try {
+                requiresNewTx.executeWithoutResult(status -> migrate(diary, result));
+            } catch (Exception e) {
+                result.failed++;
+                log.error("일기 암호문 마이그레이션 실패: diaryIdx={}, error={}", diary.getDiaryIdx(), e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    public long countRemaining() {
+        return diaryRepository.countContentFormatMigrationCandidates();
+    }
+
+    private void migrate(Diary diary, ChunkResult result) {
+        Integer userIdx = diary.getUser().getUserIdx();
+        byte[] ivBytes = Base64.getDecoder().decode(diary.getIv());
+        byte[] encryptedBytes = Base64.getDecoder().decode(diary.getContent());
+
+        // 1. 현재 방식으로 복호화되면 포맷만 기록
+        try {
+            encryptionUtils.decryptGCMBytes(encryptedBytes, ivBytes, diary.getKeyVersion(), userIdx, null);
+            if (diaryRepository.updateContentFormat(diary.getDiaryIdx(), diary.getIv(),
+                    DiaryContentFormat.GCM_USER_AAD) > 0) {
+                result.alreadyCurrent++;
+            } else {
+                result.skippedConcurrentUpdate++;
+            }
+            return;
+        } catch (RuntimeException e) {
+            // 구 방식일 가능성 - 아래에서 확인
+        }
+
+        // 2. 구 방식으로 복호화 후 압축 봉투 포맷으로 재암호화
+        byte[] plainBytes = encryptionUtils.decryptLegacyAadGCMBytes(encryptedBytes, ivBytes,
+                diary.getKeyVersion(), userIdx, diary.getDiaryIdx());
+        EncryptionUtils.GCMEnvelopeResult reencrypted = encryptionUtils.encryptEnvelope(
+                new String(plainBytes, StandardCharsets.UTF_8), userIdx);
+
+        int updated = diaryRepository.updateEnvelopeContent(
+                diary.getDiaryIdx(),
+                diary.getIv(),
+                reencrypted.getEnvelope(),
+                reencrypted.getKeyVersion(),
+                DiaryContentFormat.COMPRESSED_ENVELOPE);
+
+        if (updated > 0) {
+            result.reencrypted++;
+            log.info("구 AAD 일기 재암호화 완료: diaryIdx={}", diary.getDiaryIdx());
+        } else {
+            result.skippedConcurrentUpdate++;
+        }
+    }
+
+    /**
+     * 청크 처리 결과
+     */
+    public static class ChunkResult {
+        private Integer lastDiaryIdx;
+        private int scanned;
+        private int alreadyCurrent;
+        private int reencrypted;
+        private int skippedConcurrentUpdate;
+        private int failed;
+
+        public Integer getLastDiaryIdx() {
+            return lastDiaryIdx;
+        }
+
+        public int getScanned() {
+            return scanned;
+        }
+
+        public int getAlreadyCurrent() {
+            return alreadyCurrent;
+        }
+
+        public int getReencrypted() {
+            return reencrypted;
+        }
+
+        public int getSkippedConcurrentUpdate() {
+            return skippedConcurrentUpdate;
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+    }
+}
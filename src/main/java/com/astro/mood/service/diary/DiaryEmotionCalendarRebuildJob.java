@@ -0,0 +1,57 @@
+package com.astro.mood.service.diary;
+
+import com.astro.mood.data.repository.diary.DiaryEmotionCalendarRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 감정 달력 재구성 작업
+ * 커밋 후 갱신이 실패했거나 다른 경로(자동 삭제, 직접 수정 등)로 원본이 바뀌어 어긋난 달력을
+ * 원본(diary)에서 다시 계산해 보정한다. 내용이 같으면 쓰지 않는다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class DiaryEmotionCalendarRebuildJob {
+
+    private final DiaryEmotionCalendarRepository calendarRepository;
+    private final DiaryEmotionCalendarService calendarService;
+
+    @Value("${diary.emotion-calendar.rebuild-chunk-size:200}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${diary.emotion-calendar.rebuild-cron:0 30 3 * * *}")
+    public void rebuildAll() {
+        long start = System.currentTimeMillis();
+        int users = 0;
+        int calendars = 0;
+        int corrected = 0;
+
+        int cursor = 0;
+        while (true) {
+            List<Integer> userIdxList = calendarRepository.findUserIdxAfter(cursor, PageRequest.of(0, chunkSize));
+            if (userIdxList.isEmpty()) {
+                break;
+            }
+            for (Integer userIdx : userIdxList) {
+                users++;
+                for (Integer year : calendarRepository.findYearsByUserIdx(userIdx)) {
+                    calendars++;
+                    if (calendarService.rebuildYear(userIdx, year)) {
+                        corrected++;
+                    }
+                }
+            }
+            cursor = userIdxList.get(userIdxList.size() - 1);
+        }
+
+        log.info("감정 달력 재구성 완료: users={}, calendars={}, corrected={}, elapsedMs={}",
+                users, calendars, corrected, System.currentTimeMillis() - start);
+    }
+}
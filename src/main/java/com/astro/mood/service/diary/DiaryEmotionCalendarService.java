@@ -0,0 +1,179 @@
+package com.astro.mood.service.diary;
+
+import com.astro.mood.data.entity.diary.DiaryEmotionCalendar;
+import com.astro.mood.data.repository.diary.DiaryCalendarView;
+import com.astro.mood.data.repository.diary.DiaryEmotionCalendarRepository;
+import com.astro.mood.data.repository.diary.DiaryRepository;
+import com.astro.mood.web.dto.diary.DiaryCalendarResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * 연간 감정 달력 읽기 모델 관리
+ * - 조회: (userIdx, year) PK 한 번으로 수백 바이트를 읽어 응답 생성
+ * - 갱신: 일기 쓰기 트랜잭션 커밋 후 변경된 날짜만 원본에서 다시 계산 (별도 트랜잭션, 실패해도 일기 쓰기에는 영향 없음)
+ * - 어긋남은 재구성 잡(DiaryEmotionCalendarRebuildJob)이 주기적으로 보정
+ */
+@Service
+@Slf4j
+public class DiaryEmotionCalendarService {
+
+    private final DiaryEmotionCalendarRepository calendarRepository;
+    private final DiaryRepository diaryRepository;
+    private final TransactionTemplate requiresNewTx;
+
+    public DiaryEmotionCalendarService(DiaryEmotionCalendarRepository calendarRepository,
+            DiaryRepository diaryRepository,
+            PlatformTransactionManager transactionManager) {
+        this.calendarRepository = calendarRepository;
+        this.diaryRepository = diaryRepository;
+        this.requiresNewTx = new TransactionTemplate(transactionManager);
+        this.requiresNewTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 저장된 연간 감정 달력을 조회합니다. (아직 만들어지지 않았으면 empty)
+     */
+    public Optional<List<DiaryCalendarResponse>> findYear(Integer userIdx, int year) {
+        return calendarRepository.findByUserIdxAndYear(userIdx, year)
+                .map(calendar -> EmotionCalendarSlots.decode(calendar.getSlots()).toResponses(year));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 해당 날짜들의 슬롯을 갱신합니다.
+     * 트랜잭션 밖에서 호출되면 즉시 갱신합니다.
+     */
+    public void refreshDaysAfterCommit(Integer userIdx, LocalDate... dates) {
+        List<LocalDate> targets = Arrays.stream(dates).filter(Objects::nonNull).distinct().toList();
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refreshDays(userIdx, targets);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refreshDays(userIdx, targets);
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 연간 달력 전체를 만듭니다. (조회 시 달력이 없던 경우)
+     */
+    public void rebuildYearAfterCommit(Integer userIdx, int year) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rebuildYear(userIdx, year);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rebuildYear(userIdx, year);
+            }
+        });
+    }
+
+    /**
+     * 지정한 날짜들의 슬롯을 원본에서 다시 계산합니다. (연도별로 행 잠금 후 갱신)
+     * 달력이 아직 없는 연도는 연간 전체를 새로 만듭니다.
+     */
+    public void refreshDays(Integer userIdx, List<LocalDate> dates) {
+        Map<Integer, TreeSet<LocalDate>> datesByYear = dates.stream()
+                .collect(Collectors.groupingBy(LocalDate::getYear, TreeMap::new,
+                        Collectors.toCollection(TreeSet::new)));
+
+        datesByYear.forEach((year, yearDates) -> {
+            try {
+                requiresNewTx.executeWithoutResult(status -> {
+                    Optional<DiaryEmotionCalendar> existing = calendarRepository.findForUpdate(userIdx, year);
+                    if (existing.isEmpty()) {
+                        saveYear(userIdx, year, buildYear(userIdx, year), null);
+                        return;
+                    }
+
+                    DiaryEmotionCalendar calendar = existing.get();
+                    EmotionCalendarSlots slots = EmotionCalendarSlots.decode(calendar.getSlots());
+                    for (LocalDate date : yearDates) {
+                        List<DiaryCalendarView> latest = diaryRepository.findLatestPerDayByUserAndCreatedAtRange(
+                                userIdx, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+                        if (latest.isEmpty()) {
+                            slots.clear(date);
+                        } else {
+                            slots.set(date, latest.get(0).getDiaryIdx(), latest.get(0).getEmotionIdx());
+                        }
+                    }
+                    calendar.setSlots(slots.encode());
+                    calendarRepository.save(calendar);
+                });
+            } catch (Exception e) {
+                // 읽기 모델 갱신 실패는 재구성 잡이 보정
+                log.warn("감정 달력 갱신 실패: userIdx={}, year={}, dates={}, error={}",
+                        userIdx, year, yearDates, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 연간 달력을 원본에서 다시 만들어 저장합니다.
+     *
+     * @return 저장된 내용과 달라 갱신되었으면 true
+     */
+    public boolean rebuildYear(Integer userIdx, int year) {
+        try {
+            Boolean changed = requiresNewTx.execute(status -> {
+                EmotionCalendarSlots rebuilt = buildYear(userIdx, year);
+                DiaryEmotionCalendar existing = calendarRepository.findForUpdate(userIdx, year).orElse(null);
+                byte[] encoded = rebuilt.encode();
+                if (existing != null && Arrays.equals(existing.getSlots(), encoded)) {
+                    return false;
+                }
+                saveYear(userIdx, year, rebuilt, existing);
+                return true;
+            });
+            return Boolean.TRUE.equals(changed);
+        } catch (Exception e) {
+            log.warn("감정 달력 재구성 실패: userIdx={}, year={}, error={}", userIdx, year, e.getMessage());
+            return false;
+        }
+    }
+
+    private EmotionCalendarSlots buildYear(Integer userIdx, int year) {
+        LocalDateTime start = LocalDate.of(year, 1, 1).atStartOfDay();
+        List<DiaryCalendarView> latestPerDay = diaryRepository.findLatestPerDayByUserAndCreatedAtRange(
+                userIdx, start, start.plusYears(1));
+
+        EmotionCalendarSlots slots = EmotionCalendarSlots.empty();
+        for (DiaryCalendarView view : latestPerDay) {
+            slots.set(view.getDiaryDate(), view.getDiaryIdx(), view.getEmotionIdx());
+        }
+        return slots;
+    }
+
+    private void saveYear(Integer userIdx, int year, EmotionCalendarSlots slots, DiaryEmotionCalendar existing) {
+        DiaryEmotionCalendar calendar = existing != null
+                ? existing
+                : DiaryEmotionCalendar.builder().userIdx(userIdx).year(year).build();
+        calendar.setSlots(slots.encode());
+        calendarRepository.save(calendar);
+    }
+}
@@ -0,0 +1,41 @@
+package com.astro.mood.service.diary;
+
+import com.astro.mood.service.exception.CustomException;
+import com.astro.mood.service.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 (정렬 키 + diaryIdx 를 담은 불투명 문자열)
+ * - 정렬 키는 타임라인/챌린지 목록은 createdAt, 휴지통은 deletedAt
+ * - 커서 일기를 다시 조회하지 않으므로 그 일기가 복원/영구 삭제되어도 다음 페이지를 이어서 조회할 수 있음
+ */
+public record DiaryPageCursor(LocalDateTime sortKey, Integer diaryIdx) {
+
+    private static final char SEPARATOR = '_';
+
+    public String encode() {
+        String value = sortKey.toString() + SEPARATOR + diaryIdx;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws CustomException 형식이 맞지 않으면 INVALID_PARAMETER
+     */
+    public static DiaryPageCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new CustomException(ErrorCode.INVALID_PARAMETER);
+            }
+            return new DiaryPageCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    Integer.valueOf(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_PARAMETER);
+        }
+    }
+}
@@ -3,18 +3,18 @@ package com.astro.mood.service.diary;
 import com.astro.mood.data.entity.diary.Diary;
 import com.astro.mood.data.entity.user.User;
 import com.astro.mood.data.entity.challenge.ChallengeParticipation;
-import com.astro.mood.data.repository.auth.AuthRepository;
+import com.astro.mood.data.repository.diary.DiaryCalendarView;
 import com.astro.mood.data.repository.diary.DiaryRepository;
 import com.astro.mood.data.repository.challenge.ChallengeParticipationRepository;
 
+import com.astro.mood.service.auth.AuthenticatedUserContext;
 import com.astro.mood.service.exception.CustomException;
 import com.astro.mood.service.exception.ErrorCode;
-import com.astro.mood.security.login.CustomUserDetails;
 import com.astro.mood.service.s3Image.AwsS3Service;
 import com.astro.mood.service.location.TimezoneService;
 
 import com.astro.mood.service.challenge.ChallengeProgressService;
-import com.astro.mood.utils.EncryptionUtils;
+import com.astro.mood.web.dto.PaginatedResponse;
 import com.astro.mood.web.dto.challenge.ChallengeCompletionResult;
 import com.astro.mood.web.dto.diary.DiaryCreateRequest;
 import com.astro.mood.web.dto.diary.DiaryResponse;
@@ -23,8 +23,8 @@ import com.astro.mood.web.dto.diary.DiaryTrashResponse;
 import com.astro.mood.web.dto.diary.DiaryCalendarResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -33,12 +33,14 @@ import org.springframework.scheduling.annotation.Scheduled;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.Map;
-import java.util.LinkedHashMap;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.Optional;
@@ -49,78 +51,54 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class DiaryService {
 
+    // 키셋 페이지 크기
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final DiaryRepository diaryRepository;
-    private final AuthRepository authRepository;
+    private final AuthenticatedUserContext authenticatedUserContext;
     private final ChallengeParticipationRepository challengeParticipationRepository;
     private final AwsS3Service awsS3Service;
     private final ChallengeProgressService challengeProgressService;
-    private final EncryptionUtils encryptionUtils;
+    private final DiaryContentCipher diaryContentCipher;
+    private final DiaryEmotionCalendarService emotionCalendarService;
+    private final UserStatsService userStatsService;
     private final TimezoneService timezoneService;
 
     // 사용자 인증 -> 공통로직을 뺌.
     private User getAuthenticatedUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED);
-        }
-
-        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-        Integer userIdx = userDetails.getUserIdx();
-
-        return authRepository.findById(userIdx)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        return authenticatedUserContext.getUserReference();
     }
 
     /**
-     * 다이어리 내용을 GCM 방식으로 암호화하여 저장합니다.
+     * 다이어리 내용을 압축 후 GCM 봉투로 암호화하여 저장합니다.
      */
     private void encryptDiaryContent(Diary diary) {
-        if (diary.getContent() != null && !diary.getContent().isEmpty()) {
-            String originalContent = diary.getContent();
-
-            // GCM 방식으로 암호화 (AAD 포함)
-            EncryptionUtils.GCMEncryptionResult result = encryptionUtils.encryptGCM(
-                    diary.getContent(),
-                    diary.getUser().getUserIdx());
-
-            // 암호화된 데이터와 IV 저장 (ciphertext||tag)
-            diary.setContent(result.getEncryptedData());
-            diary.setIv(result.getIv());
-
-            log.info("다이어리 내용 GCM 암호화 완료: diaryIdx={}, originalLength={}, encryptedLength={}",
-                    diary.getDiaryIdx(), originalContent.length(), result.getEncryptedData().length());
-        }
+        diaryContentCipher.encrypt(diary);
     }
 
     /**
      * 다이어리 내용을 복호화하여 반환합니다.
-     * GCM 방식만 지원 (새로운 일기만)
+     * 압축 봉투 포맷과 기존 Base64 GCM 포맷을 모두 지원
      */
     private String decryptDiaryContent(Diary diary) {
-        if (diary.getContent() == null || diary.getContent().isEmpty()) {
-            return diary.getContent();
+        try {
+            return diaryContentCipher.decrypt(diary);
+        } catch (Exception e) {
+            log.error("GCM 복호화 실패: diaryIdx={}, error={}", diary.getDiaryIdx(), e.getMessage());
+            throw new RuntimeException("일기 복호화 실패", e);
         }
+    }
 
-        // GCM 방식 복호화 (iv가 있는 경우만)
-        if (diary.getIv() != null && !diary.getIv().isEmpty()) {
-            try {
-                String decryptedContent = encryptionUtils.decryptGCM(
-                        diary.getContent(),
-                        diary.getIv(),
-                        diary.getUser().getUserIdx(),
-                        diary.getDiaryIdx());
-                log.info("다이어리 내용 GCM 복호화 완료: diaryIdx={}, encryptedLength={}, decryptedLength={}",
-                        diary.getDiaryIdx(), diary.getContent().length(), decryptedContent.length());
-                return decryptedContent;
-            } catch (Exception e) {
-                log.error("GCM 복호화 실패: diaryIdx={}, error={}", diary.getDiaryIdx(), e.getMessage());
-                throw new RuntimeException("일기 복호화 실패", e);
-            }
-        }
-        // 기존 테스트 일기는 그대로 반환 (복호화하지 않음)
-        else {
-            log.info("기존 테스트 일기 (복호화하지 않음): diaryIdx={}", diary.getDiaryIdx());
-            return diary.getContent();
+    /**
+     * 여러 다이어리 내용을 한 번에 복호화합니다. (목록 조회용, 입력 순서 유지)
+     */
+    private List<String> decryptDiaryContents(List<Diary> diaries) {
+        try {
+            return diaryContentCipher.decryptAll(diaries);
+        } catch (Exception e) {
+            log.error("GCM 일괄 복호화 실패: count={}, error={}", diaries.size(), e.getMessage());
+            throw new RuntimeException("일기 복호화 실패", e);
         }
     }
 
@@ -221,8 +199,12 @@ public class DiaryService {
         // JPA 변경사항을 즉시 DB에 반영
         diaryRepository.flush();
 
-        log.info("DB 저장 완료: diaryIdx={}, contentLength={}",
-                savedDiary.getDiaryIdx(), savedDiary.getContent() != null ? savedDiary.getContent().length() : 0);
+        log.info("DB 저장 완료: diaryIdx={}, contentBytes={}",
+                savedDiary.getDiaryIdx(), savedDiary.getContentBlob() != null ? savedDiary.getContentBlob().length : 0);
+
+        // 사용자 통계 갱신 (같은 트랜잭션), 감정 달력 갱신 (커밋 후)
+        userStatsService.onDiaryCreated(user.getUserIdx(), savedDiary.getCreatedAt().toLocalDate());
+        emotionCalendarService.refreshDaysAfterCommit(user.getUserIdx(), savedDiary.getCreatedAt().toLocalDate());
 
         // 챌린지 진행도 업데이트 (챌린지와 연결된 일기인 경우)
         if (challengeParticipationIdx != null) {
@@ -272,65 +254,53 @@ public class DiaryService {
     public List<DiaryCalendarResponse> getDiaryCalendar(Integer year, Integer month) {
         User user = getAuthenticatedUser();
 
-        // 월별 일기 조회
-        List<Diary> diaries = diaryRepository.findByUserAndMonthWithImages(user, year, month);
+        // 월별 날짜별 최신 일기 조회 (프로젝션 - 엔티티 로딩 없음)
+        LocalDateTime start = LocalDate.of(year, month, 1).atStartOfDay();
+        List<DiaryCalendarView> latestPerDay = diaryRepository.findLatestPerDayByUserAndCreatedAtRange(
+                user.getUserIdx(), start, start.plusMonths(1));
 
-        log.info("일기 조회: userIdx={}, year={}, month={}, found={}개",
-                user.getUserIdx(), year, month, diaries.size());
+        log.info("일기 조회: userIdx={}, year={}, month={}, days={}개",
+                user.getUserIdx(), year, month, latestPerDay.size());
 
-        // 날짜별로 그룹화하고, 각 날짜에서 가장 최근 일기의 감정을 사용
-        Map<LocalDate, Diary> dateToLatestDiary = new LinkedHashMap<>();
-        for (Diary diary : diaries) {
-            LocalDate date = diary.getCreatedAt().toLocalDate();
-            Diary existingDiary = dateToLatestDiary.get(date);
-
-            // 기존 일기가 없거나, 현재 일기가 더 최근이면 교체
-            if (existingDiary == null || diary.getCreatedAt().isAfter(existingDiary.getCreatedAt())) {
-                dateToLatestDiary.put(date, diary);
-            }
-        }
-
-        return dateToLatestDiary.values().stream()
-                .map(diary -> {
-                    log.info("달력용 일기: diaryIdx={}, date={}, emotionIdx={}",
-                            diary.getDiaryIdx(), diary.getCreatedAt().toLocalDate(), diary.getEmotionIdx());
-
-                    return new DiaryCalendarResponse(
-                            diary.getDiaryIdx(),
-                            diary.getCreatedAt().toLocalDate(),
-                            diary.getEmotionIdx());
-                })
-                .collect(Collectors.toList());
+        return toCalendarResponses(latestPerDay);
     }
 
     // 감정비트맵용 1년치 일기 데이터 조회 (성능 최적화)
     @Transactional(readOnly = true)
     public List<DiaryCalendarResponse> getDiaryYear(Integer year) {
+        // 미래 연도나 범위 밖 값으로 달력 행이 만들어지지 않도록 검증 (작성 시각은 작성자 타임존 기준이라 가장 빠른 타임존의 연도까지 허용)
+        if (year == null || year < 1 || year > LocalDate.now(ZoneOffset.MAX).getYear()) {
+            throw new CustomException(ErrorCode.INVALID_PARAMETER);
+        }
         User user = getAuthenticatedUser();
 
-        // 1년치 일기 조회 (이미지 없이 감정 정보만)
-        List<Diary> diaries = diaryRepository.findByUserAndYearForEmotionBitmap(user, year);
-
-        log.info("감정비트맵용 1년치 일기 조회: userIdx={}, year={}, found={}개",
-                user.getUserIdx(), year, diaries.size());
+        // 감정 달력 읽기 모델 조회 (PK 1건)
+        Optional<List<DiaryCalendarResponse>> cached = emotionCalendarService.findYear(user.getUserIdx(), year);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
 
-        // 날짜별로 그룹화하고, 각 날짜에서 가장 최근 일기의 감정을 사용
-        Map<LocalDate, Diary> dateToLatestDiary = new LinkedHashMap<>();
-        for (Diary diary : diaries) {
-            LocalDate date = diary.getCreatedAt().toLocalDate();
-            Diary existingDiary = dateToLatestDiary.get(date);
+        // 달력이 아직 없으면 원본에서 계산하고, 커밋 후 달력 생성
+        LocalDateTime start = LocalDate.of(year, 1, 1).atStartOfDay();
+        List<DiaryCalendarView> latestPerDay = diaryRepository.findLatestPerDayByUserAndCreatedAtRange(
+                user.getUserIdx(), start, start.plusYears(1));
 
-            // 기존 일기가 없거나, 현재 일기가 더 최근이면 교체
-            if (existingDiary == null || diary.getCreatedAt().isAfter(existingDiary.getCreatedAt())) {
-                dateToLatestDiary.put(date, diary);
-            }
+        log.info("감정비트맵용 1년치 일기 조회: userIdx={}, year={}, days={}개",
+                user.getUserIdx(), year, latestPerDay.size());
+        // 일기가 없는 연도는 달력을 저장하지 않음 (이후 그 해에 일기를 쓰면 refreshDays 가 생성)
+        if (!latestPerDay.isEmpty()) {
+            emotionCalendarService.rebuildYearAfterCommit(user.getUserIdx(), year);
         }
 
-        return dateToLatestDiary.values().stream()
-                .map(diary -> new DiaryCalendarResponse(
-                        diary.getDiaryIdx(),
-                        diary.getCreatedAt().toLocalDate(),
-                        diary.getEmotionIdx()))
+        return toCalendarResponses(latestPerDay);
+    }
+
+    private List<DiaryCalendarResponse> toCalendarResponses(List<DiaryCalendarView> latestPerDay) {
+        return latestPerDay.stream()
+                .map(view -> new DiaryCalendarResponse(
+                        view.getDiaryIdx(),
+                        view.getDiaryDate(),
+                        view.getEmotionIdx()))
                 .collect(Collectors.toList());
     }
 
@@ -390,17 +360,149 @@ public class DiaryService {
         log.info("날짜별 일기 조회: userIdx={}, date={}, found={}개",
                 user.getUserIdx(), date, diaries.size());
 
-        return diaries.stream()
-                .map(diary -> {
-                    String decryptedContent = decryptDiaryContent(diary);
-                    DiaryResponse response = DiaryResponse.fromEntity(diary);
-                    // response에만 복호화된 내용 설정
-                    response.setContent(decryptedContent);
-                    // 프리사인드 URL 생성
-                    response.setImageUrls(generatePresignedUrlsForDiary(diary));
-                    return response;
-                })
-                .collect(Collectors.toList());
+        // 키 조회/복호화를 일괄 처리
+        List<String> decryptedContents = decryptDiaryContents(diaries);
+
+        List<DiaryResponse> responses = new ArrayList<>(diaries.size());
+        for (int i = 0; i < diaries.size(); i++) {
+            Diary diary = diaries.get(i);
+            DiaryResponse response = DiaryResponse.fromEntity(diary);
+            // response에만 복호화된 내용 설정
+            response.setContent(decryptedContents.get(i));
+            // 프리사인드 URL 생성
+            response.setImageUrls(generatePresignedUrlsForDiary(diary));
+            responses.add(response);
+        }
+        return responses;
+    }
+
+    // 타임라인 (키셋 페이지네이션, 최신순)
+    @Transactional(readOnly = true)
+    public PaginatedResponse<DiaryResponse> getTimeline(String cursor, Integer size) {
+        User user = getAuthenticatedUser();
+        int pageSize = resolvePageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Diary> diaries;
+        if (cursor == null) {
+            diaries = diaryRepository.findTimelinePage(user.getUserIdx(), limit);
+        } else {
+            DiaryPageCursor pageCursor = DiaryPageCursor.decode(cursor);
+            diaries = diaryRepository.findTimelinePageAfter(user.getUserIdx(), pageCursor.sortKey(),
+                    pageCursor.diaryIdx(), limit);
+        }
+        return toPage(diaries, pageSize, Diary::getCreatedAt, this::toDiaryResponses);
+    }
+
+    // 휴지통 (키셋 페이지네이션, 최근 삭제순)
+    @Transactional(readOnly = true)
+    public PaginatedResponse<DiaryTrashResponse> getTrashPage(String cursor, Integer size) {
+        User user = getAuthenticatedUser();
+        int pageSize = resolvePageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Diary> diaries;
+        if (cursor == null) {
+            diaries = diaryRepository.findTrashPage(user.getUserIdx(), limit);
+        } else {
+            DiaryPageCursor pageCursor = DiaryPageCursor.decode(cursor);
+            diaries = diaryRepository.findTrashPageAfter(user.getUserIdx(), pageCursor.sortKey(),
+                    pageCursor.diaryIdx(), limit);
+        }
+        return toPage(diaries, pageSize, Diary::getDeletedAt, this::toTrashResponses);
+    }
+
+    // 챌린지 참여별 일기 (키셋 페이지네이션, 최신순)
+    @Transactional(readOnly = true)
+    public PaginatedResponse<DiaryResponse> getChallengeDiaryPage(Integer participationIdx, String cursor,
+            Integer size) {
+        User user = getAuthenticatedUser();
+        ChallengeParticipation participation = challengeParticipationRepository.findById(participationIdx)
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_PARAMETER));
+        if (!user.getUserIdx().equals(participation.getUser().getUserIdx())) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
+        }
+
+        int pageSize = resolvePageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Diary> diaries;
+        if (cursor == null) {
+            diaries = diaryRepository.findChallengeDiaryPage(participationIdx, limit);
+        } else {
+            DiaryPageCursor pageCursor = DiaryPageCursor.decode(cursor);
+            diaries = diaryRepository.findChallengeDiaryPageAfter(participationIdx, pageCursor.sortKey(),
+                    pageCursor.diaryIdx(), limit);
+        }
+        return toPage(diaries, pageSize, Diary::getCreatedAt, this::toDiaryResponses);
+    }
+
+    private static int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    // pageSize + 1건을 조회해 다음 페이지 여부 판단, 커서는 페이지 마지막 일기의 (정렬 키, diaryIdx)
+    private static <T> PaginatedResponse<T> toPage(List<Diary> fetched, int pageSize,
+            Function<Diary, LocalDateTime> sortKey, Function<List<Diary>, List<T>> mapper) {
+        boolean hasNextPage = fetched.size() > pageSize;
+        List<Diary> page = hasNextPage ? fetched.subList(0, pageSize) : fetched;
+        String nextCursor = null;
+        if (hasNextPage) {
+            Diary last = page.get(page.size() - 1);
+            nextCursor = new DiaryPageCursor(sortKey.apply(last), last.getDiaryIdx()).encode();
+        }
+        return PaginatedResponse.of(mapper.apply(page), hasNextPage, nextCursor);
+    }
+
+    // 목록용 응답 변환 (일괄 복호화, 챌린지 정보는 참여 ID별 1회 조회)
+    private List<DiaryResponse> toDiaryResponses(List<Diary> diaries) {
+        List<String> decryptedContents = decryptDiaryContents(diaries);
+
+        Set<Integer> participationIdxSet = diaries.stream()
+                .map(Diary::getChallengeParticipationIdx)
+                .filter(java.util.Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Integer, Integer> challengeIdxByParticipation = new HashMap<>();
+        if (!participationIdxSet.isEmpty()) {
+            for (ChallengeParticipation participation : challengeParticipationRepository
+                    .findAllById(participationIdxSet)) {
+                if (participation.getChallenge() != null) {
+                    challengeIdxByParticipation.put(participation.getParticipationIdx(),
+                            participation.getChallenge().getChallengeIdx());
+                }
+            }
+        }
+
+        List<DiaryResponse> responses = new ArrayList<>(diaries.size());
+        for (int i = 0; i < diaries.size(); i++) {
+            Diary diary = diaries.get(i);
+            DiaryResponse response = DiaryResponse.fromEntity(diary);
+            // response에만 복호화된 내용 설정
+            response.setContent(decryptedContents.get(i));
+            // 프리사인드 URL 생성
+            response.setImageUrls(generatePresignedUrlsForDiary(diary));
+            if (diary.getChallengeParticipationIdx() != null) {
+                response.setChallengeIdx(challengeIdxByParticipation.get(diary.getChallengeParticipationIdx()));
+            }
+            responses.add(response);
+        }
+        return responses;
+    }
+
+    private List<DiaryTrashResponse> toTrashResponses(List<Diary> deletedDiaries) {
+        List<String> decryptedContents = decryptDiaryContents(deletedDiaries);
+
+        List<DiaryTrashResponse> responses = new ArrayList<>(deletedDiaries.size());
+        for (int i = 0; i < deletedDiaries.size(); i++) {
+            DiaryTrashResponse response = DiaryTrashResponse.fromEntity(deletedDiaries.get(i));
+            // response에만 복호화된 내용 설정
+            response.setContent(decryptedContents.get(i));
+            responses.add(response);
+        }
+        return responses;
     }
 
     // 일기 소프트 삭제 (휴지통으로)
@@ -420,6 +522,8 @@ public class DiaryService {
 
         diary.setDeletedAt(java.time.LocalDateTime.now());
         diaryRepository.save(diary);
+        userStatsService.onDiariesChanged(user.getUserIdx());
+        emotionCalendarService.refreshDaysAfterCommit(user.getUserIdx(), diary.getCreatedAt().toLocalDate());
 
         log.info("일기가 휴지통으로 이동되었습니다: diaryIdx={}", diaryIdx);
     }
@@ -430,15 +534,7 @@ public class DiaryService {
         User user = getAuthenticatedUser();
         List<Diary> deletedDiaries = diaryRepository.findDeletedDiariesByUserWithImages(user);
 
-        return deletedDiaries.stream()
-                .map(diary -> {
-                    String decryptedContent = decryptDiaryContent(diary);
-                    DiaryTrashResponse response = DiaryTrashResponse.fromEntity(diary);
-                    // response에만 복호화된 내용 설정
-                    response.setContent(decryptedContent);
-                    return response;
-                })
-                .collect(Collectors.toList());
+        return toTrashResponses(deletedDiaries);
     }
 
     // 일기 복원
@@ -463,6 +559,8 @@ public class DiaryService {
 
         diary.setDeletedAt(null);
         diaryRepository.save(diary);
+        userStatsService.onDiariesChanged(user.getUserIdx());
+        emotionCalendarService.refreshDaysAfterCommit(user.getUserIdx(), diary.getCreatedAt().toLocalDate());
 
         log.info("일기가 복원되었습니다: diaryIdx={}", diaryIdx);
     }
@@ -499,6 +597,7 @@ public class DiaryService {
 
         // 일기 완전 삭제
         diaryRepository.delete(diary);
+        emotionCalendarService.refreshDaysAfterCommit(user.getUserIdx(), diary.getCreatedAt().toLocalDate());
 
         log.info("일기가 영구 삭제되었습니다: diaryIdx={}", diaryIdx);
     }
@@ -678,6 +777,9 @@ public class DiaryService {
                     updateRequest.getLatitude(), updateRequest.getLongitude(), calculatedTimezone);
         }
 
+        // 수정 전 날짜 (타임존 변경으로 날짜가 바뀌면 이전 날짜의 감정 달력도 갱신)
+        LocalDate previousDate = diary.getCreatedAt().toLocalDate();
+
         // 일기 내용 업데이트
         diary.setContent(updateRequest.getContent());
         diary.setEmotionIdx(updateRequest.getEmotionIdx());
@@ -729,6 +831,11 @@ public class DiaryService {
 
         Diary savedDiary = diaryRepository.save(diary);
         log.info("일기가 수정되었습니다: diaryIdx={}", diaryId);
+        if (!previousDate.equals(savedDiary.getCreatedAt().toLocalDate())) {
+            userStatsService.onDiariesChanged(user.getUserIdx());
+        }
+        emotionCalendarService.refreshDaysAfterCommit(user.getUserIdx(), previousDate,
+                savedDiary.getCreatedAt().toLocalDate());
 
         // 챌린지 진행도 업데이트
         try {
@@ -822,29 +929,23 @@ public class DiaryService {
      * 사용자의 연속 일기 작성 일수를 계산
      */
     public Integer getConsecutiveDays(Integer loginIdx) {
-        log.info("사용자 {} 연속 기록 일수 계산 시작", loginIdx);
+        return getDiaryStreak(loginIdx).getCurrent();
+    }
 
+    /**
+     * 사용자의 현재/최장 연속 기록 일수를 계산 (날짜 목록 쿼리 1회, 기간 제한 없음)
+     */
+    public DiaryStreak getDiaryStreak(Integer loginIdx) {
         try {
-            // 간단한 방법: 오늘부터 30일 전까지 확인
-            LocalDate today = LocalDate.now();
-            int consecutiveDays = 0;
+            List<LocalDate> dates = diaryRepository.findDistinctDiaryDatesDesc(loginIdx);
+            DiaryStreak streak = DiaryStreak.fromDistinctDatesDesc(dates, LocalDate.now());
 
-            for (int i = 0; i < 30; i++) {
-                LocalDate checkDate = today.minusDays(i);
-                Long count = diaryRepository.countByUserLoginIdxAndDate(loginIdx, checkDate);
-
-                if (count > 0) {
-                    consecutiveDays++;
-                } else {
-                    break;
-                }
-            }
-
-            log.info("사용자 {} 연속 기록 일수 계산 결과: {}일", loginIdx, consecutiveDays);
-            return consecutiveDays;
+            log.info("사용자 {} 연속 기록 일수 계산 결과: 현재 {}일, 최장 {}일",
+                    loginIdx, streak.getCurrent(), streak.getLongest());
+            return streak;
         } catch (Exception e) {
             log.error("연속 일수 계산 중 에러 발생: {}", e.getMessage(), e);
-            return 0;
+            return new DiaryStreak(0, 0);
         }
     }
 
@@ -939,14 +1040,8 @@ public class DiaryService {
     @Transactional(readOnly = true)
     public List<String> getAllImageUrls() {
         User user = getAuthenticatedUser();
-        List<Diary> diaries = diaryRepository.findByUserIdx(user.getUserIdx());
-
-        List<String> allImageUrls = new ArrayList<>();
-        for (Diary diary : diaries) {
-            if (diary.getImageUrls() != null) {
-                allImageUrls.addAll(diary.getImageUrls());
-            }
-        }
+        // 일기별 컬렉션 로딩 없이 이미지 키를 한 번에 조회
+        List<String> allImageUrls = diaryRepository.findActiveImageUrlsByUserIdx(user.getUserIdx());
 
         log.info("사용자 {}의 총 이미지 URL {}개 추출", user.getUserIdx(), allImageUrls.size());
         return allImageUrls;
@@ -0,0 +1,57 @@
+package com.astro.mood.service.diary;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 연속 기록 일수 계산 결과
+ * - current: 오늘부터 거슬러 올라가며 끊기지 않고 일기를 쓴 일수 (오늘 기록이 없으면 0)
+ * - longest: 전체 기간 중 가장 긴 연속 기록 일수
+ */
+public class DiaryStreak {
+
+    private final int current;
+    private final int longest;
+
+    public DiaryStreak(int current, int longest) {
+        this.current = current;
+        this.longest = longest;
+    }
+
+    /**
+     * 일기를 쓴 날짜 목록(중복 없음, 최신순)으로 한 번 순회하며 계산합니다.
+     */
+    public static DiaryStreak fromDistinctDatesDesc(List<LocalDate> datesDesc, LocalDate today) {
+        int current = 0;
+        int longest = 0;
+        int run = 0;
+        boolean currentRun = !datesDesc.isEmpty() && datesDesc.get(0).equals(today);
+        LocalDate previous = null;
+
+        for (LocalDate date : datesDesc) {
+            if (previous != null && !date.equals(previous.minusDays(1))) {
+                // 연속이 끊김
+                if (currentRun) {
+                    current = run;
+                    currentRun = false;
+                }
+                run = 0;
+            }
+            run++;
+            longest = Math.max(longest, run);
+            previous = date;
+        }
+        if (currentRun) {
+            current = run;
+        }
+        return new DiaryStreak(current, longest);
+    }
+
+    public int getCurrent() {
+        return current;
+    }
+
+    public int getLongest() {
+        return longest;
+    }
+}
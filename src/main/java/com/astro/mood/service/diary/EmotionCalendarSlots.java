@@ -0,0 +1,106 @@
+package com.astro.mood.service.diary;
+
+import com.astro.mood.web.dto.diary.DiaryCalendarResponse;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 연간 감정 달력 슬롯 (366일) 인코딩
+ *
+ * <pre>
+ * [version 1B][presence bitmap 46B][일기가 있는 날짜마다 오름차순: emotionIdx 1B + diaryIdx 4B]
+ * </pre>
+ *
+ * 일기가 있는 날만 5바이트를 쓰므로 보통 수백 바이트, 최대 1,877바이트.
+ */
+final class EmotionCalendarSlots {
+
+    static final int DAYS = 366;
+    private static final byte VERSION_1 = 1;
+    private static final int BITMAP_LENGTH = (DAYS + 7) / 8;
+    private static final int NO_EMOTION = 0xFF;
+
+    private final int[] diaryIdx = new int[DAYS]; // 0이면 빈 날짜
+    private final int[] emotionIdx = new int[DAYS];
+
+    private EmotionCalendarSlots() {
+    }
+
+    static EmotionCalendarSlots empty() {
+        return new EmotionCalendarSlots();
+    }
+
+    static EmotionCalendarSlots decode(byte[] encoded) {
+        EmotionCalendarSlots slots = new EmotionCalendarSlots();
+        ByteBuffer buffer = ByteBuffer.wrap(encoded);
+        byte version = buffer.get();
+        if (version != VERSION_1) {
+            throw new IllegalArgumentException("지원하지 않는 감정 달력 버전: " + version);
+        }
+
+        byte[] bitmap = new byte[BITMAP_LENGTH];
+        buffer.get(bitmap);
+        for (int day = 0; day < DAYS; day++) {
+            if ((bitmap[day >>> 3] & (1 << (day & 7))) != 0) {
+                slots.emotionIdx[day] = buffer.get() & 0xFF;
+                slots.diaryIdx[day] = buffer.getInt();
+            }
+        }
+        return slots;
+    }
+
+    byte[] encode() {
+        int present = 0;
+        byte[] bitmap = new byte[BITMAP_LENGTH];
+        for (int day = 0; day < DAYS; day++) {
+            if (diaryIdx[day] != 0) {
+                bitmap[day >>> 3] |= (byte) (1 << (day & 7));
+                present++;
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(1 + BITMAP_LENGTH + present * 5)
+                .put(VERSION_1)
+                .put(bitmap);
+        for (int day = 0; day < DAYS; day++) {
+            if (diaryIdx[day] != 0) {
+                buffer.put((byte) emotionIdx[day]).putInt(diaryIdx[day]);
+            }
+        }
+        return buffer.array();
+    }
+
+    void set(LocalDate date, Integer diaryIdx, Integer emotionIdx) {
+        if (emotionIdx != null && (emotionIdx < 0 || emotionIdx >= NO_EMOTION)) {
+            throw new IllegalArgumentException("감정 달력에 저장할 수 없는 emotionIdx: " + emotionIdx);
+        }
+        int day = date.getDayOfYear() - 1;
+        this.diaryIdx[day] = diaryIdx;
+        this.emotionIdx[day] = emotionIdx != null ? emotionIdx : NO_EMOTION;
+    }
+
+    void clear(LocalDate date) {
+        int day = date.getDayOfYear() - 1;
+        diaryIdx[day] = 0;
+        emotionIdx[day] = 0;
+    }
+
+    /**
+     * 달력 응답으로 변환 (최신 날짜순 - 프로젝션 쿼리 결과와 동일한 순서)
+     */
+    List<DiaryCalendarResponse> toResponses(int year) {
+        List<DiaryCalendarResponse> responses = new ArrayList<>();
+        for (int day = DAYS - 1; day >= 0; day--) {
+            if (diaryIdx[day] != 0) {
+                responses.add(new DiaryCalendarResponse(
+                        diaryIdx[day],
+                        LocalDate.ofYearDay(year, day + 1),
+                        emotionIdx[day] == NO_EMOTION ? null : emotionIdx[day]));
+            }
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,58 @@
+package com.astro.mood.service.diary;
+
+import com.astro.mood.data.repository.auth.UserStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 사용자 통계 정합성 검사 작업
+ * user_stats의 모든 행을 원본(diary)과 비교하여 어긋난 행을 보정한다. (사용자별 개별 트랜잭션)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class UserStatsReconciliationJob {
+
+    private final UserStatsRepository userStatsRepository;
+    private final UserStatsService userStatsService;
+
+    @Value("${diary.user-stats.reconcile-chunk-size:200}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${diary.user-stats.reconcile-cron:0 0 4 * * *}")
+    public void reconcileAll() {
+        long start = System.currentTimeMillis();
+        int checked = 0;
+        int corrected = 0;
+        int failed = 0;
+
+        int cursor = 0;
+        while (true) {
+            List<Integer> userIdxList = userStatsRepository.findUserIdxAfter(cursor, PageRequest.of(0, chunkSize));
+            if (userIdxList.isEmpty()) {
+                break;
+            }
+            for (Integer userIdx : userIdxList) {
+                checked++;
+                try {
+                    if (userStatsService.reconcile(userIdx)) {
+                        corrected++;
+                    }
+                } catch (Exception e) {
+                    failed++;
+                    log.error("사용자 통계 정합성 검사 실패: userIdx={}, error={}", userIdx, e.getMessage());
+                }
+            }
+            cursor = userIdxList.get(userIdxList.size() - 1);
+        }
+
+        log.info("사용자 통계 정합성 검사 완료: checked={}, corrected={}, failed={}, elapsedMs={}",
+                checked, corrected, failed, System.currentTimeMillis() - start);
+    }
+}
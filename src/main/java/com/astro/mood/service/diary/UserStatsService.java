@@ -0,0 +1,139 @@
+package com.astro.mood.service.diary;
+
+import com.astro.mood.data.entity.user.UserStats;
+import com.astro.mood.data.repository.auth.UserStatsRepository;
+import com.astro.mood.data.repository.diary.DiaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 사용자 일기 통계(user_stats) 관리
+ * - 일기 쓰기 경로의 트랜잭션에 참여하여 함께 갱신 (행 잠금으로 직렬화)
+ * - 새 일기가 마지막 기록일 이후인 일반적인 경우는 증분 갱신, 그 외(삭제/복원/날짜 변경/과거 날짜)는 원본에서 재계산
+ * - 조회는 행 1건
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional
+public class UserStatsService {
+
+    private final UserStatsRepository userStatsRepository;
+    private final DiaryRepository diaryRepository;
+
+    /**
+     * 통계를 조회합니다. 집계 행이 없거나 아직 집계되지 않았으면 원본에서 계산해 저장합니다.
+     */
+    public UserStats getStats(Integer userIdx) {
+        UserStats stats = userStatsRepository.findById(userIdx).orElse(null);
+        if (stats != null && stats.getUpdatedAt() != null) {
+            return stats;
+        }
+        return recomputeLocked(userIdx);
+    }
+
+    /**
+     * 일기 작성 반영 (diary가 flush된 뒤 호출)
+     */
+    public void onDiaryCreated(Integer userIdx, LocalDate date) {
+        UserStats stats = lock(userIdx);
+        if (stats.getUpdatedAt() == null) {
+            recompute(stats);
+            return;
+        }
+
+        LocalDate last = stats.getLastRecordDate();
+        if (last != null && date.isBefore(last)) {
+            // 과거 날짜 기록은 연속 구간이 합쳐질 수 있어 재계산
+            recompute(stats);
+            return;
+        }
+
+        stats.setTotalDiaries(stats.getTotalDiaries() + 1);
+        if (stats.getFirstRecordDate() == null || date.isBefore(stats.getFirstRecordDate())) {
+            stats.setFirstRecordDate(date);
+        }
+        if (last == null || date.isAfter(last.plusDays(1))) {
+            stats.setCurrentStreak(1);
+        } else if (date.equals(last.plusDays(1))) {
+            stats.setCurrentStreak(stats.getCurrentStreak() + 1);
+        }
+        stats.setLastRecordDate(date);
+        stats.setLongestStreak(Math.max(stats.getLongestStreak(), stats.getCurrentStreak()));
+        stats.setUpdatedAt(LocalDateTime.now());
+    }
+
+    /**
+     * 일기 삭제/복원/날짜 변경 반영 (원본에서 재계산)
+     */
+    public void onDiariesChanged(Integer userIdx) {
+        recomputeLocked(userIdx);
+    }
+
+    /**
+     * 원본과 비교하여 어긋났으면 보정합니다. (정합성 검사 잡용)
+     *
+     * @return 보정했으면 true
+     */
+    public boolean reconcile(Integer userIdx) {
+        UserStats stats = lock(userIdx);
+        UserStats before = UserStats.builder()
+                .totalDiaries(stats.getTotalDiaries())
+                .firstRecordDate(stats.getFirstRecordDate())
+                .lastRecordDate(stats.getLastRecordDate())
+                .currentStreak(stats.getCurrentStreak())
+                .longestStreak(stats.getLongestStreak())
+                .build();
+        recompute(stats);
+
+        boolean drifted = !Objects.equals(before.getTotalDiaries(), stats.getTotalDiaries())
+                || !Objects.equals(before.getFirstRecordDate(), stats.getFirstRecordDate())
+                || !Objects.equals(before.getLastRecordDate(), stats.getLastRecordDate())
+                || !Objects.equals(before.getCurrentStreak(), stats.getCurrentStreak())
+                || !Objects.equals(before.getLongestStreak(), stats.getLongestStreak());
+        if (drifted) {
+            log.warn("사용자 통계 불일치 보정: userIdx={}, before={}, after={}", userIdx, before, stats);
+        }
+        return drifted;
+    }
+
+    private UserStats recomputeLocked(Integer userIdx) {
+        UserStats stats = lock(userIdx);
+        recompute(stats);
+        return stats;
+    }
+
+    private UserStats lock(Integer userIdx) {
+        userStatsRepository.insertIfAbsent(userIdx);
+        return userStatsRepository.findForUpdate(userIdx)
+                .orElseThrow(() -> new IllegalStateException("user_stats 행 생성 실패: userIdx=" + userIdx));
+    }
+
+    private void recompute(UserStats stats) {
+        Integer userIdx = stats.getUserIdx();
+        List<LocalDate> dates = diaryRepository.findDistinctDiaryDatesDesc(userIdx);
+
+        stats.setTotalDiaries((long) diaryRepository.countByUserUserIdx(userIdx));
+        if (dates.isEmpty()) {
+            stats.setFirstRecordDate(null);
+            stats.setLastRecordDate(null);
+            stats.setCurrentStreak(0);
+            stats.setLongestStreak(0);
+        } else {
+            // 마지막 기록일을 기준일로 두면 current는 마지막 기록일에서 끝나는 연속 일수
+            DiaryStreak streak = DiaryStreak.fromDistinctDatesDesc(dates, dates.get(0));
+            stats.setFirstRecordDate(dates.get(dates.size() - 1));
+            stats.setLastRecordDate(dates.get(0));
+            stats.setCurrentStreak(streak.getCurrent());
+            stats.setLongestStreak(streak.getLongest());
+        }
+        stats.setUpdatedAt(LocalDateTime.now());
+    }
+}
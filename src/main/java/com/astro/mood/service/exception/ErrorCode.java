@@ -75,7 +75,10 @@ public enum ErrorCode {
     KAKAO_PARSING_ERROR(50008, HttpStatus.INTERNAL_SERVER_ERROR, "카카오 로그인 중 에러가 발생했습니다."),
     FILE_UPLOAD_ERROR(50009, HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다."),
     CONTENT_PROCESSING_ERROR(50010, HttpStatus.INTERNAL_SERVER_ERROR, "컨텐츠 처리 중 오류가 발생했습니다."),
-    INVALID_DATE_FORMAT(50011, HttpStatus.BAD_REQUEST, "잘못된 날짜 형식입니다.");
+    INVALID_DATE_FORMAT(50011, HttpStatus.BAD_REQUEST, "잘못된 날짜 형식입니다."),
+
+    // 503 Service Unavailable - 부하 차단
+    SERVER_BUSY(50300, HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 잠시 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
 
     private final Integer code;
     private final HttpStatus httpStatus;
@@ -0,0 +1,191 @@
+package com.astro.mood.service.ratelimit;
+
+import com.astro.mood.config.DataSourcePoolMetrics;
+import com.astro.mood.config.RateLimitConfig.RateLimitType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간 기반 동시 처리 한도 (컨트롤러 호출 앞단, LoadSheddingInterceptor)
+ * - 주기마다 평균 응답 지연(short)과 장기 기준 지연(long)을 비교해 한도 조정 (gradient)
+ *   short 가 long × tolerance 이하면 한도를 sqrt(한도)만큼 늘리고, 그보다 느리면 비율만큼 줄임
+ * - DB 풀에서 커넥션을 기다리는 스레드가 있으면 지연과 관계없이 한도를 줄임 (포화가 지연으로 나타나기 전에 대응)
+ * - 우선순위별로 한도의 다른 비율까지만 받음: 일반 API/조회가 먼저 차단되고, 인증·일기 작성은 한도를 넘어서도 여유분까지 받음
+ */
+@Component
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    /**
+     * 부하 차단 우선순위
+     */
+    public enum Priority {
+        CRITICAL, // 인증, 일기 작성
+        NORMAL,
+        LOW // 일반 API, 대량 조회 (가장 먼저 차단)
+    }
+
+    private static final int MIN_SAMPLES = 10; // 이보다 적게 처리된 주기는 지연 판단에서 제외
+    private static final double SMOOTHING = 0.2; // 새 한도 반영 비율
+    private static final double LONG_RTT_ALPHA = 0.05; // 기준 지연 지수 이동 평균 비율
+    private static final double MIN_GRADIENT = 0.5; // 한 주기에 줄어드는 최대 폭
+
+    private final DataSourcePoolMetrics dataSourcePoolMetrics;
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double lowPriorityShare;
+    private final double criticalHeadroom;
+    private final double poolSaturationBackoff;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAccumulator peakInFlight = new LongAccumulator(Math::max, 0);
+    private final LongAdder latencyNanos = new LongAdder();
+    private final LongAdder samples = new LongAdder();
+    private final Map<Priority, LongAdder> shed = new EnumMap<>(Priority.class);
+
+    private volatile double limit;
+    private volatile double shortRttMillis;
+    private volatile double longRttNanos; // 스케줄러 스레드에서만 갱신
+
+    public AdaptiveConcurrencyLimiter(DataSourcePoolMetrics dataSourcePoolMetrics,
+            @Value("${load-shedding.enabled:true}") boolean enabled,
+            @Value("${load-shedding.initial-limit:50}") int initialLimit,
+            @Value("${load-shedding.min-limit:10}") int minLimit,
+            @Value("${load-shedding.max-limit:200}") int maxLimit,
+            @Value("${load-shedding.tolerance:2.0}") double tolerance,
+            @Value("${load-shedding.low-priority-share:0.7}") double lowPriorityShare,
+            @Value("${load-shedding.critical-headroom:1.5}") double criticalHeadroom,
+            @Value("${load-shedding.pool-saturation-backoff:0.9}") double poolSaturationBackoff) {
+        this.dataSourcePoolMetrics = dataSourcePoolMetrics;
+        this.enabled = enabled;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.lowPriorityShare = lowPriorityShare;
+        this.criticalHeadroom = criticalHeadroom;
+        this.poolSaturationBackoff = poolSaturationBackoff;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        for (Priority priority : Priority.values()) {
+            shed.put(priority, new LongAdder());
+        }
+    }
+
+    public static Priority priorityOf(RateLimitType type) {
+        if (type == null) {
+            return Priority.NORMAL;
+        }
+        return switch (type) {
+            case AUTH_LOGIN, AUTH_REGISTER, AUTH_TOKEN_REFRESH, DIARY_CREATE -> Priority.CRITICAL;
+            case GENERAL_API, DIARY_READ -> Priority.LOW;
+            default -> Priority.NORMAL;
+        };
+    }
+
+    /**
+     * 처리 시작. true 를 받았으면 처리 후 반드시 release() 를 호출해야 합니다.
+     *
+     * @param type RateLimitFilter 에서 분류한 타입 (없으면 NORMAL)
+     */
+    public boolean tryAcquire(RateLimitType type) {
+        Priority priority = priorityOf(type);
+        double allowed = enabled ? limit * shareOf(priority) : Double.MAX_VALUE;
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                shed.get(priority).increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                peakInFlight.accumulate(current + 1);
+                return true;
+            }
+        }
+    }
+
+    public void release(long elapsedNanos) {
+        inFlight.decrementAndGet();
+        latencyNanos.add(elapsedNanos);
+        samples.increment();
+    }
+
+    private double shareOf(Priority priority) {
+        return switch (priority) {
+            case CRITICAL -> criticalHeadroom;
+            case NORMAL -> 1.0;
+            case LOW -> lowPriorityShare;
+        };
+    }
+
+    /**
+     * 한 주기 동안의 지연/포화 상태로 한도를 조정합니다.
+     */
+    @Scheduled(fixedDelayString = "${load-shedding.window-ms:1000}")
+    public void updateLimit() {
+        long count = samples.sumThenReset();
+        long totalNanos = latencyNanos.sumThenReset();
+        long peak = peakInFlight.getThenReset();
+        if (!enabled) {
+            return;
+        }
+
+        double current = limit;
+        double next = current;
+        int pendingThreads = dataSourcePoolMetrics.pendingThreads();
+
+        if (pendingThreads > 0) {
+            // 풀 포화: 커넥션 대기 스레드가 있는 동안 계속 줄임
+            next = current * poolSaturationBackoff;
+        } else if (count >= MIN_SAMPLES) {
+            double shortRtt = (double) totalNanos / count;
+            shortRttMillis = shortRtt / 1_000_000.0;
+            if (longRttNanos == 0) {
+                longRttNanos = shortRtt;
+            } else if (shortRtt < longRttNanos) {
+                // 좋아진 지연은 빨리 반영 (과부하 동안 올라간 기준이 그대로 남지 않도록)
+                longRttNanos = (longRttNanos + shortRtt) / 2;
+            } else {
+                longRttNanos = longRttNanos * (1 - LONG_RTT_ALPHA) + shortRtt * LONG_RTT_ALPHA;
+            }
+
+            double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / shortRtt));
+            // 한도의 절반도 쓰지 않은 주기에는 늘리지 않음 (여유가 있다는 근거가 아님)
+            double queueAllowance = peak * 2 >= current ? Math.sqrt(current) : 0;
+            next = current * (1 - SMOOTHING) + (current * gradient + queueAllowance) * SMOOTHING;
+        }
+
+        next = Math.max(minLimit, Math.min(maxLimit, next));
+        limit = next;
+        if ((int) next != (int) current) {
+            log.debug("동시 처리 한도 조정: {} -> {} (inFlightPeak={}, pendingThreads={}, shortRttMs={})",
+                    (int) current, (int) next, peak, pendingThreads, String.format("%.1f", shortRttMillis));
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("limit", getLimit());
+        stats.put("inFlight", inFlight.get());
+        stats.put("shortRttMs", shortRttMillis);
+        stats.put("longRttMs", longRttNanos / 1_000_000.0);
+        Map<String, Object> shedCounts = new LinkedHashMap<>();
+        shed.forEach((priority, counter) -> shedCounts.put(priority.name(), counter.sum()));
+        stats.put("shed", shedCounts);
+        return stats;
+    }
+}
@@ -0,0 +1,137 @@
+package com.astro.mood.service.ratelimit;
+
+/**
+ * Rate Limit 버킷 키로 쓰는 클라이언트 주소 해석
+ * - X-Forwarded-For 처럼 쉼표로 이어진 값은 첫 번째 항목만, 앞뒤 공백은 제외하고 사용
+ * - IPv4 (및 "::ffff:1.2.3.4") 는 32비트 값으로 파싱 → 객체 없이 Ipv4BucketStore 에서 조회
+ * - 그 외(IPv6, localhost 등)는 앞 64자까지를 문자열 키로 사용 (임의 길이 헤더로 메모리를 쓰지 않도록)
+ */
+public final class ClientAddress {
+
+    public static final long NOT_IPV4 = -1;
+
+    private static final String IPV4_MAPPED_PREFIX = "::ffff:";
+    private static final int MAX_RAW_LENGTH = 64;
+
+    private ClientAddress() {
+    }
+
+    /**
+     * @return 첫 번째 항목의 32비트 IPv4 값, IPv4 가 아니면 NOT_IPV4
+     */
+    public static long parseIpv4(String value) {
+        if (value == null) {
+            return NOT_IPV4;
+        }
+        int end = firstEntryEnd(value);
+        int start = skipLeadingWhitespace(value, end);
+        end = skipTrailingWhitespace(value, start, end);
+        if (value.regionMatches(true, start, IPV4_MAPPED_PREFIX, 0, IPV4_MAPPED_PREFIX.length())) {
+            start += IPV4_MAPPED_PREFIX.length();
+        }
+        return parseIpv4(value, start, end);
+    }
+
+    /**
+     * IPv4 가 아닌 주소의 버킷 키 (첫 번째 항목, 최대 64자)
+     */
+    public static String rawKey(String value) {
+        if (value == null) {
+            return "";
+        }
+        int end = firstEntryEnd(value);
+        int start = skipLeadingWhitespace(value, end);
+        end = skipTrailingWhitespace(value, start, end);
+        return value.substring(start, Math.min(end, start + MAX_RAW_LENGTH));
+    }
+
+    /**
+     * IPv6 표기에 쓰이는 문자로만 이루어졌는지 (헤더 값이 주소인지 판단용, 형식까지 검사하지는 않음)
+     */
+    public static boolean isIpv6Like(String value) {
+        if (value == null) {
+            return false;
+        }
+        int end = firstEntryEnd(value);
+        int start = skipLeadingWhitespace(value, end);
+        end = skipTrailingWhitespace(value, start, end);
+        if (end - start < 2 || end - start > MAX_RAW_LENGTH) {
+            return false;
+        }
+        boolean colon = false;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c == ':') {
+                colon = true;
+            } else if (c == '%') {
+                break; // 이후는 zone id (fe80::1%eth0)
+            } else if (Character.digit(c, 16) < 0 && c != '.' && c != '[' && c != ']') {
+                return false;
+            }
+        }
+        return colon;
+    }
+
+    /**
+     * 로그/공유 저장소 키용 점 표기
+     */
+    public static String format(long ipv4) {
+        return ((ipv4 >>> 24) & 0xFF) + "." + ((ipv4 >>> 16) & 0xFF) + "."
+                + ((ipv4 >>> 8) & 0xFF) + "." + (ipv4 & 0xFF);
+    }
+
+    private static int firstEntryEnd(String value) {
+        int comma = value.indexOf(',');
+        return comma >= 0 ? comma : value.length();
+    }
+
+    private static int skipLeadingWhitespace(String value, int end) {
+        int start = 0;
+        while (start < end && Character.isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    private static int skipTrailingWhitespace(String value, int start, int end) {
+        while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static long parseIpv4(String s, int start, int end) {
+        long result = 0;
+        int octets = 0;
+        int i = start;
+        while (i < end) {
+            int value = 0;
+            int digits = 0;
+            while (i < end && digits < 4) {
+                char c = s.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                value = value * 10 + (c - '0');
+                digits++;
+                i++;
+            }
+            if (digits == 0 || digits > 3 || value > 255) {
+                return NOT_IPV4;
+            }
+            result = (result << 8) | value;
+            octets++;
+            if (i == end) {
+                break;
+            }
+            if (s.charAt(i) != '.' || octets == 4) {
+                return NOT_IPV4;
+            }
+            i++;
+            if (i == end) {
+                return NOT_IPV4;
+            }
+        }
+        return octets == 4 ? result : NOT_IPV4;
+    }
+}
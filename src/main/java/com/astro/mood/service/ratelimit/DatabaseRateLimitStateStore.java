@@ -0,0 +1,45 @@
+package com.astro.mood.service.ratelimit;
+
+import com.astro.mood.data.repository.ratelimit.RateLimitBucketRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * DB(rate_limit_bucket) 기반 공유 상태 저장소
+ * rate-limit.distributed.store=database 일 때 사용된다.
+ * 조회와 갱신을 각각 짧은 쓰기 트랜잭션으로 실행 (읽기 전용 트랜잭션은 복제본으로 라우팅되어 지연된 상태를 읽을 수 있음)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "rate-limit.distributed.store", havingValue = "database")
+public class DatabaseRateLimitStateStore implements RateLimitStateStore {
+
+    private final RateLimitBucketRepository rateLimitBucketRepository;
+
+    @Override
+    @Transactional
+    public State load(String key) {
+        return rateLimitBucketRepository.findById(key)
+                .map(bucket -> new State(bucket.getTokens(), bucket.getRefilledAt(), bucket.getVersion()))
+                .orElse(null);
+    }
+
+    @Override
+    @Transactional
+    public boolean compareAndSet(String key, State expected, State update) {
+        if (expected == null) {
+            return rateLimitBucketRepository.insertIfAbsent(key, update.tokens(), update.refilledAt(),
+                    update.version()) > 0;
+        }
+        return rateLimitBucketRepository.compareAndSet(key, expected.version(), update.tokens(),
+                update.refilledAt(), update.version()) > 0;
+    }
+
+    @Override
+    @Transactional
+    public int deleteRefilledBefore(long refilledBeforeMillis) {
+        return rateLimitBucketRepository.deleteRefilledBefore(refilledBeforeMillis);
+    }
+}
@@ -0,0 +1,323 @@
+package com.astro.mood.service.ratelimit;
+
+import com.astro.mood.config.RateLimitConfig;
+import com.astro.mood.config.RateLimitConfig.RateLimitType;
+import com.astro.mood.service.ratelimit.RateLimitService.RateLimitResult;
+import com.astro.mood.service.ratelimit.RateLimitStateStore.State;
+import com.astro.mood.utils.BoundedTtlCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인스턴스 간 공유 버킷 (RateLimitStateStore)
+ * - 공유 상태는 compare-and-swap 으로 갱신하고, 경합 시 다시 읽어 재시도
+ * - 요청마다 저장소를 거치지 않도록 토큰을 묶음으로 미리 받아 로컬에서 소비 (lease)
+ *   같은 키의 lease 갱신은 한 요청만 하고, 동시에 온 요청은 기다렸다가 새 lease 를 나눠 씀
+ *   lease-ms 가 지나면 남은 토큰을 다음 요청의 CAS 에서 공유 버킷에 돌려줌 (같은 리필 주기일 때만)
+ *   → 다른 인스턴스 몫을 오래 잡아두지 않고, 드문드문 오는 키도 용량만큼 허용됨
+ * - 소진된 버킷은 lease-ms 동안 로컬에서 바로 거부 (공격 트래픽이 저장소로 그대로 가지 않도록)
+ * - 저장소 장애 시 null 을 반환하고 unavailable-backoff-ms 동안 저장소를 건너뜀 (호출 측이 로컬 버킷으로 대체)
+ * 리필은 로컬 버킷과 같은 방식 (주기마다 용량만큼 한 번에 채움)
+ */
+@Component
+@Slf4j
+public class DistributedRateLimiter {
+
+    private final RateLimitStateStore store;
+    private final int batchSize;
+    private final long leaseMs;
+    private final int maxCasAttempts;
+    private final long unavailableBackoffMs;
+    private final Map<RateLimitTier, Map<RateLimitType, BoundedTtlCache<Object, LeaseSlot>>> leases = new EnumMap<>(RateLimitTier.class);
+
+    private volatile long storeRetryAt;
+
+    private final LongAdder remoteCalls = new LongAdder();
+    private final LongAdder casConflicts = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private final LongAdder returnedTokens = new LongAdder();
+
+    public DistributedRateLimiter(Optional<RateLimitStateStore> store,
+            @Value("${rate-limit.distributed.batch-size:10}") int batchSize,
+            @Value("${rate-limit.distributed.lease-ms:1000}") long leaseMs,
+            @Value("${rate-limit.distributed.max-cas-attempts:5}") int maxCasAttempts,
+            @Value("${rate-limit.distributed.unavailable-backoff-ms:5000}") long unavailableBackoffMs,
+            @Value("${rate-limit.max-buckets:100000}") int maxBuckets) {
+        this.store = store.orElse(null);
+        this.batchSize = Math.max(1, batchSize);
+        this.leaseMs = leaseMs;
+        this.maxCasAttempts = Math.max(1, maxCasAttempts);
+        this.unavailableBackoffMs = unavailableBackoffMs;
+        int maxLeases = RateLimitConfig.maxBucketsPerStore(maxBuckets);
+        for (RateLimitTier tier : RateLimitTier.values()) {
+            Map<RateLimitType, BoundedTtlCache<Object, LeaseSlot>> typeLeases = new EnumMap<>(RateLimitType.class);
+            for (RateLimitType type : RateLimitType.values()) {
+                // 만료된 lease 도 남은 토큰을 돌려줄 수 있도록 마지막 사용 후 리필 주기 동안 보관 (lease 만료는 Lease.expiresAt)
+                typeLeases.put(type, new BoundedTtlCache<>(maxLeases, type.getRefillDuration().toMillis()));
+            }
+            leases.put(tier, typeLeases);
+        }
+        if (this.store != null) {
+            log.info("공유 Rate Limit 저장소 사용: {}", this.store.getClass().getSimpleName());
+        }
+    }
+
+    public boolean isEnabled() {
+        return store != null;
+    }
+
+    /**
+     * 공유 버킷에서 토큰 1개를 소비합니다.
+     *
+     * @param key IP 단위면 주소 문자열, 사용자 단위면 userIdx
+     * @return 결과, 저장소를 쓸 수 없으면 null (로컬 버킷으로 대체)
+     */
+    public RateLimitResult tryConsume(RateLimitTier tier, Object key, RateLimitType type) {
+        LeaseSlot slot = leases.get(tier).get(type).getOrCreate(key, k -> new LeaseSlot());
+        long capacity = tier.capacityOf(type);
+
+        RateLimitResult local = tryLease(slot.lease, capacity, System.currentTimeMillis());
+        if (local != null) {
+            return local;
+        }
+
+        // 같은 키의 갱신은 한 요청만 (동시에 각자 묶음을 받아 덮어쓰면 먼저 받은 토큰이 사라짐)
+        synchronized (slot) {
+            long now = System.currentTimeMillis();
+            local = tryLease(slot.lease, capacity, now);
+            if (local != null) {
+                return local;
+            }
+
+            if (now < storeRetryAt) {
+                fallbacks.increment();
+                return null;
+            }
+
+            // 만료/소진된 lease 에 남은 토큰은 이번 CAS 에서 공유 버킷에 돌려줌
+            Lease previous = slot.lease;
+            if (previous != null) {
+                slot.keepUnused(previous.drain(), previous.refilledAt);
+                slot.lease = null;
+            }
+
+            Grant grant;
+            try {
+                String bucketKey = (tier == RateLimitTier.USER ? "user:" + key : key) + ":" + type.name();
+                grant = acquire(bucketKey, capacity, type, batchFor(capacity), slot.unused, slot.unusedRefilledAt);
+            } catch (RuntimeException e) {
+                storeRetryAt = now + unavailableBackoffMs;
+                fallbacks.increment();
+                log.warn("공유 Rate Limit 저장소 사용 불가, {}ms 동안 로컬 버킷 사용: {}", unavailableBackoffMs, e.toString());
+                return null;
+            }
+            if (grant == null) {
+                // 경합이 계속되면 이번 요청만 로컬 버킷으로 처리 (남은 토큰은 다음 CAS 에서 돌려줌)
+                fallbacks.increment();
+                return null;
+            }
+            slot.unused = 0;
+
+            long expiresAt = now + leaseMs;
+            if (grant.tokens == 0) {
+                long blockedUntil = now + grant.waitMillis;
+                slot.lease = new Lease(0, 0, grant.refilledAt, expiresAt, blockedUntil);
+                return new RateLimitResult(false, 0, toRetrySeconds(grant.waitMillis), capacity);
+            }
+            slot.lease = new Lease(grant.tokens - 1, grant.sharedRemaining, grant.refilledAt, expiresAt, 0);
+            return new RateLimitResult(true, grant.tokens - 1 + grant.sharedRemaining, 0, capacity);
+        }
+    }
+
+    /**
+     * 받아 둔 lease 로 처리합니다.
+     *
+     * @return 결과, lease 가 없거나 만료/소진되어 새로 받아야 하면 null
+     */
+    private static RateLimitResult tryLease(Lease lease, long capacity, long now) {
+        if (lease == null || now >= lease.expiresAt) {
+            return null;
+        }
+        long remaining = lease.tryTake();
+        if (remaining >= 0) {
+            return new RateLimitResult(true, remaining + lease.sharedRemaining, 0, capacity);
+        }
+        if (lease.blockedUntil > now) {
+            return new RateLimitResult(false, 0, toRetrySeconds(lease.blockedUntil - now), capacity);
+        }
+        return null;
+    }
+
+    /**
+     * 공유 버킷에서 최대 want 개의 토큰을 가져옵니다. (CAS 재시도)
+     * 이전 lease 에서 쓰지 않은 토큰은 그 사이 리필되지 않았을 때만 같은 CAS 로 돌려줍니다.
+     *
+     * @param unused           돌려줄 토큰 수
+     * @param unusedRefilledAt 돌려줄 토큰을 받을 당시의 리필 시각
+     * @return 받은 토큰 (0이면 소진), 경합으로 끝내 실패하면 null
+     */
+    private Grant acquire(String bucketKey, long capacity, RateLimitType type, long want, long unused,
+            long unusedRefilledAt) {
+        long periodMillis = type.getRefillDuration().toMillis();
+
+        for (int attempt = 0; attempt < maxCasAttempts; attempt++) {
+            remoteCalls.increment();
+            long now = System.currentTimeMillis();
+            State current = store.load(bucketKey);
+
+            long tokens = capacity;
+            long refilledAt = now;
+            long version = 0;
+            if (current != null) {
+                tokens = current.tokens();
+                refilledAt = current.refilledAt();
+                version = current.version();
+                long periods = (now - refilledAt) / periodMillis;
+                if (periods > 0) {
+                    tokens = Math.min(capacity, tokens + periods * capacity);
+                    refilledAt += periods * periodMillis;
+                }
+            }
+            long waitMillis = Math.max(1, refilledAt + periodMillis - now);
+
+            // 리필되었으면 이미 가득 찬 것이므로 돌려주지 않음
+            long returned = current != null && refilledAt == unusedRefilledAt
+                    ? Math.min(unused, capacity - tokens)
+                    : 0;
+            tokens += returned;
+
+            if (tokens == 0) {
+                return new Grant(0, 0, waitMillis, refilledAt);
+            }
+            long granted = Math.min(want, tokens);
+            State update = new State(tokens - granted, refilledAt, version + 1);
+            if (store.compareAndSet(bucketKey, current, update)) {
+                returnedTokens.add(returned);
+                return new Grant(granted, update.tokens(), waitMillis, refilledAt);
+            }
+            casConflicts.increment();
+        }
+        return null;
+    }
+
+    /**
+     * 미리 받을 토큰 수 (용량이 작은 타입은 인스턴스 간 몫이 치우치지 않도록 용량의 1/10 이하)
+     */
+    private long batchFor(long capacity) {
+        return Math.max(1, Math.min(batchSize, capacity / 10));
+    }
+
+    /**
+     * 리필 주기가 지난 공유 상태 정리 (가득 찬 버킷과 같으므로 지워도 동작이 같음)
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.cleanup-interval-ms:60000}")
+    public void cleanupSharedState() {
+        if (store == null || System.currentTimeMillis() < storeRetryAt) {
+            return;
+        }
+        long longestPeriod = 0;
+        for (RateLimitType type : RateLimitType.values()) {
+            longestPeriod = Math.max(longestPeriod, type.getRefillDuration().toMillis());
+        }
+        try {
+            int removed = store.deleteRefilledBefore(System.currentTimeMillis() - longestPeriod);
+            if (removed > 0) {
+                log.debug("공유 Rate Limit 상태 정리: removed={}", removed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("공유 Rate Limit 상태 정리 실패: {}", e.toString());
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", isEnabled());
+        stats.put("store", store != null ? store.getClass().getSimpleName() : "none");
+        stats.put("storeAvailable", System.currentTimeMillis() >= storeRetryAt);
+        stats.put("leases", leases.values().stream()
+                .flatMap(typeLeases -> typeLeases.values().stream())
+                .mapToInt(BoundedTtlCache::size)
+                .sum());
+        stats.put("remoteCalls", remoteCalls.sum());
+        stats.put("casConflicts", casConflicts.sum());
+        stats.put("fallbacks", fallbacks.sum());
+        stats.put("returnedTokens", returnedTokens.sum());
+        return stats;
+    }
+
+    private static long toRetrySeconds(long millis) {
+        return Math.max(1, (millis + 999) / 1000);
+    }
+
+    private record Grant(long tokens, long sharedRemaining, long waitMillis, long refilledAt) {
+    }
+
+    /**
+     * 키별 lease 자리 (갱신은 이 객체의 락을 잡은 한 요청만)
+     * 상한 초과로 밀려나면 남은 토큰은 다음 리필까지 공유 버킷에서 빠진 채로 남음
+     */
+    private static final class LeaseSlot {
+        private volatile Lease lease;
+        // 아직 돌려주지 못한 토큰 (저장소 장애/경합으로 갱신이 실패한 경우), 락 안에서만 읽고 씀
+        private long unused;
+        private long unusedRefilledAt;
+
+        private void keepUnused(long tokens, long refilledAt) {
+            if (unused > 0 && unusedRefilledAt != refilledAt) {
+                // 이전 주기 토큰은 리필로 이미 채워졌으므로 버림
+                unused = 0;
+            }
+            unused += tokens;
+            unusedRefilledAt = refilledAt;
+        }
+    }
+
+    /**
+     * 미리 받아 둔 토큰 (동시 요청이 나눠 씀)
+     */
+    private static final class Lease {
+        private final AtomicLong remaining;
+        private final long sharedRemaining; // 받을 당시 공유 버킷에 남은 토큰 (응답 헤더용)
+        private final long refilledAt; // 받을 당시 공유 버킷의 리필 시각 (돌려줄 때 같은 주기인지 확인)
+        private final long expiresAt; // 로컬에서 쓸 수 있는 기한 (epoch ms)
+        private final long blockedUntil; // 소진된 버킷의 다음 리필 시각 (epoch ms)
+
+        private Lease(long remaining, long sharedRemaining, long refilledAt, long expiresAt, long blockedUntil) {
+            this.remaining = new AtomicLong(remaining);
+            this.sharedRemaining = sharedRemaining;
+            this.refilledAt = refilledAt;
+            this.expiresAt = expiresAt;
+            this.blockedUntil = blockedUntil;
+        }
+
+        /**
+         * 남은 토큰을 모두 꺼냅니다. (만료 직전에 꺼내 쓰는 요청과 겹쳐도 한 번만 돌려주도록)
+         */
+        private long drain() {
+            return remaining.getAndSet(0);
+        }
+
+        /**
+         * @return 소비 후 남은 토큰, 없으면 -1
+         */
+        private long tryTake() {
+            long current;
+            do {
+                current = remaining.get();
+                if (current <= 0) {
+                    return -1;
+                }
+            } while (!remaining.compareAndSet(current, current - 1));
+            return current - 1;
+        }
+    }
+}
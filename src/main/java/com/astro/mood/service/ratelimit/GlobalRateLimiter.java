@@ -0,0 +1,77 @@
+package com.astro.mood.service.ratelimit;
+
+import com.astro.mood.config.RateLimitConfig.RateLimitType;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서버(인스턴스) 전체 보호 (RateLimitType.GLOBAL)
+ * - 처리량: GLOBAL 용량만큼 리필 주기 동안 고르게 채워지는 단일 버킷
+ * - 동시 처리 수: rate-limit.global.max-concurrent 개까지 (0 이하면 제한 없음)
+ * 클라이언트별 제한을 통과한 요청에만 적용하므로 거부된 공격 트래픽이 전체 한도를 소모하지 않음
+ */
+@Component
+@Slf4j
+public class GlobalRateLimiter {
+
+    private final Bucket throughput;
+    private final Semaphore concurrency;
+    private final int maxConcurrent;
+
+    private final LongAdder throughputRejections = new LongAdder();
+    private final LongAdder concurrencyRejections = new LongAdder();
+
+    public GlobalRateLimiter(@Value("${rate-limit.global.max-concurrent:200}") int maxConcurrent) {
+        RateLimitType global = RateLimitType.GLOBAL;
+        this.throughput = Bucket.builder()
+                .addLimit(Bandwidth.builder()
+                        .capacity(global.getCapacity())
+                        .refillGreedy(global.getCapacity(), global.getRefillDuration())
+                        .build())
+                .build();
+        this.maxConcurrent = maxConcurrent;
+        this.concurrency = maxConcurrent > 0 ? new Semaphore(maxConcurrent) : null;
+    }
+
+    /**
+     * 요청 처리 시작. true 를 받았으면 처리 후 반드시 exit() 를 호출해야 합니다.
+     */
+    public boolean tryEnter() {
+        if (concurrency != null && !concurrency.tryAcquire()) {
+            concurrencyRejections.increment();
+            return false;
+        }
+        if (!throughput.tryConsume(1)) {
+            if (concurrency != null) {
+                concurrency.release();
+            }
+            throughputRejections.increment();
+            return false;
+        }
+        return true;
+    }
+
+    public void exit() {
+        if (concurrency != null) {
+            concurrency.release();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("maxConcurrent", maxConcurrent);
+        stats.put("inFlight", concurrency != null ? maxConcurrent - concurrency.availablePermits() : null);
+        stats.put("availableTokens", throughput.getAvailableTokens());
+        stats.put("throughputRejections", throughputRejections.sum());
+        stats.put("concurrencyRejections", concurrencyRejections.sum());
+        return stats;
+    }
+}
@@ -0,0 +1,38 @@
+package com.astro.mood.service.ratelimit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내 공유 상태 저장소 (단일 인스턴스, 로컬 개발/테스트용 대역)
+ * rate-limit.distributed.store=memory 일 때 사용된다.
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.distributed.store", havingValue = "memory")
+public class InMemoryRateLimitStateStore implements RateLimitStateStore {
+
+    private final Map<String, State> states = new ConcurrentHashMap<>();
+
+    @Override
+    public State load(String key) {
+        return states.get(key);
+    }
+
+    @Override
+    public boolean compareAndSet(String key, State expected, State update) {
+        if (expected == null) {
+            return states.putIfAbsent(key, update) == null;
+        }
+        return states.replace(key, expected, update);
+    }
+
+    @Override
+    public int deleteRefilledBefore(long refilledBeforeMillis) {
+        int before = states.size();
+        states.values().removeIf(state -> state.refilledAt() < refilledBeforeMillis);
+        return Math.max(0, before - states.size());
+    }
+}
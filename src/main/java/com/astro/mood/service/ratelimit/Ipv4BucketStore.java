@@ -0,0 +1,306 @@
+package com.astro.mood.service.ratelimit;
+
+import io.github.bucket4j.Bucket;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * IPv4 주소(32비트 값) 키 버킷 저장소 (세그먼트 + second-chance 제거)
+ * - RateLimitBucketStore 와 같은 역할이지만 키를 long 그대로 배열에 담아 조회 시 객체를 만들지 않음
+ * - 세그먼트마다 고정 크기 배열 (선형 탐사 해시 테이블 + 인덱스로 이은 삽입 순서 목록)
+ * - 조회 적중 시에는 사용 표시만 하고 시각을 읽거나 목록을 옮기지 않음 (second-chance)
+ *   세그먼트가 가득 차면 앞쪽부터 사용 표시가 없는 버킷을 제거하고, 표시가 있으면 지우고 뒤로 보냄
+ * - 마지막 사용 시각은 생성 시각과 정리(evictIdle) 시점으로 기록하므로 유휴 판단은 정리 주기만큼 늦어질 수 있음
+ *   (늦게 제거될 뿐 일찍 제거되지는 않음)
+ */
+public final class Ipv4BucketStore {
+
+    private static final int SEGMENT_BITS = 4;
+    private static final int SEGMENT_COUNT = 1 << SEGMENT_BITS;
+    private static final int NONE = -1;
+
+    private final Segment[] segments;
+    private final long idleNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder sizeEvictions = new LongAdder();
+    private final LongAdder idleEvictions = new LongAdder();
+
+    public Ipv4BucketStore(int maxBuckets, long idleMillis) {
+        int perSegment = Math.max(1, maxBuckets / SEGMENT_COUNT);
+        this.segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+        this.idleNanos = idleMillis * 1_000_000;
+    }
+
+    /**
+     * 버킷 조회, 없으면 생성
+     */
+    public Bucket get(long key, LongFunction<Bucket> factory) {
+        long hash = mix(key);
+        Segment segment = segments[(int) (hash >>> (64 - SEGMENT_BITS))];
+        synchronized (segment) {
+            int entry = segment.find(key, hash);
+            if (entry != NONE) {
+                segment.used[entry] = true;
+                hits.increment();
+                return segment.buckets[entry];
+            }
+            misses.increment();
+            if (segment.size == segment.keys.length) {
+                segment.evictOne(System.nanoTime());
+                sizeEvictions.increment();
+            }
+            Bucket bucket = factory.apply(key);
+            segment.insert(key, hash, bucket, System.nanoTime());
+            return bucket;
+        }
+    }
+
+    public void remove(long key) {
+        long hash = mix(key);
+        Segment segment = segments[(int) (hash >>> (64 - SEGMENT_BITS))];
+        synchronized (segment) {
+            int entry = segment.find(key, hash);
+            if (entry != NONE) {
+                segment.remove(entry);
+            }
+        }
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 유휴 시간이 지난 버킷을 제거합니다. (정리 스케줄러에서 호출)
+     * 지난 정리 이후 사용된 버킷은 지금 시각으로 기록하고 뒤로 보냅니다.
+     *
+     * @return 제거한 버킷 수
+     */
+    public int evictIdle() {
+        long now = System.nanoTime();
+        int removed = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                for (int n = segment.size; n > 0; n--) {
+                    int entry = segment.head;
+                    if (segment.used[entry]) {
+                        segment.renew(entry, now);
+                    } else if (now - segment.lastAccess[entry] >= idleNanos) {
+                        segment.remove(entry);
+                        removed++;
+                    } else {
+                        segment.moveToTail(entry);
+                    }
+                }
+            }
+        }
+        idleEvictions.add(removed);
+        return removed;
+    }
+
+    public Map<String, Object> stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("buckets", size());
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", total == 0 ? 0.0 : (double) hitCount / total);
+        stats.put("sizeEvictions", sizeEvictions.sum());
+        stats.put("idleEvictions", idleEvictions.sum());
+        return stats;
+    }
+
+    // 연속한 주소가 같은 세그먼트/슬롯에 몰리지 않도록 섞음 (MurmurHash3 fmix64)
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    /**
+     * 세그먼트 락 안에서만 접근
+     * 항목은 0..capacity-1 인덱스로 관리하고 table 에는 (인덱스 + 1) 을 담음 (0 = 빈 슬롯)
+     */
+    private static final class Segment {
+        private final long[] keys;
+        private final Bucket[] buckets;
+        private final long[] lastAccess; // 생성 또는 마지막 정리 시점에 본 사용 시각
+        private final boolean[] used; // 마지막 기록 이후 조회 적중 여부
+        private final int[] prev;
+        private final int[] next; // 사용 중이면 목록의 다음, 비어 있으면 빈 항목 목록의 다음
+        private final int[] table;
+        private final int mask;
+
+        private int head = NONE; // 제거 후보를 찾기 시작하는 쪽
+        private int tail = NONE; // 새로 넣거나 다시 기회를 준 항목
+        private int free;
+        private int size;
+
+        private Segment(int capacity) {
+            this.keys = new long[capacity];
+            this.buckets = new Bucket[capacity];
+            this.lastAccess = new long[capacity];
+            this.used = new boolean[capacity];
+            this.prev = new int[capacity];
+            this.next = new int[capacity];
+            // 채움률 50% 이하로 유지
+            int tableSize = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1) << 1;
+            this.table = new int[tableSize];
+            this.mask = tableSize - 1;
+            clear();
+        }
+
+        private int find(long key, long hash) {
+            for (int slot = (int) hash & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+                int entry = table[slot] - 1;
+                if (keys[entry] == key) {
+                    return entry;
+                }
+            }
+            return NONE;
+        }
+
+        private void insert(long key, long hash, Bucket bucket, long now) {
+            int entry = free;
+            free = next[entry];
+            keys[entry] = key;
+            buckets[entry] = bucket;
+            lastAccess[entry] = now;
+            used[entry] = false;
+            linkTail(entry);
+
+            int slot = (int) hash & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = entry + 1;
+            size++;
+        }
+
+        private void remove(int entry) {
+            int slot = (int) mix(keys[entry]) & mask;
+            while (table[slot] != entry + 1) {
+                slot = (slot + 1) & mask;
+            }
+            deleteSlot(slot);
+            unlink(entry);
+            buckets[entry] = null;
+            next[entry] = free;
+            free = entry;
+            size--;
+        }
+
+        /**
+         * 선형 탐사 삭제: 뒤따르는 항목 중 원래 자리가 비운 슬롯 이전인 항목을 당겨 탐사 경로를 유지
+         */
+        private void deleteSlot(int hole) {
+            int slot = hole;
+            while (true) {
+                slot = (slot + 1) & mask;
+                if (table[slot] == 0) {
+                    break;
+                }
+                int home = (int) mix(keys[table[slot] - 1]) & mask;
+                // home 이 (hole, slot] 구간 밖이면 hole 로 옮겨도 찾을 수 있음
+                boolean between = hole <= slot
+                        ? hole < home && home <= slot
+                        : hole < home || home <= slot;
+                if (!between) {
+                    table[hole] = table[slot];
+                    hole = slot;
+                }
+            }
+            table[hole] = 0;
+        }
+
+        /**
+         * 앞쪽부터 사용 표시가 없는 항목 하나를 제거 (표시가 있으면 지우고 뒤로 보냄, 한 바퀴 안에 반드시 찾음)
+         */
+        private void evictOne(long now) {
+            while (used[head]) {
+                renew(head, now);
+            }
+            remove(head);
+        }
+
+        private void renew(int entry, long now) {
+            used[entry] = false;
+            lastAccess[entry] = now;
+            moveToTail(entry);
+        }
+
+        private void moveToTail(int entry) {
+            if (entry != tail) {
+                unlink(entry);
+                linkTail(entry);
+            }
+        }
+
+        private void linkTail(int entry) {
+            prev[entry] = tail;
+            next[entry] = NONE;
+            if (tail == NONE) {
+                head = entry;
+            } else {
+                next[tail] = entry;
+            }
+            tail = entry;
+        }
+
+        private void unlink(int entry) {
+            int before = prev[entry];
+            int after = next[entry];
+            if (before == NONE) {
+                head = after;
+            } else {
+                next[before] = after;
+            }
+            if (after == NONE) {
+                tail = before;
+            } else {
+                prev[after] = before;
+            }
+        }
+
+        private void clear() {
+            Arrays.fill(table, 0);
+            Arrays.fill(buckets, null);
+            for (int i = 0; i < next.length; i++) {
+                next[i] = i + 1 < next.length ? i + 1 : NONE;
+            }
+            free = 0;
+            head = NONE;
+            tail = NONE;
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.astro.mood.service.ratelimit;
+
+import io.github.bucket4j.Bucket;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 크기 상한 + 유휴 만료가 있는 버킷 저장소 (세그먼트 LRU)
+ * - 키 해시로 세그먼트를 나눠 세그먼트별 락만 잡음
+ * - 세그먼트가 가득 차면 가장 오래 사용하지 않은 버킷부터 제거
+ * - 유휴 시간이 리필 주기보다 긴 버킷은 이미 가득 찬 상태라 제거해도 제한 동작이 달라지지 않음
+ */
+public final class RateLimitBucketStore<K> {
+
+    private static final int SEGMENT_COUNT = 16; // 2의 거듭제곱
+
+    private final Segment<K>[] segments;
+    private final long idleNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder sizeEvictions = new LongAdder();
+    private final LongAdder idleEvictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public RateLimitBucketStore(int maxBuckets, long idleMillis) {
+        int perSegment = Math.max(1, maxBuckets / SEGMENT_COUNT);
+        this.segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment<>(perSegment, sizeEvictions);
+        }
+        this.idleNanos = idleMillis * 1_000_000;
+    }
+
+    /**
+     * 버킷 조회, 없으면 생성
+     */
+    public Bucket get(K key, Function<K, Bucket> factory) {
+        Segment<K> segment = segmentFor(key);
+        long now = System.nanoTime();
+        synchronized (segment) {
+            Entry entry = segment.map.get(key);
+            if (entry != null) {
+                entry.lastAccess = now;
+                hits.increment();
+                return entry.bucket;
+            }
+            misses.increment();
+            Bucket bucket = factory.apply(key);
+            segment.map.put(key, new Entry(bucket, now));
+            return bucket;
+        }
+    }
+
+    public void remove(K key) {
+        Segment<K> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.map.remove(key);
+        }
+    }
+
+    public void clear() {
+        for (Segment<K> segment : segments) {
+            synchronized (segment) {
+                segment.map.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K> segment : segments) {
+            synchronized (segment) {
+                size += segment.map.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 유휴 시간이 지난 버킷을 제거합니다. (정리 스케줄러에서 호출)
+     * 접근 순서로 정렬되어 있으므로 각 세그먼트 앞쪽부터 만료되지 않은 버킷을 만나면 멈춥니다.
+     *
+     * @return 제거한 버킷 수
+     */
+    public int evictIdle() {
+        long now = System.nanoTime();
+        int removed = 0;
+        for (Segment<K> segment : segments) {
+            synchronized (segment) {
+                Iterator<Entry> it = segment.map.values().iterator();
+                while (it.hasNext()) {
+                    Entry entry = it.next();
+                    if (now - entry.lastAccess < idleNanos) {
+                        break;
+                    }
+                    it.remove();
+                    removed++;
+                }
+            }
+        }
+        idleEvictions.add(removed);
+        return removed;
+    }
+
+    public Map<String, Object> stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("buckets", size());
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", total == 0 ? 0.0 : (double) hitCount / total);
+        stats.put("sizeEvictions", sizeEvictions.sum());
+        stats.put("idleEvictions", idleEvictions.sum());
+        return stats;
+    }
+
+    private Segment<K> segmentFor(K key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return segments[h & (SEGMENT_COUNT - 1)];
+    }
+
+    private static final class Entry {
+        private final Bucket bucket;
+        private long lastAccess; // 세그먼트 락 안에서만 접근
+
+        private Entry(Bucket bucket, long lastAccess) {
+            this.bucket = bucket;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    private static final class Segment<K> {
+        private final LinkedHashMap<K, Entry> map;
+
+        private Segment(int maxSize, LongAdder evictions) {
+            this.map = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Entry> eldest) {
+                    if (size() > maxSize) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.astro.mood.service.ratelimit;
 
 import com.astro.mood.config.RateLimitConfig;
+import com.astro.mood.security.jwt.JWTUtil;
+import com.astro.mood.security.jwt.VerifiedJwt;
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.ConsumptionProbe;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,73 +19,150 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class RateLimitService {
 
+    private static final String[] CLIENT_IP_HEADERS = {
+            "X-Forwarded-For", "Proxy-Client-IP", "WL-Proxy-Client-IP", "HTTP_CLIENT_IP", "HTTP_X_FORWARDED_FOR"
+    };
+
     private final RateLimitConfig rateLimitConfig;
+    private final DistributedRateLimiter distributedRateLimiter;
+    private final JWTUtil jwtUtil;
+    private final RateLimitTelemetry rateLimitTelemetry;
 
     /**
      * Rate Limit 체크 및 토큰 소비
+     * 로그인 요청은 사용자 버킷과 IP 버킷을 한 번에 확인하고, 둘 다 통과해야 허용
+     * (사용자 버킷에서 먼저 거부되면 같은 IP를 쓰는 다른 사용자의 몫을 소비하지 않음)
      * 
      * @param request HTTP 요청
      * @param type    Rate Limit 타입
-     * @return RateLimitResult 결과 객체
+     * @return RateLimitResult 결과 객체 (남은 토큰은 두 버킷 중 더 적은 쪽)
      */
     public RateLimitResult checkRateLimit(HttpServletRequest request, RateLimitConfig.RateLimitType type) {
-        String key = getClientIdentifier(request);
-        Bucket bucket = rateLimitConfig.resolveBucket(key, type);
+        // IPv4 는 long 값 그대로 버킷을 찾고, 그 외 주소만 문자열 키를 만듦
+        String clientIp = getClientIp(request);
+        long ipv4 = ClientAddress.parseIpv4(clientIp);
+        if (ipv4 == ClientAddress.NOT_IPV4 && !ClientAddress.isIpv6Like(clientIp)) {
+            // 주소로 해석되지 않는 헤더 값은 키로 쓰지 않고 연결 주소 사용 (헤더 값을 바꿔 가며 버킷을 새로 만드는 것 방지)
+            clientIp = request.getRemoteAddr();
+            ipv4 = ClientAddress.parseIpv4(clientIp);
+        }
+        String otherKey = ipv4 == ClientAddress.NOT_IPV4 ? ClientAddress.rawKey(clientIp) : null;
+        Integer userIdx = getUserIdx(request);
+
+        RateLimitResult userResult = null;
+        if (userIdx != null) {
+            userResult = consumeUser(userIdx, type);
+            if (!userResult.isAllowed()) {
+                rateLimitTelemetry.recordDenied(RateLimitTier.USER, userIdx, type, userResult.getRetryAfterSeconds());
+                return userResult;
+            }
+        }
 
-        // 1개의 토큰을 소비 시도
-        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        RateLimitResult ipResult = consumeIp(ipv4, otherKey, type);
+        if (!ipResult.isAllowed()) {
+            if (userIdx != null) {
+                refundUser(userIdx, type);
+            }
+            rateLimitTelemetry.recordDenied(RateLimitTier.IP, ipKey(ipv4, otherKey), type,
+                    ipResult.getRetryAfterSeconds());
+            return ipResult;
+        }
 
-        if (probe.isConsumed()) {
-            // 허용됨
-            log.debug("✅ Rate limit passed - IP: {}, Type: {}, Remaining: {}",
-                    key, type, probe.getRemainingTokens());
-            return new RateLimitResult(true, probe.getRemainingTokens(), 0);
-        } else {
-            // 제한 초과
-            long waitForRefill = probe.getNanosToWaitForRefill() / 1_000_000_000; // 나노초를 초로 변환
-            log.warn("🚫 Rate limit exceeded - IP: {}, Type: {}, Retry after: {}s",
-                    key, type, waitForRefill);
-            return new RateLimitResult(false, 0, waitForRefill);
+        rateLimitTelemetry.recordAllowed(type);
+
+        log.debug("✅ Rate limit passed - User: {}, IP: {}, Type: {}, Remaining: {}",
+                userIdx, clientIp, type, ipResult.getRemainingTokens());
+        if (userResult != null && userResult.getRemainingTokens() < ipResult.getRemainingTokens()) {
+            return userResult;
         }
+        return ipResult;
     }
 
     /**
-     * 클라이언트 식별자 추출
-     * 우선순위: X-Forwarded-For > Proxy-Client-IP > Remote Address
-     * 
-     * @param request HTTP 요청
-     * @return IP 주소
+     * 사용자 버킷에서 토큰 1개 소비
+     * 공유 저장소가 설정되어 있으면 인스턴스 간 공유 버킷 사용 (저장소 장애 시 null → 로컬 버킷)
      */
-    private String getClientIdentifier(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("WL-Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("HTTP_CLIENT_IP");
+    private RateLimitResult consumeUser(Integer userIdx, RateLimitConfig.RateLimitType type) {
+        if (distributedRateLimiter.isEnabled()) {
+            RateLimitResult shared = distributedRateLimiter.tryConsume(RateLimitTier.USER, userIdx, type);
+            if (shared != null) {
+                return shared;
+            }
         }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("HTTP_X_FORWARDED_FOR");
+        return consumeLocal(rateLimitConfig.resolveUserBucket(userIdx, type), RateLimitTier.USER.capacityOf(type));
+    }
+
+    /**
+     * IP 버킷에서 토큰 1개 소비 (공유 저장소 사용 방식은 consumeUser 와 같음)
+     */
+    private RateLimitResult consumeIp(long ipv4, String otherKey, RateLimitConfig.RateLimitType type) {
+        if (distributedRateLimiter.isEnabled()) {
+            RateLimitResult shared = distributedRateLimiter.tryConsume(RateLimitTier.IP, ipKey(ipv4, otherKey), type);
+            if (shared != null) {
+                return shared;
+            }
         }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
+        Bucket bucket = ipv4 != ClientAddress.NOT_IPV4
+                ? rateLimitConfig.resolveBucket(ipv4, type)
+                : rateLimitConfig.resolveBucket(otherKey, type);
+        return consumeLocal(bucket, RateLimitTier.IP.capacityOf(type));
+    }
+
+    private static RateLimitResult consumeLocal(Bucket bucket, long limit) {
+        // 1개의 토큰을 소비 시도
+        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        if (probe.isConsumed()) {
+            return new RateLimitResult(true, probe.getRemainingTokens(), 0, limit);
         }
+        long waitForRefill = probe.getNanosToWaitForRefill() / 1_000_000_000; // 나노초를 초로 변환
+        return new RateLimitResult(false, 0, waitForRefill, limit);
+    }
 
-        // IPv6 loopback을 IPv4로 변환
-        if ("0:0:0:0:0:0:0:1".equals(ip)) {
-            ip = "localhost";
+    /**
+     * IP 버킷에서 거부된 요청의 사용자 토큰 반환
+     * 공유 버킷은 미리 받아 둔 묶음 단위라 되돌리지 않음 (lease-ms 안에 버려지는 만큼만 차이)
+     */
+    private void refundUser(Integer userIdx, RateLimitConfig.RateLimitType type) {
+        if (!distributedRateLimiter.isEnabled()) {
+            rateLimitConfig.resolveUserBucket(userIdx, type).addTokens(1);
         }
+    }
+
+    /**
+     * 공유 저장소/지표용 IP 키 (거부되었거나 공유 저장소를 쓸 때만 만듦)
+     */
+    private static String ipKey(long ipv4, String otherKey) {
+        return ipv4 != ClientAddress.NOT_IPV4 ? ClientAddress.format(ipv4) : otherKey;
+    }
 
-        // X-Forwarded-For는 여러 IP를 포함할 수 있으므로 첫 번째 IP 사용
-        if (ip != null && ip.contains(",")) {
-            ip = ip.split(",")[0].trim();
+    /**
+     * 서명이 검증된 액세스 토큰의 사용자 번호 (만료된 토큰도 서명이 맞으면 사용)
+     * 검증 결과는 요청에 보관되어 JWTFilter 에서 다시 파싱하지 않음
+     */
+    private Integer getUserIdx(HttpServletRequest request) {
+        VerifiedJwt verified = jwtUtil.verifyAccessToken(request);
+        if (verified == null || !(verified.isValid() || verified.isExpired())) {
+            return null;
         }
+        return verified.getLoginIdx();
+    }
 
-        return ip;
+    /**
+     * 클라이언트 주소 값 추출
+     * 우선순위: X-Forwarded-For > Proxy-Client-IP > Remote Address
+     * X-Forwarded-For는 여러 IP를 포함할 수 있으므로 ClientAddress 에서 첫 번째 IP 사용
+     *
+     * @param request HTTP 요청
+     * @return 헤더 값 또는 연결 주소 (없으면 null)
+     */
+    private String getClientIp(HttpServletRequest request) {
+        for (String header : CLIENT_IP_HEADERS) {
+            String ip = request.getHeader(header);
+            if (ip != null && !ip.isEmpty() && !"unknown".equalsIgnoreCase(ip)) {
+                return ip;
+            }
+        }
+        return request.getRemoteAddr();
     }
 
     /**
@@ -93,11 +172,13 @@ public class RateLimitService {
         private final boolean allowed;
         private final long remainingTokens;
         private final long retryAfterSeconds;
+        private final long limit; // 남은 토큰을 보고한 버킷의 용량
 
-        public RateLimitResult(boolean allowed, long remainingTokens, long retryAfterSeconds) {
+        public RateLimitResult(boolean allowed, long remainingTokens, long retryAfterSeconds, long limit) {
             this.allowed = allowed;
             this.remainingTokens = remainingTokens;
             this.retryAfterSeconds = retryAfterSeconds;
+            this.limit = limit;
         }
 
         public boolean isAllowed() {
@@ -111,5 +192,9 @@ public class RateLimitService {
         public long getRetryAfterSeconds() {
             return retryAfterSeconds;
         }
+
+        public long getLimit() {
+            return limit;
+        }
     }
 }
@@ -0,0 +1,39 @@
+package com.astro.mood.service.ratelimit;
+
+/**
+ * 인스턴스 간 공유 버킷 상태 저장소
+ * rate-limit.distributed.store 값으로 구현을 고른다. (none 이면 빈 없음 → 인스턴스별 로컬 버킷)
+ * 구현체는 저장소 장애 시 RuntimeException 을 던지면 되고, 호출 측이 로컬 버킷으로 대체한다.
+ */
+public interface RateLimitStateStore {
+
+    /**
+     * 현재 상태 (없으면 null = 가득 찬 버킷)
+     */
+    State load(String key);
+
+    /**
+     * expected 를 읽은 뒤 다른 인스턴스가 바꾸지 않았을 때만 update 로 바꿉니다.
+     * expected 가 null 이면 행이 아직 없을 때만 생성합니다.
+     *
+     * @return 반영되었으면 true, 경합으로 실패했으면 false
+     */
+    boolean compareAndSet(String key, State expected, State update);
+
+    /**
+     * 마지막 리필 시각이 기준보다 오래된 상태를 정리합니다.
+     *
+     * @return 정리한 개수
+     */
+    int deleteRefilledBefore(long refilledBeforeMillis);
+
+    /**
+     * 버킷 상태
+     *
+     * @param tokens     남은 토큰 수
+     * @param refilledAt 마지막 리필 시각 (epoch ms)
+     * @param version    갱신마다 1씩 증가
+     */
+    record State(long tokens, long refilledAt, long version) {
+    }
+}
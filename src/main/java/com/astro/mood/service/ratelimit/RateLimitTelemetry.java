@@ -0,0 +1,175 @@
+package com.astro.mood.service.ratelimit;
+
+import com.astro.mood.config.RateLimitConfig.RateLimitType;
+import com.astro.mood.utils.SpaceSavingSketch;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rate Limit 지표
+ * - 타입별 허용/거부 누적 카운터 (LongAdder)
+ * - 거부가 많은 IP/사용자 상위 목록: 슬롯(slot-seconds) 단위 Space-Saving 스케치를 링으로 두고, 조회 시 최근 슬롯만 합침
+ *   슬롯마다 스케치를 stripes 개로 나누고 스레드별로 골라 써서, 거부가 몰려도 한 락에 줄 서지 않도록 함
+ * - 거부 로그는 초당 log-per-second 건까지만 남기고 나머지는 생략 건수로 합산 (429 폭주가 로그 폭주로 이어지지 않도록)
+ */
+@Component
+@Slf4j
+public class RateLimitTelemetry {
+
+    private final Map<RateLimitType, LongAdder> allowed = new EnumMap<>(RateLimitType.class);
+    private final Map<RateLimitType, LongAdder> denied = new EnumMap<>(RateLimitType.class);
+    private final Map<RateLimitTier, WindowedTopK> topDenied = new EnumMap<>(RateLimitTier.class);
+
+    private final long slotMillis;
+    private final int slots;
+    private final int logPerSecond;
+
+    private final AtomicLong logSecond = new AtomicLong();
+    private final AtomicLong loggedInSecond = new AtomicLong();
+    private final LongAdder suppressedLogs = new LongAdder();
+
+    public RateLimitTelemetry(@Value("${rate-limit.telemetry.slot-seconds:10}") long slotSeconds,
+            @Value("${rate-limit.telemetry.slots:90}") int slots,
+            @Value("${rate-limit.telemetry.sketch-capacity:64}") int sketchCapacity,
+            @Value("${rate-limit.telemetry.stripes:4}") int stripes,
+            @Value("${rate-limit.telemetry.log-per-second:5}") int logPerSecond) {
+        this.slotMillis = Math.max(1, slotSeconds) * 1000;
+        this.slots = Math.max(1, slots);
+        this.logPerSecond = logPerSecond;
+        for (RateLimitType type : RateLimitType.values()) {
+            allowed.put(type, new LongAdder());
+            denied.put(type, new LongAdder());
+        }
+        for (RateLimitTier tier : RateLimitTier.values()) {
+            topDenied.put(tier, new WindowedTopK(this.slots, Math.max(1, stripes), sketchCapacity));
+        }
+    }
+
+    public void recordAllowed(RateLimitType type) {
+        allowed.get(type).increment();
+    }
+
+    /**
+     * 거부 기록 (카운터 + 상위 목록 + 샘플링된 로그)
+     *
+     * @param key IP 단위면 주소 문자열, 사용자 단위면 userIdx
+     */
+    public void recordDenied(RateLimitTier tier, Object key, RateLimitType type, long retryAfterSeconds) {
+        denied.get(type).increment();
+        topDenied.get(tier).add(key, System.currentTimeMillis() / slotMillis);
+
+        if (shouldLog()) {
+            log.warn("Rate limit 초과: tier={}, key={}, type={}, retryAfter={}s, 생략된 로그={}건",
+                    tier, key, type, retryAfterSeconds, suppressedLogs.sumThenReset());
+        } else {
+            suppressedLogs.increment();
+        }
+    }
+
+    private boolean shouldLog() {
+        long second = System.currentTimeMillis() / 1000;
+        long current = logSecond.get();
+        if (current != second && logSecond.compareAndSet(current, second)) {
+            loggedInSecond.set(0);
+        }
+        return loggedInSecond.incrementAndGet() <= logPerSecond;
+    }
+
+    /**
+     * 누적 카운터 + 최근 minutes 분 동안 거부가 많은 IP/사용자
+     */
+    public Map<String, Object> snapshot(int minutes, int limit) {
+        Map<String, Object> counters = new LinkedHashMap<>();
+        for (RateLimitType type : RateLimitType.values()) {
+            Map<String, Object> counter = new LinkedHashMap<>();
+            counter.put("allowed", allowed.get(type).sum());
+            counter.put("denied", denied.get(type).sum());
+            counters.put(type.name(), counter);
+        }
+
+        int windowSlots = (int) Math.max(1, Math.min(slots, minutes * 60_000L / slotMillis));
+        long currentSlot = System.currentTimeMillis() / slotMillis;
+        Map<String, Object> top = new LinkedHashMap<>();
+        topDenied.forEach((tier, sketch) -> top.put(tier.name(), sketch.top(currentSlot, windowSlots, limit)));
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("counters", counters);
+        snapshot.put("windowSeconds", windowSlots * slotMillis / 1000);
+        snapshot.put("topDenied", top);
+        snapshot.put("suppressedLogs", suppressedLogs.sum());
+        return snapshot;
+    }
+
+    /**
+     * 슬롯별 스케치 링 (슬롯 번호가 바뀌면 해당 칸을 비우고 재사용)
+     * 칸마다 stripes 개의 스케치를 두고 스레드 id 로 고름 → 조회 시 합치면 같은 키의 추정치/오차가 더해짐
+     */
+    private static final class WindowedTopK {
+        private final SpaceSavingSketch<Object>[] sketches; // [슬롯 칸 × stripes + stripe]
+        private final long[] slotOfSketch;
+        private final int stripes;
+
+        @SuppressWarnings("unchecked")
+        private WindowedTopK(int slots, int stripes, int capacity) {
+            this.stripes = stripes;
+            this.sketches = new SpaceSavingSketch[slots * stripes];
+            this.slotOfSketch = new long[slots * stripes];
+            for (int i = 0; i < sketches.length; i++) {
+                sketches[i] = new SpaceSavingSketch<>(capacity);
+                slotOfSketch[i] = -1;
+            }
+        }
+
+        private void add(Object key, long slot) {
+            int stripe = (int) Math.floorMod(Thread.currentThread().getId(), (long) stripes);
+            int index = (int) (slot % (sketches.length / stripes)) * stripes + stripe;
+            SpaceSavingSketch<Object> sketch = sketches[index];
+            if (slotOfSketch[index] != slot) {
+                synchronized (sketch) {
+                    if (slotOfSketch[index] != slot) {
+                        sketch.clear();
+                        slotOfSketch[index] = slot;
+                    }
+                }
+            }
+            sketch.add(key);
+        }
+
+        private List<Map<String, Object>> top(long currentSlot, int windowSlots, int limit) {
+            Map<Object, long[]> totals = new HashMap<>();
+            for (int i = 0; i < sketches.length; i++) {
+                SpaceSavingSketch<Object> sketch = sketches[i];
+                synchronized (sketch) {
+                    long slot = slotOfSketch[i];
+                    if (slot >= 0 && slot > currentSlot - windowSlots && slot <= currentSlot) {
+                        sketch.addTo(totals);
+                    }
+                }
+            }
+
+            List<Map.Entry<Object, long[]>> entries = new ArrayList<>(totals.entrySet());
+            entries.sort(Comparator.comparingLong((Map.Entry<Object, long[]> e) -> e.getValue()[0]).reversed());
+
+            List<Map<String, Object>> result = new ArrayList<>();
+            for (Map.Entry<Object, long[]> entry : entries.subList(0, Math.min(limit, entries.size()))) {
+                Map<String, Object> item = new LinkedHashMap<>();
+                item.put("key", entry.getKey().toString());
+                item.put("denied", entry.getValue()[0]);
+                item.put("maxError", entry.getValue()[1]);
+                result.add(item);
+            }
+            return result;
+        }
+    }
+}
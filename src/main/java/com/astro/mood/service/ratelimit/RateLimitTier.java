@@ -0,0 +1,15 @@
+package com.astro.mood.service.ratelimit;
+
+import com.astro.mood.config.RateLimitConfig.RateLimitType;
+
+/**
+ * 버킷 단위 (IP별 / 로그인 사용자별)
+ */
+public enum RateLimitTier {
+    IP,
+    USER;
+
+    public long capacityOf(RateLimitType type) {
+        return this == USER ? type.getUserCapacity() : type.getCapacity();
+    }
+}
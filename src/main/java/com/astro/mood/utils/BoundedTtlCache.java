@@ -0,0 +1,84 @@
+package com.astro.mood.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 크기 상한 + TTL 이 있는 인메모리 LRU 캐시
+ * - 상한을 넘으면 가장 오래 사용하지 않은 항목부터 제거
+ * - 만료된 항목은 조회 시 제거
+ * - 항목 수가 작고 연산이 짧아 단일 락으로 충분한 용도 (인증 상태, 검증된 토큰 등)
+ */
+public final class BoundedTtlCache<K, V> {
+
+    private final long ttlNanos;
+    private final Map<K, Entry<V>> entries;
+
+    public BoundedTtlCache(int maxSize, long ttlMillis) {
+        this.ttlNanos = ttlMillis * 1_000_000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 만료되지 않은 값 (없으면 null)
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt - System.nanoTime() <= 0) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    /**
+     * 만료되지 않은 값, 없으면 factory 로 만들어 넣음 (같은 키에 항상 같은 객체를 돌려줌)
+     * 조회할 때마다 만료 시각을 연장하므로 TTL 은 마지막 사용 시각 기준
+     */
+    public synchronized V getOrCreate(K key, Function<? super K, ? extends V> factory) {
+        long now = System.nanoTime();
+        Entry<V> entry = entries.get(key);
+        if (entry == null || entry.expiresAt - now <= 0) {
+            entry = new Entry<>(factory.apply(key), now + ttlNanos);
+            entries.put(key, entry);
+        } else {
+            entry.expiresAt = now + ttlNanos;
+        }
+        return entry.value;
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+    }
+
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private long expiresAt; // 락 안에서만 읽고 씀
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -1,97 +1,89 @@
 package com.astro.mood.utils;
 
+import com.astro.mood.utils.crypto.ContentEnvelope;
+import com.astro.mood.utils.crypto.DataKey;
+import com.astro.mood.utils.crypto.DataKeyProvider;
+import com.astro.mood.utils.crypto.GcmCryptoEngine;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
-import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
-import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
-import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
-
-import javax.crypto.Cipher;
-import javax.crypto.spec.GCMParameterSpec;
-import javax.crypto.spec.SecretKeySpec;
+
+import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
-import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class EncryptionUtils {
 
-    private static final String ALGORITHM = "AES";
-    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
-    private static final int GCM_IV_LENGTH = 12; // GCM 표준 IV 길이
-    private static final int GCM_TAG_LENGTH = 16; // GCM 인증 태그 길이
-
-    @Value("${aws.secrets.encryption-key-id}")
-    private String secretId;
-
-    private final SecretsManagerClient secretsManagerClient;
-
-    public EncryptionUtils() {
-        this.secretsManagerClient = SecretsManagerClient.builder()
-                .region(Region.AP_NORTHEAST_2)
-                .build();
-    }
-
-    /**
-     * AWS Secrets Manager에서 암호화 키를 가져옵니다.
-     */
-    private String getEncryptionKey() {
-        try {
-            GetSecretValueRequest request = GetSecretValueRequest.builder()
-                    .secretId(secretId)
-                    .build();
+    // 키는 제공자가 메모리에 캐시 (암복호화마다 Secrets Manager를 호출하지 않음)
+    private final DataKeyProvider dataKeyProvider;
+    // 스레드별 DRBG/Cipher를 재사용하는 GCM 엔진
+    private final GcmCryptoEngine cryptoEngine;
 
-            GetSecretValueResponse response = secretsManagerClient.getSecretValue(request);
-            return response.secretString();
+    // 일괄 복호화: 이 건수 이상이면 병렬 처리
+    private static final int BATCH_PARALLEL_THRESHOLD = 16;
+    private static final int BATCH_THREADS = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
 
-        } catch (Exception e) {
-            log.error("암호화 키 조회 실패: secretId={}, error={}", secretId, e.getMessage(), e);
-            throw new RuntimeException("암호화 키 조회 실패", e);
-        }
-    }
+    // 고정 크기 풀 (스레드별 Cipher가 재사용되도록), 큐가 차면 호출 스레드에서 직접 처리
+    private final ExecutorService batchExecutor = new ThreadPoolExecutor(
+            BATCH_THREADS, BATCH_THREADS, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(256),
+            new CustomizableThreadFactory("crypto-batch-"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
 
     /**
      * 텍스트를 GCM 방식으로 암호화합니다.
      *
      * @param plainText 암호화할 텍스트
      * @param userId    사용자 ID (AAD용)
-     * @return GCMEncryptionResult (ciphertext||tag, IV)
+     * @return GCMEncryptionResult (ciphertext||tag, IV, 키 버전)
      */
     public GCMEncryptionResult encryptGCM(String plainText, Integer userId) {
         if (plainText == null || plainText.isEmpty()) {
-            return new GCMEncryptionResult(plainText, null);
+            return new GCMEncryptionResult(plainText, null, null);
         }
 
-        try {
-            // AWS Secrets Manager에서 키 가져오기
-            String encryptionKey = getEncryptionKey();
-
-            // Base64로 인코딩된 키를 디코딩
-            byte[] decodedKey = Base64.getDecoder().decode(encryptionKey);
-            SecretKeySpec secretKey = new SecretKeySpec(decodedKey, ALGORITHM);
-
-            // 랜덤 IV 생성 (CSPRNG 사용)
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            SecureRandom.getInstanceStrong().nextBytes(iv);
+        GCMBinaryResult result = encryptGCMBytes(plainText.getBytes(StandardCharsets.UTF_8), userId);
+        return new GCMEncryptionResult(
+                Base64.getEncoder().encodeToString(result.getCipherText()),
+                Base64.getEncoder().encodeToString(result.getIv()),
+                result.getKeyVersion());
+    }
 
-            // GCM 모드로 암호화
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            GCMParameterSpec gcmSpec = new GCMParameterSpec(GCM_TAG_LENGTH * 8, iv);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey, gcmSpec);
+    /**
+     * 바이트 배열을 GCM 방식으로 암호화합니다. (Base64 중간 변환 없음)
+     *
+     * @param plainBytes 암호화할 바이트
+     * @param userId     사용자 ID (AAD용)
+     * @return GCMBinaryResult (ciphertext||tag, IV, 키 버전)
+     */
+    public GCMBinaryResult encryptGCMBytes(byte[] plainBytes, Integer userId) {
+        try {
+            // 캐시된 현재 키 사용
+            DataKey dataKey = dataKeyProvider.getCurrentKey();
 
-            // AAD (Additional Authenticated Data) 설정 (userId만 사용)
-            String aadData = String.format("userId:%d", userId);
-            cipher.updateAAD(aadData.getBytes(StandardCharsets.UTF_8));
+            // 랜덤 IV 생성 (스레드별 논블로킹 DRBG)
+            byte[] iv = cryptoEngine.newIv();
 
-            // 암호화 (ciphertext||tag 자동 생성)
-            byte[] encryptedBytes = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+            // 암호화 (ciphertext||tag 자동 생성, AAD는 userId만 사용)
+            byte[] encryptedBytes = cryptoEngine.encrypt(dataKey.getSecretKey(), iv, userAad(userId), plainBytes);
 
-            return new GCMEncryptionResult(
-                    Base64.getEncoder().encodeToString(encryptedBytes),
-                    Base64.getEncoder().encodeToString(iv));
+            return new GCMBinaryResult(encryptedBytes, iv, dataKey.getVersion());
 
         } catch (Exception e) {
             log.error("GCM 암호화 중 오류 발생: {}", e.getMessage(), e);
@@ -105,55 +97,59 @@ public class EncryptionUtils {
      *
      * @param encryptedData ciphertext||tag (Base64)
      * @param iv            초기화 벡터 (Base64)
+     * @param keyVersion    암호화에 사용된 키 버전 (null이면 현재 키)
      * @param userId        사용자 ID (AAD용)
      * @param diaryId       일기 ID (하위 호환성용, null 가능)
      * @return 복호화된 원본 텍스트
      */
-    public String decryptGCM(String encryptedData, String iv, Integer userId, Integer diaryId) {
+    public String decryptGCM(String encryptedData, String iv, String keyVersion, Integer userId, Integer diaryId) {
         if (encryptedData == null || encryptedData.isEmpty() || iv == null) {
             throw new RuntimeException("복호화 실패: 필수 데이터 누락");
         }
 
-        // AWS Secrets Manager에서 키 가져오기
-        String encryptionKey = getEncryptionKey();
-
-        // Base64로 인코딩된 키를 디코딩
-        byte[] decodedKey = Base64.getDecoder().decode(encryptionKey);
-        SecretKeySpec secretKey = new SecretKeySpec(decodedKey, ALGORITHM);
-
         // Base64 디코딩
         byte[] ivBytes = Base64.getDecoder().decode(iv);
         byte[] encryptedBytes = Base64.getDecoder().decode(encryptedData);
 
-        // 1. 새로운 방식 시도 (userId만 사용)
-        try {
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            GCMParameterSpec gcmSpec = new GCMParameterSpec(GCM_TAG_LENGTH * 8, ivBytes);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey, gcmSpec);
+        byte[] decryptedBytes = decryptGCMBytes(encryptedBytes, ivBytes, keyVersion, userId, diaryId);
+        return new String(decryptedBytes, StandardCharsets.UTF_8);
+    }
 
-            String aadData = String.format("userId:%d", userId);
-            cipher.updateAAD(aadData.getBytes(StandardCharsets.UTF_8));
+    /**
+     * GCM 방식으로 암호화된 바이트 배열을 복호화합니다. (Base64 중간 변환 없음)
+     * 하위 호환성을 위해 두 가지 AAD 방식을 시도합니다.
+     *
+     * @param encryptedBytes ciphertext||tag
+     * @param ivBytes        초기화 벡터
+     * @param keyVersion     암호화에 사용된 키 버전 (null이면 현재 키)
+     * @param userId         사용자 ID (AAD용)
+     * @param diaryId        일기 ID (하위 호환성용, null 가능)
+     * @return 복호화된 바이트
+     */
+    public byte[] decryptGCMBytes(byte[] encryptedBytes, byte[] ivBytes, String keyVersion, Integer userId,
+            Integer diaryId) {
+        // 캐시된 키 사용 (버전 지정 시 해당 버전)
+        SecretKey secretKey = dataKeyProvider.getKey(keyVersion).getSecretKey();
+        return decryptGCMBytes(secretKey, encryptedBytes, ivBytes, userId, diaryId);
+    }
 
-            byte[] decryptedBytes = cipher.doFinal(encryptedBytes);
-            log.info("GCM 복호화 성공 (새로운 방식): userId={}", userId);
-            return new String(decryptedBytes, StandardCharsets.UTF_8);
+    private byte[] decryptGCMBytes(SecretKey secretKey, byte[] encryptedBytes, byte[] ivBytes, Integer userId,
+            Integer diaryId) {
+        // 1. 새로운 방식 시도 (userId만 사용)
+        try {
+            byte[] decryptedBytes = cryptoEngine.decrypt(secretKey, ivBytes, userAad(userId), encryptedBytes);
+            log.debug("GCM 복호화 성공 (새로운 방식): userId={}", userId);
+            return decryptedBytes;
 
         } catch (Exception e1) {
-            log.warn("새로운 방식 복호화 실패, 하위 호환성 시도: userId={}, diaryId={}", userId, diaryId);
-
-            // 2. 기존 방식 시도 (userId,diaryId 사용) - 하위 호환성
+            // 2. 기존 방식 시도 (userId,diaryId 사용) - 하위 호환성 (diaryId가 주어진 경우만)
             if (diaryId != null) {
+                log.warn("새로운 방식 복호화 실패, 하위 호환성 시도: userId={}, diaryId={}", userId, diaryId);
                 try {
-                    Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-                    GCMParameterSpec gcmSpec = new GCMParameterSpec(GCM_TAG_LENGTH * 8, ivBytes);
-                    cipher.init(Cipher.DECRYPT_MODE, secretKey, gcmSpec);
-
-                    String aadData = String.format("userId:%d,diaryId:%d", userId, diaryId);
-                    cipher.updateAAD(aadData.getBytes(StandardCharsets.UTF_8));
-
-                    byte[] decryptedBytes = cipher.doFinal(encryptedBytes);
+                    byte[] decryptedBytes = cryptoEngine.decrypt(secretKey, ivBytes, legacyAad(userId, diaryId),
+                            encryptedBytes);
                     log.info("GCM 복호화 성공 (기존 방식): userId={}, diaryId={}", userId, diaryId);
-                    return new String(decryptedBytes, StandardCharsets.UTF_8);
+                    return decryptedBytes;
 
                 } catch (Exception e2) {
                     log.error("기존 방식 복호화도 실패: userId={}, diaryId={}, error={}", userId, diaryId, e2.getMessage());
@@ -165,6 +161,190 @@ public class EncryptionUtils {
         }
     }
 
+    /**
+     * 구 AAD(userId,diaryId)로 암호화된 바이트 배열을 복호화합니다. (재암호화 마이그레이션용, 단일 시도)
+     *
+     * @throws RuntimeException 태그 검증 실패 등으로 복호화할 수 없는 경우
+     */
+    public byte[] decryptLegacyAadGCMBytes(byte[] encryptedBytes, byte[] ivBytes, String keyVersion, Integer userId,
+            Integer diaryId) {
+        SecretKey secretKey = dataKeyProvider.getKey(keyVersion).getSecretKey();
+        try {
+            return cryptoEngine.decrypt(secretKey, ivBytes, legacyAad(userId, diaryId), encryptedBytes);
+        } catch (Exception e) {
+            throw new RuntimeException("GCM 복호화 실패 (기존 방식)", e);
+        }
+    }
+
+    /**
+     * 텍스트를 압축 후 GCM 암호화하여 바이너리 봉투로 반환합니다. (BLOB 저장용)
+     *
+     * @param plainText 암호화할 텍스트
+     * @param userId    사용자 ID (AAD용)
+     * @return GCMEnvelopeResult (봉투, 키 버전)
+     */
+    public GCMEnvelopeResult encryptEnvelope(String plainText, Integer userId) {
+        try {
+            byte[] plainBytes = plainText.getBytes(StandardCharsets.UTF_8);
+            ContentEnvelope.Payload payload = ContentEnvelope.compress(plainBytes);
+            byte[] header = ContentEnvelope.header(payload.flags(), plainBytes.length);
+
+            DataKey dataKey = dataKeyProvider.getCurrentKey();
+            byte[] iv = cryptoEngine.newIv();
+            byte[] encryptedBytes = cryptoEngine.encrypt(dataKey.getSecretKey(), iv, envelopeAad(userId, header),
+                    payload.bytes());
+
+            return new GCMEnvelopeResult(ContentEnvelope.assemble(header, iv, encryptedBytes), dataKey.getVersion());
+
+        } catch (Exception e) {
+            log.error("GCM 봉투 암호화 중 오류 발생: {}", e.getMessage(), e);
+            throw new RuntimeException("GCM 암호화 실패", e);
+        }
+    }
+
+    /**
+     * 바이너리 봉투를 복호화하고 압축을 해제하여 원문 텍스트를 반환합니다.
+     *
+     * @param envelope   encryptEnvelope로 생성한 봉투
+     * @param keyVersion 암호화에 사용된 키 버전 (null이면 현재 키)
+     * @param userId     사용자 ID (AAD용)
+     * @return 복호화된 원본 텍스트
+     */
+    public String decryptEnvelope(byte[] envelope, String keyVersion, Integer userId) {
+        SecretKey secretKey = dataKeyProvider.getKey(keyVersion).getSecretKey();
+        return decryptEnvelope(secretKey, envelope, userId);
+    }
+
+    private String decryptEnvelope(SecretKey secretKey, byte[] envelope, Integer userId) {
+        ContentEnvelope.Parsed parsed = ContentEnvelope.parse(envelope);
+
+        byte[] payload;
+        try {
+            payload = cryptoEngine.decrypt(secretKey, parsed.iv(), envelopeAad(userId, parsed.header()),
+                    parsed.cipherText());
+        } catch (Exception e) {
+            log.error("GCM 봉투 복호화 실패: userId={}, error={}", userId, e.getMessage());
+            throw new RuntimeException("GCM 복호화 실패", e);
+        }
+
+        byte[] plainBytes = ContentEnvelope.decompress(payload, parsed.flags(), parsed.plainLength());
+        return new String(plainBytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 여러 암호문을 한 번에 복호화합니다. (목록 조회용)
+     * 키 버전별로 키를 한 번만 조회하고, 건수가 많으면 제한된 스레드 풀에 구간별로 나눠 병렬 처리합니다.
+     * 하나라도 실패하면 예외가 전파됩니다.
+     *
+     * @param items 복호화 대상 (순서 유지)
+     * @return items와 같은 순서의 복호화 결과
+     */
+    public List<String> decryptBatch(List<BatchDecryptItem> items) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+
+        // 키 버전별 1회 조회
+        Map<String, SecretKey> keys = new HashMap<>();
+        for (BatchDecryptItem item : items) {
+            if (item.type != BatchDecryptItem.Type.PLAIN && !keys.containsKey(item.keyVersion)) {
+                keys.put(item.keyVersion, dataKeyProvider.getKey(item.keyVersion).getSecretKey());
+            }
+        }
+
+        String[] results = new String[items.size()];
+        if (items.size() < BATCH_PARALLEL_THRESHOLD) {
+            decryptRange(items, keys, results, 0, items.size());
+            return Arrays.asList(results);
+        }
+
+        // 스레드별 Cipher 재사용을 위해 건별이 아닌 구간별로 작업 분할
+        int sliceSize = (items.size() + BATCH_THREADS - 1) / BATCH_THREADS;
+        List<Future<?>> futures = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += sliceSize) {
+            int start = from;
+            int end = Math.min(from + sliceSize, items.size());
+            futures.add(batchExecutor.submit(() -> decryptRange(items, keys, results, start, end)));
+        }
+
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("GCM 일괄 복호화 실패", e.getCause());
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("GCM 일괄 복호화 중단", e);
+        }
+        return Arrays.asList(results);
+    }
+
+    private void decryptRange(List<BatchDecryptItem> items, Map<String, SecretKey> keys, String[] results,
+            int start, int end) {
+        for (int i = start; i < end; i++) {
+            BatchDecryptItem item = items.get(i);
+            results[i] = switch (item.type) {
+                case PLAIN -> item.plainText;
+                case ENVELOPE -> decryptEnvelope(keys.get(item.keyVersion), item.envelope, item.userId);
+                case GCM -> new String(
+                        decryptGCMBytes(keys.get(item.keyVersion),
+                                Base64.getDecoder().decode(item.encryptedData),
+                                Base64.getDecoder().decode(item.iv),
+                                item.userId, item.legacyDiaryId),
+                        StandardCharsets.UTF_8);
+            };
+        }
+    }
+
+    @PreDestroy
+    public void shutdownBatchExecutor() {
+        batchExecutor.shutdown();
+    }
+
+    /**
+     * 암복호화 연산별 소요 시간 통계
+     */
+    public Map<String, Map<String, Object>> getCryptoStats() {
+        return cryptoEngine.getStats();
+    }
+
+    private static byte[] userAad(Integer userId) {
+        return ("userId:" + userId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 봉투 헤더(버전/플래그/원문 길이)도 인증 대상에 포함
+    private static byte[] envelopeAad(Integer userId, byte[] header) {
+        byte[] userAad = userAad(userId);
+        byte[] aad = new byte[userAad.length + header.length];
+        System.arraycopy(userAad, 0, aad, 0, userAad.length);
+        System.arraycopy(header, 0, aad, userAad.length, header.length);
+        return aad;
+    }
+
+    private static byte[] legacyAad(Integer userId, Integer diaryId) {
+        return ("userId:" + userId + ",diaryId:" + diaryId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * GCM 방식으로 암호화된 텍스트를 현재 키로 복호화합니다.
+     * 하위 호환성을 위해 두 가지 AAD 방식을 시도합니다.
+     *
+     * @param encryptedData ciphertext||tag (Base64)
+     * @param iv            초기화 벡터 (Base64)
+     * @param userId        사용자 ID (AAD용)
+     * @param diaryId       일기 ID (하위 호환성용, null 가능)
+     * @return 복호화된 원본 텍스트
+     */
+    public String decryptGCM(String encryptedData, String iv, Integer userId, Integer diaryId) {
+        return decryptGCM(encryptedData, iv, null, userId, diaryId);
+    }
+
     /**
      * GCM 방식으로 암호화된 텍스트를 복호화합니다. (diaryId 없이)
      *
@@ -183,10 +363,12 @@ public class EncryptionUtils {
     public static class GCMEncryptionResult {
         private final String encryptedData; // ciphertext||tag
         private final String iv;
+        private final String keyVersion;
 
-        public GCMEncryptionResult(String encryptedData, String iv) {
+        public GCMEncryptionResult(String encryptedData, String iv, String keyVersion) {
             this.encryptedData = encryptedData;
             this.iv = iv;
+            this.keyVersion = keyVersion;
         }
 
         public String getEncryptedData() {
@@ -196,5 +378,109 @@ public class EncryptionUtils {
         public String getIv() {
             return iv;
         }
+
+        public String getKeyVersion() {
+            return keyVersion;
+        }
+    }
+
+    /**
+     * GCM 암호화 결과 (바이트 배열)
+     */
+    public static class GCMBinaryResult {
+        private final byte[] cipherText; // ciphertext||tag
+        private final byte[] iv;
+        private final String keyVersion;
+
+        public GCMBinaryResult(byte[] cipherText, byte[] iv, String keyVersion) {
+            this.cipherText = cipherText;
+            this.iv = iv;
+            this.keyVersion = keyVersion;
+        }
+
+        public byte[] getCipherText() {
+            return cipherText;
+        }
+
+        public byte[] getIv() {
+            return iv;
+        }
+
+        public String getKeyVersion() {
+            return keyVersion;
+        }
+    }
+
+    /**
+     * GCM 봉투 암호화 결과
+     */
+    public static class GCMEnvelopeResult {
+        private final byte[] envelope; // header||iv||ciphertext||tag
+        private final String keyVersion;
+
+        public GCMEnvelopeResult(byte[] envelope, String keyVersion) {
+            this.envelope = envelope;
+            this.keyVersion = keyVersion;
+        }
+
+        public byte[] getEnvelope() {
+            return envelope;
+        }
+
+        public String getKeyVersion() {
+            return keyVersion;
+        }
+    }
+
+    /**
+     * 일괄 복호화 대상 한 건
+     */
+    public static class BatchDecryptItem {
+        private enum Type {
+            PLAIN, GCM, ENVELOPE
+        }
+
+        private final Type type;
+        private final String plainText;
+        private final String encryptedData; // ciphertext||tag (Base64)
+        private final String iv; // Base64
+        private final byte[] envelope;
+        private final String keyVersion;
+        private final Integer userId;
+        private final Integer legacyDiaryId;
+
+        private BatchDecryptItem(Type type, String plainText, String encryptedData, String iv, byte[] envelope,
+                String keyVersion, Integer userId, Integer legacyDiaryId) {
+            this.type = type;
+            this.plainText = plainText;
+            this.encryptedData = encryptedData;
+            this.iv = iv;
+            this.envelope = envelope;
+            this.keyVersion = keyVersion;
+            this.userId = userId;
+            this.legacyDiaryId = legacyDiaryId;
+        }
+
+        /**
+         * Base64 GCM 포맷 (legacyDiaryId가 있으면 구 AAD 하위 호환 시도)
+         */
+        public static BatchDecryptItem gcm(String encryptedData, String iv, String keyVersion, Integer userId,
+                Integer legacyDiaryId) {
+            return new BatchDecryptItem(Type.GCM, null, encryptedData, iv, null, keyVersion, userId, legacyDiaryId);
+        }
+
+        /**
+         * 압축 봉투 포맷
+         */
+        public static BatchDecryptItem envelope(byte[] envelope, String keyVersion, Integer userId) {
+            return new BatchDecryptItem(Type.ENVELOPE, null, null, null, envelope, keyVersion, userId, null);
+        }
+
+        /**
+         * 암호화되지 않은 값 (그대로 반환)
+         */
+        public static BatchDecryptItem plain(String plainText) {
+            return new BatchDecryptItem(Type.PLAIN, plainText, null, null, null, null, null, null);
+        }
     }
 }
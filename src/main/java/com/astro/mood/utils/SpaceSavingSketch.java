@@ -0,0 +1,141 @@
+package com.astro.mood.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 빈도 상위 항목 추정 (Space-Saving, Stream-Summary 구조)
+ * - 최대 capacity 개의 카운터만 유지하고, 가득 차면 가장 작은 카운터를 새 키로 교체 (이전 값을 오차로 기록)
+ * - 실제 빈도가 전체의 1/capacity 를 넘는 키는 반드시 남음
+ * - 같은 값의 카운터를 묶음(Group)으로 모아 값 오름차순으로 이어 두므로 증가/교체 모두 O(1)
+ */
+public final class SpaceSavingSketch<K> {
+
+    private final int capacity;
+    private final Map<K, Counter<K>> counters;
+    private Group<K> min; // 가장 작은 값의 묶음
+
+    public SpaceSavingSketch(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    public synchronized void add(K key) {
+        Counter<K> counter = counters.get(key);
+        if (counter != null) {
+            increment(counter);
+            return;
+        }
+        if (counters.size() < capacity) {
+            counter = new Counter<>(key, 0);
+            counters.put(key, counter);
+            if (min == null || min.count != 1) {
+                Group<K> group = new Group<>(1);
+                group.next = min;
+                if (min != null) {
+                    min.prev = group;
+                }
+                min = group;
+            }
+            min.attach(counter);
+            return;
+        }
+
+        // 가장 작은 묶음의 아무 카운터나 새 키로 교체
+        counter = min.first;
+        counters.remove(counter.key);
+        counter.key = key;
+        counter.error = min.count;
+        counters.put(key, counter);
+        increment(counter);
+    }
+
+    public synchronized void clear() {
+        counters.clear();
+        min = null;
+    }
+
+    /**
+     * 현재 추정치를 totals 에 더합니다. (값: [추정 빈도, 최대 오차])
+     */
+    public synchronized void addTo(Map<K, long[]> totals) {
+        counters.forEach((key, counter) -> {
+            long[] total = totals.computeIfAbsent(key, k -> new long[2]);
+            total[0] += counter.group.count;
+            total[1] += counter.error;
+        });
+    }
+
+    /**
+     * 카운터를 값이 하나 큰 묶음으로 옮김 (없으면 바로 뒤에 만들고, 빈 묶음은 제거)
+     */
+    private void increment(Counter<K> counter) {
+        Group<K> group = counter.group;
+        Group<K> target = group.next;
+        if (target == null || target.count != group.count + 1) {
+            target = new Group<>(group.count + 1);
+            target.prev = group;
+            target.next = group.next;
+            if (group.next != null) {
+                group.next.prev = target;
+            }
+            group.next = target;
+        }
+        group.detach(counter);
+        target.attach(counter);
+
+        if (group.first == null) {
+            if (group.prev == null) {
+                min = group.next;
+            } else {
+                group.prev.next = group.next;
+            }
+            group.next.prev = group.prev;
+        }
+    }
+
+    private static final class Counter<K> {
+        private K key;
+        private long error;
+        private Group<K> group;
+        private Counter<K> prev;
+        private Counter<K> next;
+
+        private Counter(K key, long error) {
+            this.key = key;
+            this.error = error;
+        }
+    }
+
+    private static final class Group<K> {
+        private final long count;
+        private Counter<K> first;
+        private Group<K> prev;
+        private Group<K> next;
+
+        private Group(long count) {
+            this.count = count;
+        }
+
+        private void attach(Counter<K> counter) {
+            counter.group = this;
+            counter.prev = null;
+            counter.next = first;
+            if (first != null) {
+                first.prev = counter;
+            }
+            first = counter;
+        }
+
+        private void detach(Counter<K> counter) {
+            if (counter.prev == null) {
+                first = counter.next;
+            } else {
+                counter.prev.next = counter.next;
+            }
+            if (counter.next != null) {
+                counter.next.prev = counter.prev;
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.astro.mood.utils.crypto;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 압축 후 암호화하는 바이너리 봉투 포맷 (BLOB 컬럼 저장용, Base64 없음)
+ *
+ * <pre>
+ * [version 1B][flags 1B][plainLength 4B][iv 12B][ciphertext||tag]
+ * </pre>
+ *
+ * - flags bit0: 평문을 raw deflate로 압축한 뒤 암호화했는지 여부
+ * - plainLength: 압축 해제 후 원문 바이트 길이 (해제 시 크기 검증용)
+ * - 헤더(version~plainLength)는 AAD에 포함되어 변조 시 태그 검증이 실패한다.
+ */
+public final class ContentEnvelope {
+
+    public static final byte VERSION_1 = 1;
+    public static final int FLAG_DEFLATE = 0x01;
+    public static final int HEADER_LENGTH = 6; // version + flags + plainLength
+    public static final int PREFIX_LENGTH = HEADER_LENGTH + GcmCryptoEngine.GCM_IV_LENGTH;
+
+    // 짧은 글은 압축 이득보다 deflate 오버헤드가 커서 원문 그대로 암호화
+    private static final int MIN_COMPRESS_LENGTH = 64;
+    // 압축 해제 상한 (일기 최대 10,000자 * UTF-8 4바이트 여유)
+    private static final int MAX_PLAIN_LENGTH = 64 * 1024;
+
+    private ContentEnvelope() {
+    }
+
+    /**
+     * 평문을 (이득이 있을 때만) 압축합니다.
+     *
+     * @return 압축본 또는 원문 그대로, 그리고 사용한 flags
+     */
+    public static Payload compress(byte[] plainBytes) {
+        if (plainBytes.length < MIN_COMPRESS_LENGTH) {
+            return new Payload(plainBytes, 0);
+        }
+
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(plainBytes);
+            deflater.finish();
+            byte[] buffer = new byte[plainBytes.length];
+            int length = 0;
+            while (!deflater.finished() && length < buffer.length) {
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+            // 압축 결과가 원문보다 작지 않으면 압축하지 않음
+            if (!deflater.finished()) {
+                return new Payload(plainBytes, 0);
+            }
+            return new Payload(Arrays.copyOf(buffer, length), FLAG_DEFLATE);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * 복호화된 payload를 flags에 따라 원문으로 되돌립니다.
+     */
+    public static byte[] decompress(byte[] payload, int flags, int plainLength) {
+        if ((flags & FLAG_DEFLATE) == 0) {
+            return payload;
+        }
+        if (plainLength < 0 || plainLength > MAX_PLAIN_LENGTH) {
+            throw new IllegalArgumentException("봉투 원문 길이가 허용 범위를 벗어남: " + plainLength);
+        }
+
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(payload);
+            byte[] plainBytes = new byte[plainLength];
+            int length = 0;
+            while (length < plainLength && !inflater.finished()) {
+                int n = inflater.inflate(plainBytes, length, plainLength - length);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += n;
+            }
+            if (length != plainLength) {
+                throw new IllegalArgumentException("봉투 압축 해제 길이 불일치: expected=" + plainLength + ", actual=" + length);
+            }
+            return plainBytes;
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("봉투 압축 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * 헤더 바이트를 생성합니다. (AAD와 봉투 앞부분에 동일하게 사용)
+     */
+    public static byte[] header(int flags, int plainLength) {
+        return ByteBuffer.allocate(HEADER_LENGTH)
+                .put(VERSION_1)
+                .put((byte) flags)
+                .putInt(plainLength)
+                .array();
+    }
+
+    /**
+     * 헤더 + IV + 암호문을 하나의 봉투로 조립합니다.
+     */
+    public static byte[] assemble(byte[] header, byte[] iv, byte[] cipherText) {
+        return ByteBuffer.allocate(header.length + iv.length + cipherText.length)
+                .put(header)
+                .put(iv)
+                .put(cipherText)
+                .array();
+    }
+
+    /**
+     * 봉투를 헤더/IV/암호문으로 분해합니다.
+     */
+    public static Parsed parse(byte[] envelope) {
+        if (envelope == null || envelope.length < PREFIX_LENGTH + GcmCryptoEngine.GCM_TAG_LENGTH) {
+            throw new IllegalArgumentException("봉투 길이가 올바르지 않음");
+        }
+        if (envelope[0] != VERSION_1) {
+            throw new IllegalArgumentException("지원하지 않는 봉투 버전: " + envelope[0]);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(envelope);
+        buffer.get(); // version
+        int flags = buffer.get() & 0xFF;
+        int plainLength = buffer.getInt();
+
+        return new Parsed(
+                Arrays.copyOfRange(envelope, 0, HEADER_LENGTH),
+                flags,
+                plainLength,
+                Arrays.copyOfRange(envelope, HEADER_LENGTH, PREFIX_LENGTH),
+                Arrays.copyOfRange(envelope, PREFIX_LENGTH, envelope.length));
+    }
+
+    /**
+     * 암호화 직전 payload
+     */
+    public record Payload(byte[] bytes, int flags) {
+    }
+
+    /**
+     * 분해된 봉투
+     */
+    public record Parsed(byte[] header, int flags, int plainLength, byte[] iv, byte[] cipherText) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.astro.mood.utils.crypto;
+
+import javax.crypto.SecretKey;
+
+/**
+ * 복호화된 데이터 암호화 키와 그 버전
+ * 버전은 일기 행의 key_version 컬럼에 IV와 함께 저장된다.
+ */
+public class DataKey {
+    private final String version;
+    private final SecretKey secretKey;
+    private final long loadedAtMillis;
+
+    public DataKey(String version, SecretKey secretKey, long loadedAtMillis) {
+        this.version = version;
+        this.secretKey = secretKey;
+        this.loadedAtMillis = loadedAtMillis;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public SecretKey getSecretKey() {
+        return secretKey;
+    }
+
+    public long getLoadedAtMillis() {
+        return loadedAtMillis;
+    }
+}
@@ -0,0 +1,20 @@
+package com.astro.mood.utils.crypto;
+
+/**
+ * 데이터 암호화 키 제공자
+ * 구현체는 키를 메모리에 캐시하여 암복호화마다 원격 호출이 발생하지 않도록 한다.
+ */
+public interface DataKeyProvider {
+
+    /**
+     * 새 데이터를 암호화할 때 사용할 현재 키를 반환합니다.
+     */
+    DataKey getCurrentKey();
+
+    /**
+     * 특정 버전의 키를 반환합니다.
+     *
+     * @param keyVersion 키 버전 (null이면 현재 키 - 버전 컬럼 도입 이전 데이터)
+     */
+    DataKey getKey(String keyVersion);
+}
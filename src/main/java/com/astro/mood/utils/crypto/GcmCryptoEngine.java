@@ -0,0 +1,138 @@
+package com.astro.mood.utils.crypto;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.security.GeneralSecurityException;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AES-GCM 암복호화 엔진 (byte[] API)
+ * - IV 생성: 스레드별 논블로킹 DRBG (SecureRandom.getInstanceStrong()은 /dev/random에서 블로킹될 수 있음)
+ * - Cipher: 스레드별 인스턴스를 재사용하고 호출마다 init만 수행 (Cipher.getInstance 조회 비용 제거)
+ * - 연산별 소요 시간 집계
+ */
+@Component
+@Slf4j
+public class GcmCryptoEngine {
+
+    public static final int GCM_IV_LENGTH = 12; // GCM 표준 IV 길이
+    public static final int GCM_TAG_LENGTH = 16; // GCM 인증 태그 길이
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+
+    private final ThreadLocal<SecureRandom> random = ThreadLocal.withInitial(GcmCryptoEngine::createRandom);
+    private final ThreadLocal<Cipher> cipher = ThreadLocal.withInitial(GcmCryptoEngine::createCipher);
+
+    private final OperationStats encryptStats = new OperationStats();
+    private final OperationStats decryptStats = new OperationStats();
+    private final OperationStats decryptFailureStats = new OperationStats();
+
+    /**
+     * 새 랜덤 IV를 생성합니다.
+     */
+    public byte[] newIv() {
+        byte[] iv = new byte[GCM_IV_LENGTH];
+        random.get().nextBytes(iv);
+        return iv;
+    }
+
+    /**
+     * 암호화합니다.
+     *
+     * @return ciphertext||tag
+     */
+    public byte[] encrypt(SecretKey key, byte[] iv, byte[] aad, byte[] plainText) throws GeneralSecurityException {
+        long start = System.nanoTime();
+        Cipher c = cipher.get();
+        c.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH * 8, iv));
+        if (aad != null) {
+            c.updateAAD(aad);
+        }
+        byte[] result = c.doFinal(plainText);
+        encryptStats.record(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * 복호화합니다. 태그 검증에 실패하면 AEADBadTagException이 발생합니다.
+     *
+     * @param cipherText ciphertext||tag
+     */
+    public byte[] decrypt(SecretKey key, byte[] iv, byte[] aad, byte[] cipherText) throws GeneralSecurityException {
+        long start = System.nanoTime();
+        try {
+            Cipher c = cipher.get();
+            c.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH * 8, iv));
+            if (aad != null) {
+                c.updateAAD(aad);
+            }
+            byte[] result = c.doFinal(cipherText);
+            decryptStats.record(System.nanoTime() - start);
+            return result;
+        } catch (GeneralSecurityException e) {
+            decryptFailureStats.record(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * 연산별 통계 스냅샷 (count, 평균/최대 마이크로초)
+     */
+    public Map<String, Map<String, Object>> getStats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        stats.put("encrypt", encryptStats.snapshot());
+        stats.put("decrypt", decryptStats.snapshot());
+        stats.put("decryptFailure", decryptFailureStats.snapshot());
+        return stats;
+    }
+
+    private static SecureRandom createRandom() {
+        try {
+            // NIST SP 800-90A DRBG - 시드 이후 블로킹 없이 생성
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            log.warn("DRBG를 사용할 수 없어 기본 SecureRandom 사용");
+            return new SecureRandom();
+        }
+    }
+
+    private static Cipher createCipher() {
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cipher 생성 실패: " + TRANSFORMATION, e);
+        }
+    }
+
+    /**
+     * 락 없이 누적되는 연산 통계
+     */
+    private static class OperationStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        Map<String, Object> snapshot() {
+            long n = count.sum();
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("count", n);
+            snapshot.put("avgMicros", n == 0 ? 0 : totalNanos.sum() / n / 1000);
+            snapshot.put("maxMicros", maxNanos.get() / 1000);
+            return snapshot;
+        }
+    }
+}
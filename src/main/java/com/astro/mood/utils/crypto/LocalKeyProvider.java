@@ -0,0 +1,106 @@
+package com.astro.mood.utils.crypto;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬/파일 기반 키 제공자 (테스트, 로컬 개발용)
+ * encryption.key-provider=local 일 때 사용된다.
+ *
+ * 키 파일 형식 (properties):
+ * <pre>
+ * current=v2
+ * key.v1=Base64인코딩된키
+ * key.v2=Base64인코딩된키
+ * </pre>
+ * 키 파일이 없으면 실행 중에만 유효한 임시 키를 생성한다.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "encryption.key-provider", havingValue = "local")
+public class LocalKeyProvider implements DataKeyProvider {
+
+    private static final String ALGORITHM = "AES";
+    private static final String EPHEMERAL_VERSION = "local-ephemeral";
+
+    @Value("${encryption.local-key-file:}")
+    private String keyFile;
+
+    private final Map<String, DataKey> keysByVersion = new ConcurrentHashMap<>();
+    private volatile DataKey currentKey;
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (keyFile == null || keyFile.isBlank()) {
+            byte[] generated = new byte[32];
+            new SecureRandom().nextBytes(generated);
+            register(EPHEMERAL_VERSION, generated, true);
+            log.warn("로컬 키 파일이 지정되지 않아 임시 키를 사용합니다. 재시작 시 기존 암호문은 복호화할 수 없습니다.");
+            return;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(Path.of(keyFile))) {
+            properties.load(in);
+        }
+
+        String current = properties.getProperty("current");
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith("key.")) {
+                String version = name.substring("key.".length());
+                register(version, Base64.getDecoder().decode(properties.getProperty(name).trim()),
+                        version.equals(current));
+            }
+        }
+
+        if (currentKey == null) {
+            throw new IllegalStateException("로컬 키 파일에 current 키가 없습니다: " + keyFile);
+        }
+        log.info("로컬 키 파일 로드 완료: file={}, versions={}, current={}", keyFile, keysByVersion.keySet(), current);
+    }
+
+    /**
+     * 키를 직접 등록합니다. (테스트에서 스프링 컨텍스트 없이 사용)
+     */
+    public void register(String version, byte[] key, boolean current) {
+        DataKey dataKey = new DataKey(version, new SecretKeySpec(key, ALGORITHM), System.currentTimeMillis());
+        keysByVersion.put(version, dataKey);
+        if (current) {
+            currentKey = dataKey;
+        }
+    }
+
+    @Override
+    public DataKey getCurrentKey() {
+        if (currentKey == null) {
+            throw new IllegalStateException("로컬 암호화 키가 설정되지 않았습니다");
+        }
+        return currentKey;
+    }
+
+    @Override
+    public DataKey getKey(String keyVersion) {
+        if (keyVersion == null || keyVersion.isEmpty()) {
+            return getCurrentKey();
+        }
+        DataKey key = keysByVersion.get(keyVersion);
+        if (key == null) {
+            throw new IllegalStateException("알 수 없는 암호화 키 버전: " + keyVersion);
+        }
+        return key;
+    }
+}
@@ -0,0 +1,148 @@
+package com.astro.mood.utils.crypto;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * AWS Secrets Manager 기반 키 제공자 (기본값)
+ * - 현재 키(AWSCURRENT)는 TTL 동안 메모리에 캐시하고, 만료 전에 백그라운드에서 갱신
+ * - 버전 지정 키는 불변이므로 한 번 조회하면 계속 캐시
+ * - 갱신 실패 시 기존 키를 계속 사용 (Secrets Manager 장애가 일기 조회 장애로 번지지 않도록)
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "encryption.key-provider", havingValue = "secrets-manager", matchIfMissing = true)
+public class SecretsManagerKeyProvider implements DataKeyProvider {
+
+    private static final String ALGORITHM = "AES";
+
+    @Value("${aws.secrets.encryption-key-id}")
+    private String secretId;
+
+    @Value("${aws.secrets.encryption-key-cache-ttl-seconds:3600}")
+    private long cacheTtlSeconds;
+
+    @Value("${aws.secrets.encryption-key-refresh-ahead-seconds:300}")
+    private long refreshAheadSeconds;
+
+    private final SecretsManagerClient secretsManagerClient;
+
+    // 버전별 키 캐시 (Secrets Manager VersionId -> 키)
+    private final Map<String, DataKey> keysByVersion = new ConcurrentHashMap<>();
+
+    private volatile DataKey currentKey;
+
+    public SecretsManagerKeyProvider() {
+        this.secretsManagerClient = SecretsManagerClient.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .build();
+    }
+
+    @Override
+    public DataKey getCurrentKey() {
+        DataKey key = currentKey;
+        if (key != null && !isExpired(key)) {
+            return key;
+        }
+
+        synchronized (this) {
+            key = currentKey;
+            if (key != null && !isExpired(key)) {
+                return key;
+            }
+            try {
+                return loadCurrentKey();
+            } catch (RuntimeException e) {
+                if (key != null) {
+                    log.warn("암호화 키 갱신 실패, 기존 키 계속 사용: version={}, error={}", key.getVersion(), e.getMessage());
+                    return key;
+                }
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public DataKey getKey(String keyVersion) {
+        if (keyVersion == null || keyVersion.isEmpty()) {
+            return getCurrentKey();
+        }
+        return keysByVersion.computeIfAbsent(keyVersion, this::fetchKey);
+    }
+
+    /**
+     * 현재 키가 만료되기 전에 미리 갱신합니다. (요청 스레드가 원격 호출을 기다리지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${aws.secrets.encryption-key-refresh-check-ms:60000}")
+    public void refreshCurrentKeyIfNeeded() {
+        DataKey key = currentKey;
+        if (key == null) {
+            return;
+        }
+
+        long age = System.currentTimeMillis() - key.getLoadedAtMillis();
+        if (age < (cacheTtlSeconds - refreshAheadSeconds) * 1000) {
+            return;
+        }
+
+        try {
+            synchronized (this) {
+                DataKey refreshed = loadCurrentKey();
+                if (!refreshed.getVersion().equals(key.getVersion())) {
+                    log.info("암호화 키 버전 변경 감지: {} -> {}", key.getVersion(), refreshed.getVersion());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("암호화 키 백그라운드 갱신 실패: version={}, error={}", key.getVersion(), e.getMessage());
+        }
+    }
+
+    private DataKey loadCurrentKey() {
+        DataKey loaded = fetchKey(null);
+        keysByVersion.put(loaded.getVersion(), loaded);
+        currentKey = loaded;
+        return loaded;
+    }
+
+    private boolean isExpired(DataKey key) {
+        return System.currentTimeMillis() - key.getLoadedAtMillis() >= cacheTtlSeconds * 1000;
+    }
+
+    /**
+     * AWS Secrets Manager에서 암호화 키를 가져옵니다.
+     *
+     * @param versionId 조회할 VersionId (null이면 AWSCURRENT)
+     */
+    private DataKey fetchKey(String versionId) {
+        try {
+            GetSecretValueRequest.Builder request = GetSecretValueRequest.builder()
+                    .secretId(secretId);
+            if (versionId != null) {
+                request.versionId(versionId);
+            }
+
+            GetSecretValueResponse response = secretsManagerClient.getSecretValue(request.build());
+            byte[] decodedKey = Base64.getDecoder().decode(response.secretString());
+
+            log.info("암호화 키 조회 완료: secretId={}, version={}", secretId, response.versionId());
+            return new DataKey(response.versionId(), new SecretKeySpec(decodedKey, ALGORITHM),
+                    System.currentTimeMillis());
+
+        } catch (Exception e) {
+            log.error("암호화 키 조회 실패: secretId={}, version={}, error={}", secretId, versionId, e.getMessage(), e);
+            throw new RuntimeException("암호화 키 조회 실패", e);
+        }
+    }
+}
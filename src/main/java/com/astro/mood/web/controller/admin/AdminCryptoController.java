@@ -0,0 +1,28 @@
+package com.astro.mood.web.controller.admin;
+
+import com.astro.mood.utils.EncryptionUtils;
+import com.astro.mood.web.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 암복호화 연산 통계 조회 API (ROLE_ADMIN)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/crypto-stats")
+public class AdminCryptoController {
+
+    private final EncryptionUtils encryptionUtils;
+
+    // 연산별(encrypt/decrypt/decryptFailure) 횟수, 평균/최대 소요 시간
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Map<String, Object>>>> getCryptoStats() {
+        return ResponseEntity.ok(ApiResponse.ok(encryptionUtils.getCryptoStats()));
+    }
+}
@@ -0,0 +1,28 @@
+package com.astro.mood.web.controller.admin;
+
+import com.astro.mood.config.DataSourcePoolMetrics;
+import com.astro.mood.web.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 커넥션 풀 상태 조회 API (ROLE_ADMIN)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/db-pool")
+public class AdminDataSourceController {
+
+    private final DataSourcePoolMetrics dataSourcePoolMetrics;
+
+    // 활성/유휴/대기 수, 커넥션 획득 대기 시간 등
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getPoolMetrics() {
+        return ResponseEntity.ok(ApiResponse.ok(dataSourcePoolMetrics.snapshot()));
+    }
+}
@@ -0,0 +1,43 @@
+package com.astro.mood.web.controller.admin;
+
+import com.astro.mood.service.diary.DiaryContentMigrationJob;
+import com.astro.mood.web.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 일기 암호문 마이그레이션 관리 API (ROLE_ADMIN)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/diary-migration")
+public class AdminDiaryMigrationController {
+
+    private final DiaryContentMigrationJob migrationJob;
+
+    // 진행 상황 조회
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getProgress() {
+        return ResponseEntity.ok(ApiResponse.ok(migrationJob.getProgress()));
+    }
+
+    // 시작/재개
+    @PostMapping("/start")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> start() {
+        migrationJob.start();
+        return ResponseEntity.ok(ApiResponse.ok(migrationJob.getProgress()));
+    }
+
+    // 일시 중지
+    @PostMapping("/stop")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> stop() {
+        migrationJob.stop();
+        return ResponseEntity.ok(ApiResponse.ok(migrationJob.getProgress()));
+    }
+}
@@ -0,0 +1,51 @@
+package com.astro.mood.web.controller.admin;
+
+import com.astro.mood.config.RateLimitConfig;
+import com.astro.mood.service.ratelimit.AdaptiveConcurrencyLimiter;
+import com.astro.mood.service.ratelimit.DistributedRateLimiter;
+import com.astro.mood.service.ratelimit.GlobalRateLimiter;
+import com.astro.mood.service.ratelimit.RateLimitTelemetry;
+import com.astro.mood.web.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Rate Limit 상태 조회 API (ROLE_ADMIN)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/rate-limit")
+public class AdminRateLimitController {
+
+    private final RateLimitConfig rateLimitConfig;
+    private final DistributedRateLimiter distributedRateLimiter;
+    private final GlobalRateLimiter globalRateLimiter;
+    private final AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+    private final RateLimitTelemetry rateLimitTelemetry;
+
+    // 로컬 버킷 저장소(IP/사용자) 상태 + 공유 저장소 상태 + 서버 전체 한도 + 현재 동시 처리 한도
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("buckets", rateLimitConfig.getBucketStats());
+        status.put("distributed", distributedRateLimiter.stats());
+        status.put("global", globalRateLimiter.stats());
+        status.put("loadShedding", adaptiveConcurrencyLimiter.stats());
+        return ResponseEntity.ok(ApiResponse.ok(status));
+    }
+
+    // 타입별 허용/거부 수 + 최근 minutes 분 동안 거부가 많은 IP/사용자 (추정치, maxError 는 최대 과대 추정)
+    @GetMapping("/telemetry")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getTelemetry(
+            @RequestParam(defaultValue = "5") int minutes,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(ApiResponse.ok(rateLimitTelemetry.snapshot(minutes, Math.max(1, Math.min(limit, 100)))));
+    }
+}
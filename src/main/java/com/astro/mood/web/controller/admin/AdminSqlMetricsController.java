@@ -0,0 +1,36 @@
+package com.astro.mood.web.controller.admin;
+
+import com.astro.mood.web.dto.ApiResponse;
+import com.astro.mood.web.metrics.SqlMetricsRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 엔드포인트별 SQL 지표 조회 API (ROLE_ADMIN)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/sql-metrics")
+public class AdminSqlMetricsController {
+
+    private final SqlMetricsRegistry sqlMetricsRegistry;
+
+    // 엔드포인트별 문장 수 / JDBC 시간 / 엔티티 로드 히스토그램
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getMetrics() {
+        return ResponseEntity.ok(ApiResponse.ok(sqlMetricsRegistry.snapshot()));
+    }
+
+    // 집계 초기화 (배포 전후 비교용)
+    @DeleteMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> reset() {
+        sqlMetricsRegistry.reset();
+        return ResponseEntity.ok(ApiResponse.ok(sqlMetricsRegistry.snapshot()));
+    }
+}
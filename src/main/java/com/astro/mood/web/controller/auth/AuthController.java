@@ -3,6 +3,7 @@ package com.astro.mood.web.controller.auth;
 import com.astro.mood.data.entity.user.User;
 import com.astro.mood.data.entity.user.UserToken;
 import com.astro.mood.security.jwt.JWTUtil;
+import com.astro.mood.security.jwt.UserAuthStatusCache;
 import com.astro.mood.security.login.CustomUserDetails;
 import com.astro.mood.service.auth.CustomUserDetailsService;
 import com.astro.mood.web.dto.ApiResponse;
@@ -31,6 +32,7 @@ public class AuthController {
 
     private final JWTUtil jwtUtil;
     private final CustomUserDetailsService customUserDetailsService;
+    private final UserAuthStatusCache userAuthStatusCache;
 
     @PostMapping("/social/google")
     public ResponseEntity<?> googleLogin(@RequestBody Map<String, String> payload, HttpServletResponse response) {
@@ -317,6 +319,11 @@ public class AuthController {
             @AuthenticationPrincipal CustomUserDetails userDetails,
             HttpServletResponse response) {
 
+        // 이미 발급된 액세스 토큰 폐기 + 리프레시 토큰 삭제 (사용자 단위라 모든 기기가 다시 로그인해야 함)
+        if (userDetails != null) {
+            userAuthStatusCache.revokeIssuedTokens(userDetails.getUserIdx());
+        }
+
         // Access Token 쿠키 삭제
         Cookie accessTokenCookie = new Cookie("accessToken", null);
         accessTokenCookie.setHttpOnly(true);
@@ -1,9 +1,10 @@
 package com.astro.mood.web.controller.auth;
 
+import com.astro.mood.data.entity.user.UserStats;
 import com.astro.mood.security.jwt.JWTUtil;
 import com.astro.mood.security.login.CustomUserDetails;
 import com.astro.mood.service.auth.AuthService;
-import com.astro.mood.service.diary.DiaryService;
+import com.astro.mood.service.diary.UserStatsService;
 import com.astro.mood.service.exception.CustomException;
 import com.astro.mood.service.exception.ErrorCode;
 import com.astro.mood.service.s3Image.AwsS3Service;
@@ -31,7 +32,7 @@ import java.io.IOException;
 @RequestMapping("/api/user")
 public class UserController {
     private final AuthService authService;
-    private final DiaryService diaryService;
+    private final UserStatsService userStatsService;
     // s3 service
     private final AwsS3Service awsS3Service;
 
@@ -164,14 +165,14 @@ public class UserController {
         authService.validateUser(userDetails, loginIdx);
 
         try {
-            // 각 통계 정보 조회
-            java.time.LocalDate firstRecordDate = diaryService.getFirstRecordDate(loginIdx);
-            Integer consecutiveDays = diaryService.getConsecutiveDays(loginIdx);
-            Long totalDiaries = diaryService.getTotalDiariesCount(loginIdx);
+            // 통계 집계 행 1건 조회
+            UserStats userStats = userStatsService.getStats(loginIdx);
+            java.time.LocalDate firstRecordDate = userStats.getFirstRecordDate();
+            Integer consecutiveDays = userStats.getCurrentStreakAsOf(java.time.LocalDate.now());
+            Integer longestStreak = userStats.getLongestStreak();
+            Long totalDiaries = userStats.getTotalDiaries();
 
             // null 값들을 기본값으로 처리
-            if (consecutiveDays == null)
-                consecutiveDays = 0;
             if (totalDiaries == null)
                 totalDiaries = 0L;
 
@@ -189,7 +190,7 @@ public class UserController {
                             ? java.time.LocalDate.parse(formattedDate,
                                     java.time.format.DateTimeFormatter.ofPattern("yyyy.MM.dd"))
                             : null,
-                    consecutiveDays, totalDiaries);
+                    consecutiveDays, longestStreak, totalDiaries);
             return ResponseEntity.ok(ApiResponse.ok(stats));
         } catch (Exception e) {
             log.error("사용자 통계 조회 error : {}", e.getMessage(), e);
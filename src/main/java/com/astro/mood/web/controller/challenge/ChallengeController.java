@@ -9,10 +9,12 @@ import com.astro.mood.data.repository.challenge.ChallengeParticipationRepository
 import com.astro.mood.data.repository.auth.AuthRepository;
 import com.astro.mood.data.repository.diary.DiaryRepository;
 
+import com.astro.mood.web.dto.PaginatedResponse;
 import com.astro.mood.web.dto.challenge.ChallengeDto;
 import com.astro.mood.web.dto.diary.DiaryResponse;
 import com.astro.mood.security.login.CustomUserDetails;
-import com.astro.mood.utils.EncryptionUtils;
+import com.astro.mood.service.diary.DiaryContentCipher;
+import com.astro.mood.service.diary.DiaryService;
 import com.astro.mood.service.s3Image.AwsS3Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.math.BigDecimal;
 
 @Slf4j
@@ -40,7 +43,8 @@ public class ChallengeController {
     private final ChallengeParticipationRepository participationRepository;
     private final AuthRepository authRepository;
     private final DiaryRepository diaryRepository;
-    private final EncryptionUtils encryptionUtils;
+    private final DiaryContentCipher diaryContentCipher;
+    private final DiaryService diaryService;
     private final AwsS3Service awsS3Service;
 
     /**
@@ -333,29 +337,20 @@ public class ChallengeController {
             List<Diary> diaries = diaryRepository.findByChallengeParticipationIdxOrderByCreatedAtDesc(
                     participationIdx);
 
-            // 2. DiaryResponse DTO로 변환 (일반 일기와 동일한 구조)
-            List<DiaryResponse> diaryResponses = diaries.stream()
-                    .map(diary -> {
+            // 2. 내용 일괄 복호화 (키 조회 1회, 건수가 많으면 병렬)
+            List<String> decryptedContents = diaryContentCipher.decryptAll(diaries);
+
+            // 3. DiaryResponse DTO로 변환 (일반 일기와 동일한 구조)
+            List<DiaryResponse> diaryResponses = IntStream.range(0, diaries.size())
+                    .mapToObj(i -> {
+                        Diary diary = diaries.get(i);
                         log.info("챌린지 일기 변환: diaryIdx={}, imageUrls={}",
                                 diary.getDiaryIdx(), diary.getImageUrls());
 
                         // 복호화된 내용으로 응답 생성 (엔티티는 건드리지 않음)
-                        String decryptedContent;
-                        if (diary.getIv() != null && !diary.getIv().isEmpty()) {
-                            // GCM 방식 복호화 (새로운 일기만)
-                            decryptedContent = encryptionUtils.decryptGCM(
-                                    diary.getContent(),
-                                    diary.getIv(),
-                                    diary.getUser().getUserIdx(),
-                                    diary.getDiaryIdx());
-                        } else {
-                            // 기존 테스트 일기는 그대로 반환 (복호화하지 않음)
-                            decryptedContent = diary.getContent();
-                        }
-
                         DiaryResponse response = DiaryResponse.fromEntity(diary);
                         // response에만 복호화된 내용 설정
-                        response.setContent(decryptedContent);
+                        response.setContent(decryptedContents.get(i));
 
                         // 프리사인드 URL 생성 (일기 상세 API와 동일하게)
                         response.setImageUrls(awsS3Service.generatePresignedUrls(
@@ -394,6 +389,21 @@ public class ChallengeController {
         }
     }
 
+    /**
+     * 특정 챌린지 참여 기간 동안의 일기 목록 조회 (키셋 페이지네이션 - cursor는 이전 응답의 nextCursor)
+     */
+    @GetMapping("/participation/{participationIdx}/diaries/page")
+    public ResponseEntity<PaginatedResponse<DiaryResponse>> getDiaryPageByChallenge(
+            @PathVariable Integer participationIdx,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        if (userDetails == null) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(diaryService.getChallengeDiaryPage(participationIdx, cursor, size));
+    }
+
     /**
      * 챌린지 참여 신청
      */
@@ -4,6 +4,7 @@ import com.astro.mood.service.diary.DiaryService;
 import com.astro.mood.utils.FileSecurityValidator;
 import com.astro.mood.utils.XssProtectionUtil;
 import com.astro.mood.web.dto.ApiResponse;
+import com.astro.mood.web.dto.PaginatedResponse;
 import com.astro.mood.web.dto.diary.DiaryCreateRequest;
 import com.astro.mood.web.dto.diary.DiaryResponse;
 import com.astro.mood.web.dto.diary.DiaryUpdateRequest;
@@ -130,6 +131,14 @@ public class DiaryController {
         return ApiResponse.ok(response);
     }
 
+    // 타임라인 조회 (키셋 페이지네이션 - cursor는 이전 응답의 nextCursor)
+    @GetMapping("/diary/timeline")
+    public ApiResponse<PaginatedResponse<DiaryResponse>> getTimeline(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return ApiResponse.ok(diaryService.getTimeline(cursor, size));
+    }
+
     // 일기 삭제 (소프트 삭제 - 휴지통으로 이동)
     @DeleteMapping("/diary/{diary_idx}")
     public ApiResponse<Void> deleteDiary(@PathVariable Integer diary_idx) {
@@ -151,6 +160,14 @@ public class DiaryController {
         return ApiResponse.ok(response);
     }
 
+    // 휴지통 일기 목록 조회 (키셋 페이지네이션)
+    @GetMapping("/diary/trash/page")
+    public ApiResponse<PaginatedResponse<DiaryTrashResponse>> getTrashPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return ApiResponse.ok(diaryService.getTrashPage(cursor, size));
+    }
+
     // 일기 복원
     @PostMapping("/diary/{diary_idx}/restore")
     public ApiResponse<Void> restoreDiary(@PathVariable Integer diary_idx) {
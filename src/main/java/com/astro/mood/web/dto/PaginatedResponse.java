@@ -6,9 +6,9 @@ import java.util.List;
 public record PaginatedResponse<T>(
         List<T> items,         // 데이터 목록
         boolean hasNextPage,   // 다음 페이지 여부
-        Integer nextCursor        // 다음 페이지를 위한 커서
+        String nextCursor         // 다음 페이지를 위한 커서 (불투명 문자열, 그대로 다시 전달)
 ) {
-    public static <T> PaginatedResponse<T> of(List<T> items, boolean hasNextPage, Integer nextCursor) {
+    public static <T> PaginatedResponse<T> of(List<T> items, boolean hasNextPage, String nextCursor) {
         return new PaginatedResponse<>(items, hasNextPage, nextCursor);
     }
 }
\ No newline at end of file
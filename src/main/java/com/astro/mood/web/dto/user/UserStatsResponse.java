@@ -11,12 +11,15 @@ public class UserStatsResponse {
 
     private LocalDate firstRecordDate; // 첫 기록일
     private Integer consecutiveDays; // 연속 기록 일수
+    private Integer longestStreak; // 최장 연속 기록 일수
     private Long totalDiaries; // 총 일기 수
 
-    public static UserStatsResponse of(LocalDate firstRecordDate, Integer consecutiveDays, Long totalDiaries) {
+    public static UserStatsResponse of(LocalDate firstRecordDate, Integer consecutiveDays, Integer longestStreak,
+            Long totalDiaries) {
         return UserStatsResponse.builder()
                 .firstRecordDate(firstRecordDate)
                 .consecutiveDays(consecutiveDays)
+                .longestStreak(longestStreak)
                 .totalDiaries(totalDiaries)
                 .build();
     }
@@ -0,0 +1,57 @@
+package com.astro.mood.web.interceptor;
+
+import com.astro.mood.config.RateLimitConfig;
+import com.astro.mood.security.filter.RateLimitFilter;
+import com.astro.mood.service.exception.CustomException;
+import com.astro.mood.service.exception.ErrorCode;
+import com.astro.mood.service.ratelimit.AdaptiveConcurrencyLimiter;
+import com.astro.mood.web.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 컨트롤러 호출 전 동시 처리 한도 확인 (AdaptiveConcurrencyLimiter)
+ * 한도를 넘으면 503 + Retry-After 로 바로 응답하고, 처리된 요청은 지연 시간을 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class LoadSheddingInterceptor implements HandlerInterceptor {
+
+    private static final String START_NANOS_ATTRIBUTE = LoadSheddingInterceptor.class.getName() + ".START_NANOS";
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) throws Exception {
+        RateLimitConfig.RateLimitType type = (RateLimitConfig.RateLimitType) request
+                .getAttribute(RateLimitFilter.RATE_LIMIT_TYPE_ATTRIBUTE);
+        if (!adaptiveConcurrencyLimiter.tryAcquire(type)) {
+            ErrorCode errorCode = ErrorCode.SERVER_BUSY;
+            response.setStatus(errorCode.getHttpStatus().value());
+            response.setHeader("Retry-After", RETRY_AFTER_SECONDS);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            objectMapper.writeValue(response.getWriter(), ApiResponse.fail(new CustomException(errorCode)));
+            return false;
+        }
+        request.setAttribute(START_NANOS_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler, @Nullable Exception ex) {
+        if (request.getAttribute(START_NANOS_ATTRIBUTE) instanceof Long startNanos) {
+            request.removeAttribute(START_NANOS_ATTRIBUTE);
+            adaptiveConcurrencyLimiter.release(System.nanoTime() - startNanos);
+        }
+    }
+}
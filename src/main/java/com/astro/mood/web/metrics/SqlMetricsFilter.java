@@ -0,0 +1,78 @@
+package com.astro.mood.web.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 단위 SQL 지표 수집 필터
+ * - 시큐리티 필터 체인보다 먼저 실행되어 인증(JWTFilter) 단계의 조회까지 포함
+ * - 임계값을 넘은 요청은 경고 로그 (N+1 회귀 탐지용)
+ * - 결과는 엔드포인트별로 SqlMetricsRegistry 에 집계 (/api/admin/sql-metrics)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlMetricsFilter extends OncePerRequestFilter {
+
+    private final SqlMetricsRegistry registry;
+
+    @Value("${sql-metrics.enabled:true}")
+    private boolean enabled;
+
+    @Value("${sql-metrics.warn-statements:30}")
+    private int warnStatements;
+
+    @Value("${sql-metrics.warn-jdbc-ms:500}")
+    private long warnJdbcMillis;
+
+    @Value("${sql-metrics.warn-entity-loads:500}")
+    private int warnEntityLoads;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        SqlRequestMetrics metrics = SqlRequestMetrics.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestMetrics.end();
+            String endpoint = endpointOf(request);
+            registry.record(endpoint, metrics);
+
+            if (metrics.getStatements() > warnStatements
+                    || metrics.getJdbcMillis() > warnJdbcMillis
+                    || metrics.getEntityLoads() > warnEntityLoads) {
+                log.warn("SQL 임계값 초과: {} {} (uri={}), statements={}, jdbcMs={}, entityLoads={}",
+                        request.getMethod(), endpoint, request.getRequestURI(),
+                        metrics.getStatements(), metrics.getJdbcMillis(), metrics.getEntityLoads());
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    // 경로 변수 값이 키에 섞이지 않도록 매핑 패턴 사용 (매핑 전에 끝난 요청은 UNMAPPED)
+    private String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "UNMAPPED");
+    }
+}
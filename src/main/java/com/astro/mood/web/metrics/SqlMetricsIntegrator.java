@@ -0,0 +1,43 @@
+package com.astro.mood.web.metrics;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * 엔티티 로드(PostLoad) 횟수를 현재 요청 지표에 누적하는 리스너 등록
+ * (hibernate.integrator_provider 로 JpaConfig에서 등록)
+ */
+public class SqlMetricsIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+            SessionFactoryImplementor sessionFactory) {
+        sessionFactory.getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, EntityLoadCounter.INSTANCE);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    private static final class EntityLoadCounter implements PostLoadEventListener {
+
+        private static final EntityLoadCounter INSTANCE = new EntityLoadCounter();
+
+        @Override
+        public void onPostLoad(PostLoadEvent event) {
+            SqlRequestMetrics metrics = SqlRequestMetrics.current();
+            if (metrics != null) {
+                metrics.recordEntityLoad();
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.astro.mood.web.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 SQL 지표 집계 (고정 버킷 히스토그램, 락 없음)
+ * - 키는 "METHOD 매핑 패턴" (예: GET /api/diary/{diaryIdx}) 이라 경로 변수 값과 무관하게 묶임
+ * - 엔드포인트 수가 상한을 넘으면 나머지는 OTHER 로 합산
+ */
+@Component
+public class SqlMetricsRegistry {
+
+    static final String OTHER = "OTHER";
+    private static final int MAX_ENDPOINTS = 300;
+
+    // 버킷 상한 (마지막 버킷은 그 이상 전부)
+    private static final long[] STATEMENT_BOUNDS = {1, 2, 5, 10, 20, 50, 100};
+    private static final long[] JDBC_MILLIS_BOUNDS = {1, 5, 10, 50, 100, 500, 1000};
+    private static final long[] ENTITY_LOAD_BOUNDS = {1, 10, 50, 100, 500, 1000};
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, SqlRequestMetrics metrics) {
+        EndpointStats stats = endpoints.get(endpoint);
+        if (stats == null) {
+            String key = endpoints.size() < MAX_ENDPOINTS ? endpoint : OTHER;
+            stats = endpoints.computeIfAbsent(key, k -> new EndpointStats());
+        }
+        stats.record(metrics);
+    }
+
+    /**
+     * 엔드포인트별 요약 + 히스토그램 (엔드포인트 이름순)
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> result = new TreeMap<>();
+        endpoints.forEach((endpoint, stats) -> result.put(endpoint, stats.toMap()));
+        return result;
+    }
+
+    public void reset() {
+        endpoints.clear();
+    }
+
+    private static final class EndpointStats {
+        private final LongAdder requests = new LongAdder();
+        private final Histogram statements = new Histogram(STATEMENT_BOUNDS);
+        private final Histogram jdbcMillis = new Histogram(JDBC_MILLIS_BOUNDS);
+        private final Histogram entityLoads = new Histogram(ENTITY_LOAD_BOUNDS);
+
+        void record(SqlRequestMetrics metrics) {
+            requests.increment();
+            statements.record(metrics.getStatements());
+            jdbcMillis.record(metrics.getJdbcMillis());
+            entityLoads.record(metrics.getEntityLoads());
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("requests", requests.sum());
+            map.put("statements", statements.toMap());
+            map.put("jdbcMillis", jdbcMillis.toMap());
+            map.put("entityLoads", entityLoads.toMap());
+            return map;
+        }
+    }
+
+    private static final class Histogram {
+        private final long[] bounds;
+        private final LongAdder[] buckets;
+        private final LongAdder sum = new LongAdder();
+        private final LongAdder count = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        Histogram(long[] bounds) {
+            this.bounds = bounds;
+            this.buckets = new LongAdder[bounds.length + 1];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void record(long value) {
+            int i = 0;
+            while (i < bounds.length && value > bounds[i]) {
+                i++;
+            }
+            buckets[i].increment();
+            sum.add(value);
+            count.increment();
+            max.accumulate(value);
+        }
+
+        Map<String, Object> toMap() {
+            long n = count.sum();
+            long total = sum.sum();
+            Map<String, Long> histogram = new LinkedHashMap<>();
+            for (int i = 0; i < bounds.length; i++) {
+                histogram.put("le_" + bounds[i], buckets[i].sum());
+            }
+            histogram.put("gt_" + bounds[bounds.length - 1], buckets[bounds.length].sum());
+
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("total", total);
+            map.put("avg", n == 0 ? 0.0 : (double) total / n);
+            map.put("max", max.get());
+            map.put("histogram", histogram);
+            return map;
+        }
+    }
+}
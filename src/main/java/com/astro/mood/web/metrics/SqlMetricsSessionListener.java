@@ -0,0 +1,39 @@
+package com.astro.mood.web.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * 세션마다 생성되는 Hibernate 세션 리스너 (hibernate.session.events.auto)
+ * JDBC 실행(단건/배치) 횟수와 소요 시간을 현재 요청 지표에 누적합니다.
+ */
+public class SqlMetricsSessionListener implements SessionEventListener {
+
+    private long executeStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        SqlRequestMetrics metrics = SqlRequestMetrics.current();
+        if (metrics != null) {
+            metrics.recordStatement(System.nanoTime() - executeStart);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.astro.mood.web.metrics;
+
+/**
+ * 요청 단위 SQL 지표 (요청 처리 스레드에서만 접근)
+ * - SqlMetricsFilter가 요청 시작 시 바인딩하고 종료 시 해제
+ * - Hibernate 세션 리스너/로드 리스너가 현재 스레드의 지표에 누적
+ */
+public final class SqlRequestMetrics {
+
+    private static final ThreadLocal<SqlRequestMetrics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long jdbcNanos;
+    private int entityLoads;
+
+    private SqlRequestMetrics() {
+    }
+
+    static SqlRequestMetrics begin() {
+        SqlRequestMetrics metrics = new SqlRequestMetrics();
+        CURRENT.set(metrics);
+        return metrics;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 요청의 지표 (요청 밖 - 배치 잡 등 - 에서는 null)
+     */
+    static SqlRequestMetrics current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(long elapsedNanos) {
+        statements++;
+        jdbcNanos += elapsedNanos;
+    }
+
+    void recordEntityLoad() {
+        entityLoads++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getJdbcMillis() {
+        return jdbcNanos / 1_000_000;
+    }
+
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+}
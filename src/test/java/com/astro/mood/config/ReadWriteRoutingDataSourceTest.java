@@ -0,0 +1,194 @@
+package com.astro.mood.config;
+
+import com.astro.mood.security.login.CustomUserDetails;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2 두 개를 원본/복제본으로 두고 읽기/쓰기 분리 확인
+ * 각 DB 의 node 테이블에 자기 이름을 넣어 두고 어느 쪽에서 읽었는지 확인한다.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String WHICH_NODE = "SELECT name FROM node";
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReadWriteRoutingDataSource routing;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        primary = pool("primary");
+        replica = pool("replica");
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_status (lag BIGINT)");
+        setReplicaLag(0L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        if (routing != null) {
+            routing.close();
+        }
+    }
+
+    private void createRouting(boolean allowStandalone) {
+        DataSourceProperties.Replica properties = new DataSourceProperties.Replica();
+        properties.setLagQuery("SELECT lag AS Seconds_Behind_Master FROM replica_status");
+        properties.setMaxLagSeconds(5);
+        properties.setStickinessMs(60_000);
+        properties.setAllowStandalone(allowStandalone);
+        routing = new ReadWriteRoutingDataSource(primary, replica, properties);
+
+        jdbc = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    private static HikariDataSource pool(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(2);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+
+    private void setReplicaLag(Long lag) {
+        JdbcTemplate jdbc = new JdbcTemplate(replica);
+        jdbc.update("DELETE FROM replica_status");
+        jdbc.update("INSERT INTO replica_status VALUES (?)", lag);
+    }
+
+    private String readNode() {
+        return readOnly.execute(status -> jdbc.queryForObject(WHICH_NODE, String.class));
+    }
+
+    private String writeNode() {
+        return readWrite.execute(status -> jdbc.queryForObject(WHICH_NODE, String.class));
+    }
+
+    private static void login(int userIdx) {
+        CustomUserDetails user = CustomUserDetails.builder().userIdx(userIdx).role("ROLE_USER").build();
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(user, "", user.getAuthorities()));
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_복제본_쓰기는_원본으로_간다() {
+        createRouting(false);
+        routing.checkReplicaLag();
+
+        assertThat(readNode()).isEqualTo("replica");
+        assertThat(writeNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void 첫_지연_확인_전에는_원본에서_읽는다() {
+        createRouting(false);
+
+        assertThat(readNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void 지연이_상한을_넘거나_복제가_멈추면_원본에서_읽고_회복되면_복제본으로_돌아간다() {
+        createRouting(false);
+        routing.checkReplicaLag();
+        assertThat(readNode()).isEqualTo("replica");
+
+        setReplicaLag(6L);
+        routing.checkReplicaLag();
+        assertThat(readNode()).isEqualTo("primary");
+
+        setReplicaLag(null);
+        routing.checkReplicaLag();
+        assertThat(readNode()).isEqualTo("primary");
+
+        setReplicaLag(5L);
+        routing.checkReplicaLag();
+        assertThat(readNode()).isEqualTo("replica");
+    }
+
+    @Test
+    void 복제_상태가_없으면_원본에서_읽는다() {
+        createRouting(false);
+        routing.checkReplicaLag();
+        assertThat(readNode()).isEqualTo("replica");
+
+        // 복제 설정이 없는 서버 (SHOW SLAVE STATUS 결과 없음)
+        new JdbcTemplate(replica).update("DELETE FROM replica_status");
+        routing.checkReplicaLag();
+
+        assertThat(readNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void 단독_인스턴스_허용_시에만_복제_상태가_없어도_복제본에서_읽는다() {
+        new JdbcTemplate(replica).update("DELETE FROM replica_status");
+        createRouting(true);
+        routing.checkReplicaLag();
+
+        assertThat(readNode()).isEqualTo("replica");
+    }
+
+    @Test
+    void 복제본_커넥션을_얻지_못하면_원본에서_읽는다() {
+        createRouting(false);
+        routing.checkReplicaLag();
+        assertThat(readNode()).isEqualTo("replica");
+
+        replica.close();
+
+        assertThat(readNode()).isEqualTo("primary");
+        // 다음 확인 전까지 복제본을 다시 시도하지 않음
+        assertThat(readNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void 쓰기를_커밋한_사용자의_읽기는_원본으로_고정된다() {
+        createRouting(false);
+        routing.checkReplicaLag();
+
+        login(1);
+        assertThat(readNode()).isEqualTo("replica");
+        readWrite.executeWithoutResult(status -> jdbc.update("UPDATE node SET name = name"));
+        assertThat(readNode()).isEqualTo("primary");
+
+        // 다른 사용자는 그대로 복제본
+        login(2);
+        assertThat(readNode()).isEqualTo("replica");
+    }
+
+    @Test
+    void 롤백된_쓰기는_원본_고정을_남기지_않는다() {
+        createRouting(false);
+        routing.checkReplicaLag();
+
+        login(1);
+        readWrite.executeWithoutResult(status -> {
+            jdbc.update("UPDATE node SET name = name");
+            status.setRollbackOnly();
+        });
+
+        assertThat(readNode()).isEqualTo("replica");
+    }
+}
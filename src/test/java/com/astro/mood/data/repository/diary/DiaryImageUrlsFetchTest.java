@@ -0,0 +1,93 @@
+package com.astro.mood.data.repository.diary;
+
+import com.astro.mood.data.entity.diary.Diary;
+import com.astro.mood.data.entity.user.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 후 imageUrls 접근 시 일기 수와 무관하게 SQL 문장 수가 고정되는지 확인 (일기별 1회 조회 방지)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:diary-images;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class DiaryImageUrlsFetchTest {
+
+    private static final int ACTIVE_DIARIES = 30;
+    private static final int DELETED_DIARIES = 5;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private User user;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().nickname("user").oauthProvider("test").oauthId("a").build();
+        em.persist(user);
+
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+        for (int i = 0; i < ACTIVE_DIARIES + DELETED_DIARIES; i++) {
+            LocalDateTime createdAt = base.plusHours(i);
+            em.persist(Diary.builder()
+                    .user(user)
+                    .emotionIdx(1)
+                    .createdAt(createdAt)
+                    .deletedAt(i < ACTIVE_DIARIES ? null : createdAt.plusMinutes(1))
+                    .imageUrls(Set.of("diary/" + i + "/a.jpg", "diary/" + i + "/b.jpg"))
+                    .build());
+        }
+        em.flush();
+        em.clear();
+
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 페이지_조회_후_이미지_접근은_한_번의_IN_조회로_로딩된다() {
+        List<Diary> page = diaryRepository.findTimelinePage(user.getUserIdx(), PageRequest.of(0, PAGE_SIZE));
+        int imageCount = page.stream().mapToInt(diary -> diary.getImageUrls().size()).sum();
+
+        assertThat(page).hasSize(PAGE_SIZE);
+        assertThat(imageCount).isEqualTo(PAGE_SIZE * 2);
+        // 페이지 조회 1 + diary_imageurls 일괄 조회 1
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getCollectionFetchCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 휴지통_이미지_포함_조회는_한_번에_로딩된다() {
+        List<Diary> deleted = diaryRepository.findDeletedDiariesByUserWithImages(user);
+        int imageCount = deleted.stream().mapToInt(diary -> diary.getImageUrls().size()).sum();
+
+        assertThat(deleted).hasSize(DELETED_DIARIES);
+        assertThat(imageCount).isEqualTo(DELETED_DIARIES * 2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
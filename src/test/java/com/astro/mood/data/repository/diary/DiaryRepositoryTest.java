@@ -0,0 +1,178 @@
+package com.astro.mood.data.repository.diary;
+
+import com.astro.mood.data.entity.diary.Diary;
+import com.astro.mood.data.entity.user.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * created_at [start, end) 범위 조회가 기존 YEAR/MONTH/DATE 함수 조회와 같은 행을 돌려주는지 비교
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:diary;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class DiaryRepositoryTest {
+
+    private static final int PARTICIPATION_IDX = 7;
+
+    // 월/연/일 경계 앞뒤 시각
+    private static final List<LocalDateTime> CREATED_AT = List.of(
+            LocalDateTime.of(2024, 12, 31, 23, 59, 59, 999_999_000),
+            LocalDateTime.of(2025, 1, 1, 0, 0),
+            LocalDateTime.of(2025, 1, 15, 9, 30),
+            LocalDateTime.of(2025, 1, 31, 23, 59, 59, 999_999_000),
+            LocalDateTime.of(2025, 2, 1, 0, 0),
+            LocalDateTime.of(2025, 2, 1, 12, 0),
+            LocalDateTime.of(2025, 2, 28, 23, 59, 59),
+            LocalDateTime.of(2025, 3, 1, 0, 0),
+            LocalDateTime.of(2025, 12, 31, 23, 59, 59, 999_999_000),
+            LocalDateTime.of(2026, 1, 1, 0, 0));
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private User user;
+    private User otherUser;
+
+    @BeforeEach
+    void setUp() {
+        user = persistUser("a");
+        otherUser = persistUser("b");
+
+        for (LocalDateTime createdAt : CREATED_AT) {
+            persistDiary(user, createdAt, null, PARTICIPATION_IDX);
+            persistDiary(otherUser, createdAt, null, PARTICIPATION_IDX);
+            // 삭제된 일기는 어느 조회에도 나오지 않아야 함
+            persistDiary(user, createdAt, createdAt.plusHours(1), PARTICIPATION_IDX);
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 월별_조회는_기존_MONTH_조회와_같은_행을_돌려준다() {
+        int[][] months = { { 2024, 12 }, { 2025, 1 }, { 2025, 2 }, { 2025, 3 }, { 2025, 12 }, { 2026, 1 } };
+        for (int[] ym : months) {
+            List<Diary> legacy = em.createQuery("SELECT d FROM Diary d WHERE d.user = :user AND YEAR(d.createdAt) = :year "
+                    + "AND MONTH(d.createdAt) = :month AND d.deletedAt IS NULL ORDER BY d.createdAt DESC", Diary.class)
+                    .setParameter("user", user)
+                    .setParameter("year", ym[0])
+                    .setParameter("month", ym[1])
+                    .getResultList();
+
+            assertThat(ids(diaryRepository.findByUserAndMonth(user, ym[0], ym[1])))
+                    .as("%d-%d", ym[0], ym[1])
+                    .isNotEmpty()
+                    .containsExactlyElementsOf(ids(legacy));
+        }
+    }
+
+    @Test
+    void 연도별_조회는_기존_YEAR_조회와_같은_행을_돌려준다() {
+        for (int year = 2024; year <= 2026; year++) {
+            List<Diary> legacy = em.createQuery("SELECT d FROM Diary d WHERE d.user = :user AND YEAR(d.createdAt) = :year "
+                    + "AND d.deletedAt IS NULL ORDER BY d.createdAt DESC", Diary.class)
+                    .setParameter("user", user)
+                    .setParameter("year", year)
+                    .getResultList();
+
+            assertThat(ids(diaryRepository.findByUserAndYearForEmotionBitmap(user, year)))
+                    .as("%d", year)
+                    .isNotEmpty()
+                    .containsExactlyElementsOf(ids(legacy));
+        }
+    }
+
+    @Test
+    void 날짜별_조회와_개수는_기존_DATE_조회와_같다() {
+        for (LocalDate date : dates()) {
+            List<Diary> legacy = em.createQuery("SELECT d FROM Diary d WHERE d.user = :user AND DATE(d.createdAt) = :date "
+                    + "AND d.deletedAt IS NULL ORDER BY d.createdAt ASC", Diary.class)
+                    .setParameter("user", user)
+                    .setParameter("date", date)
+                    .getResultList();
+            Number legacyCount = (Number) em.createNativeQuery("SELECT COUNT(*) FROM diary WHERE user_idx = :loginIdx "
+                    + "AND DATE(created_at) = :date AND deleted_at IS NULL")
+                    .setParameter("loginIdx", user.getUserIdx())
+                    .setParameter("date", date)
+                    .getSingleResult();
+
+            assertThat(ids(diaryRepository.findByUserAndDateOrderByCreatedAtAsc(user, date)))
+                    .as("%s", date)
+                    .isNotEmpty()
+                    .containsExactlyElementsOf(ids(legacy));
+            assertThat(diaryRepository.countByUserLoginIdxAndDate(user.getUserIdx(), date))
+                    .as("%s", date)
+                    .isEqualTo(legacyCount.longValue());
+        }
+    }
+
+    @Test
+    void 챌린지_날짜_중복_확인은_기존_DATE_조회와_같다() {
+        for (LocalDate date : dates()) {
+            List<Integer> sameDay = ids(diaryRepository.findByUserAndDateOrderByCreatedAtAsc(user, date));
+            // 같은 날 다른 일기가 있는 경우와 없는 경우(자기 자신만 있는 경우)를 모두 확인
+            for (Integer excludeDiaryIdx : List.of(sameDay.get(0), -1)) {
+                boolean legacy = em.createQuery("SELECT COUNT(d) > 0 FROM Diary d "
+                        + "WHERE d.challengeParticipationIdx = :participationIdx AND DATE(d.createdAt) = :date "
+                        + "AND d.deletedAt IS NULL AND d.diaryIdx != :excludeDiaryIdx", Boolean.class)
+                        .setParameter("participationIdx", PARTICIPATION_IDX)
+                        .setParameter("date", date)
+                        .setParameter("excludeDiaryIdx", excludeDiaryIdx)
+                        .getSingleResult();
+
+                assertThat(diaryRepository.existsByChallengeParticipationIdxAndDateExcludingDiary(
+                        PARTICIPATION_IDX, date, excludeDiaryIdx))
+                        .as("%s exclude %d", date, excludeDiaryIdx)
+                        .isEqualTo(legacy);
+            }
+        }
+    }
+
+    private User persistUser(String oauthId) {
+        User newUser = User.builder()
+                .nickname("user-" + oauthId)
+                .oauthProvider("test")
+                .oauthId(oauthId)
+                .build();
+        em.persist(newUser);
+        return newUser;
+    }
+
+    private void persistDiary(User owner, LocalDateTime createdAt, LocalDateTime deletedAt, Integer participationIdx) {
+        em.persist(Diary.builder()
+                .user(owner)
+                .emotionIdx(1)
+                .createdAt(createdAt)
+                .deletedAt(deletedAt)
+                .challengeParticipationIdx(participationIdx)
+                .build());
+    }
+
+    private static List<LocalDate> dates() {
+        return CREATED_AT.stream().map(LocalDateTime::toLocalDate).distinct().toList();
+    }
+
+    private static List<Integer> ids(List<Diary> diaries) {
+        return diaries.stream().map(Diary::getDiaryIdx).toList();
+    }
+}
@@ -0,0 +1,151 @@
+package com.astro.mood.security.jwt;
+
+import com.astro.mood.data.entity.user.User;
+import com.astro.mood.data.entity.user.UserToken;
+import com.astro.mood.security.jwt.TokenRefreshCoordinator.RefreshResult;
+import com.astro.mood.security.login.CustomUserDetails;
+import com.astro.mood.service.auth.CustomUserDetailsService;
+import com.astro.mood.service.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRefreshCoordinatorTest {
+
+    private static final int USER_IDX = 1;
+    private static final String REFRESH_TOKEN = "refresh-token";
+
+    private final JWTUtil jwtUtil = mock(JWTUtil.class);
+    private final CustomUserDetailsService customUserDetailsService = mock(CustomUserDetailsService.class);
+
+    private TokenRefreshCoordinator coordinator(long waitTimeoutMs) {
+        return new TokenRefreshCoordinator(jwtUtil, customUserDetailsService, waitTimeoutMs, 10);
+    }
+
+    private static UserToken userToken() {
+        return UserToken.builder()
+                .tokenIdx(1)
+                .user(User.builder().userIdx(USER_IDX).build())
+                .refreshToken(REFRESH_TOKEN)
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+
+    /**
+     * 재발급 가능한 상태로 stub, DB 조회는 release 가 열릴 때까지 멈춤 (entered 로 진입 확인)
+     */
+    private void stubRefreshable(CountDownLatch entered, CountDownLatch release) {
+        UserToken userToken = userToken();
+        when(customUserDetailsService.findUserToken(USER_IDX)).thenAnswer(invocation -> {
+            entered.countDown();
+            assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+            return userToken;
+        });
+        when(customUserDetailsService.loadUserByUserIdx(USER_IDX))
+                .thenReturn(CustomUserDetails.builder().userIdx(USER_IDX).role("ROLE_USER").build());
+        AtomicInteger issued = new AtomicInteger();
+        when(jwtUtil.createJwt(any())).thenAnswer(invocation -> "access-token-" + issued.incrementAndGet());
+    }
+
+    @Test
+    void 동시에_들어온_재발급은_한_번만_저장하고_같은_토큰을_돌려준다() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        stubRefreshable(entered, release);
+        TokenRefreshCoordinator coordinator = coordinator(5_000);
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<RefreshResult>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> coordinator.refresh(USER_IDX, REFRESH_TOKEN)));
+            }
+            // 한 요청이 DB 조회 중인 동안 나머지가 도착하도록 잠시 멈춰 둠
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<RefreshResult> future : futures) {
+                RefreshResult result = future.get(5, TimeUnit.SECONDS);
+                assertThat(result.isSuccess()).isTrue();
+                assertThat(result.accessToken()).isEqualTo("access-token-1");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(customUserDetailsService, times(1)).findUserToken(USER_IDX);
+        verify(jwtUtil, times(1)).createJwt(any());
+        verify(customUserDetailsService, times(1)).saveRefreshToken(any());
+        // 직후 요청도 저장 없이 같은 결과를 재사용
+        assertThat(coordinator.refresh(USER_IDX, REFRESH_TOKEN).accessToken()).isEqualTo("access-token-1");
+        verify(customUserDetailsService, times(1)).saveRefreshToken(any());
+    }
+
+    @Test
+    void 먼저_시작한_재발급을_기다리다_시간이_지나면_실패로_응답한다() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        stubRefreshable(entered, release);
+        TokenRefreshCoordinator coordinator = coordinator(50);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<RefreshResult> leader = executor.submit(() -> coordinator.refresh(USER_IDX, REFRESH_TOKEN));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            RefreshResult waiter = coordinator.refresh(USER_IDX, REFRESH_TOKEN);
+            assertThat(waiter.isSuccess()).isFalse();
+            assertThat(waiter.errorCode()).isEqualTo(ErrorCode.INVALID_TOKEN);
+
+            // 기다리던 요청만 실패하고 먼저 시작한 재발급은 그대로 끝남
+            release.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS).accessToken()).isEqualTo("access-token-1");
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(customUserDetailsService, times(1)).saveRefreshToken(any());
+    }
+
+    @Test
+    void 로그아웃으로_리프레시_토큰이_지워지면_어느_기기도_재발급받지_못한다() {
+        // 로그아웃(revokeIssuedTokens)이 user_token 행을 삭제한 상태
+        when(customUserDetailsService.findUserToken(USER_IDX)).thenReturn(null);
+
+        RefreshResult result = coordinator(1_000).refresh(USER_IDX, REFRESH_TOKEN);
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.errorCode()).isEqualTo(ErrorCode.INVALID_TOKEN);
+        verify(jwtUtil, never()).createJwt(any());
+        verify(customUserDetailsService, never()).saveRefreshToken(any());
+    }
+
+    @Test
+    void 다른_리프레시_토큰으로_바뀌었으면_재발급하지_않는다() {
+        UserToken rotated = userToken();
+        rotated.setRefreshToken("after-login");
+        when(customUserDetailsService.findUserToken(USER_IDX)).thenReturn(rotated);
+
+        RefreshResult result = coordinator(1_000).refresh(USER_IDX, REFRESH_TOKEN);
+
+        assertThat(result.errorCode()).isEqualTo(ErrorCode.INVALID_TOKEN);
+        verify(customUserDetailsService, never()).saveRefreshToken(any());
+    }
+}
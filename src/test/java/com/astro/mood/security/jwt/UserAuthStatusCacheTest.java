@@ -0,0 +1,81 @@
+package com.astro.mood.security.jwt;
+
+import com.astro.mood.data.entity.user.User;
+import com.astro.mood.data.repository.auth.AuthRepository;
+import com.astro.mood.data.repository.auth.UserTokenRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserAuthStatusCacheTest {
+
+    private static final int USER_IDX = 1;
+
+    private final AuthRepository authRepository = mock(AuthRepository.class);
+    private final UserTokenRepository userTokenRepository = mock(UserTokenRepository.class);
+    private final UserAuthStatusCache cache = new UserAuthStatusCache(authRepository, userTokenRepository, 100, 60);
+
+    private static Date at(LocalDateTime time) {
+        return Date.from(time.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    @Test
+    void 다른_인스턴스가_기록한_폐기_시각_이전_토큰은_거부된다() {
+        LocalDateTime revokedAt = LocalDateTime.of(2025, 3, 1, 12, 0, 0);
+        User user = User.builder().userIdx(USER_IDX).tokensRevokedAt(revokedAt).build();
+        when(authRepository.findUserByUserIdxAndIsDeleted(USER_IDX, false)).thenReturn(Optional.of(user));
+
+        assertThat(cache.isActive(USER_IDX, at(revokedAt.minusSeconds(1)))).isFalse();
+        assertThat(cache.isActive(USER_IDX, at(revokedAt.plusSeconds(1)))).isTrue();
+        assertThat(cache.isActive(USER_IDX, at(revokedAt.plusMinutes(1)))).isTrue();
+    }
+
+    @Test
+    void 폐기와_같은_초에_발급된_토큰도_거부된다() {
+        LocalDateTime revokedAt = LocalDateTime.of(2025, 3, 1, 12, 0, 0);
+        User user = User.builder().userIdx(USER_IDX).tokensRevokedAt(revokedAt).build();
+        when(authRepository.findUserByUserIdxAndIsDeleted(USER_IDX, false)).thenReturn(Optional.of(user));
+
+        // iat는 초 단위로 잘리므로 폐기 직전(같은 초)에 발급된 토큰과 구분할 수 없음
+        assertThat(cache.isActive(USER_IDX, at(revokedAt))).isFalse();
+        assertThat(cache.isActive(USER_IDX, at(revokedAt.plusNanos(999_000_000)))).isFalse();
+    }
+
+    @Test
+    void 폐기_기록이_없으면_탈퇴_여부만_확인한다() {
+        when(authRepository.findUserByUserIdxAndIsDeleted(USER_IDX, false))
+                .thenReturn(Optional.of(User.builder().userIdx(USER_IDX).build()));
+        when(authRepository.findUserByUserIdxAndIsDeleted(2, false)).thenReturn(Optional.empty());
+
+        assertThat(cache.isActive(USER_IDX, at(LocalDateTime.of(2020, 1, 1, 0, 0)))).isTrue();
+        assertThat(cache.isActive(2, at(LocalDateTime.now()))).isFalse();
+    }
+
+    @Test
+    void 로그아웃하면_폐기_시각을_저장하고_리프레시_토큰을_지우고_캐시를_비운다() {
+        when(authRepository.findUserByUserIdxAndIsDeleted(USER_IDX, false))
+                .thenReturn(Optional.of(User.builder().userIdx(USER_IDX).build()));
+        Date issuedAt = at(LocalDateTime.now().minusMinutes(5));
+        assertThat(cache.isActive(USER_IDX, issuedAt)).isTrue();
+
+        cache.revokeIssuedTokens(USER_IDX);
+        verify(authRepository).updateTokensRevokedAt(eq(USER_IDX), any(LocalDateTime.class));
+        // 다른 기기도 리프레시로 재발급받지 못하도록 (모든 기기 로그아웃)
+        verify(userTokenRepository).deleteByUserIdx(USER_IDX);
+
+        // 저장소에서 다시 읽은 폐기 시각으로 판단
+        when(authRepository.findUserByUserIdxAndIsDeleted(USER_IDX, false))
+                .thenReturn(Optional.of(User.builder().userIdx(USER_IDX).tokensRevokedAt(LocalDateTime.now()).build()));
+        assertThat(cache.isActive(USER_IDX, issuedAt)).isFalse();
+    }
+}
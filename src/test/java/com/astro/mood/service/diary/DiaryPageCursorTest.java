@@ -0,0 +1,33 @@
+package com.astro.mood.service.diary;
+
+import com.astro.mood.service.exception.CustomException;
+import com.astro.mood.service.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DiaryPageCursorTest {
+
+    @Test
+    void 정렬_키와_diaryIdx가_그대로_복원된다() {
+        DiaryPageCursor cursor = new DiaryPageCursor(LocalDateTime.of(2025, 2, 1, 0, 0, 0, 123_456_000), 42);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        assertThat(DiaryPageCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void 형식이_맞지_않는_커서는_잘못된_파라미터() {
+        for (String cursor : new String[] { "42", "!!", "MjAyNS0wMi0wMVQwMDowMA", "bm90LWEtZGF0ZV80Mg" }) {
+            assertThatThrownBy(() -> DiaryPageCursor.decode(cursor))
+                    .isInstanceOf(CustomException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.INVALID_PARAMETER);
+        }
+    }
+}
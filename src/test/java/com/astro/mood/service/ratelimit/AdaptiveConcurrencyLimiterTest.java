@@ -0,0 +1,144 @@
+package com.astro.mood.service.ratelimit;
+
+import com.astro.mood.config.DataSourcePoolMetrics;
+import com.astro.mood.config.RateLimitConfig.RateLimitType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 요청을 실제로 처리하지 않고 release(지연)/updateLimit 를 직접 불러 주기를 흉내 냄
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final int INITIAL_LIMIT = 50;
+    private static final int MIN_LIMIT = 10;
+
+    private final DataSourcePoolMetrics poolMetrics = mock(DataSourcePoolMetrics.class);
+
+    private AdaptiveConcurrencyLimiter limiter() {
+        return new AdaptiveConcurrencyLimiter(poolMetrics, true, INITIAL_LIMIT, MIN_LIMIT, 200,
+                2.0, 0.7, 1.5, 0.9);
+    }
+
+    /**
+     * 한 주기: 한도까지 채워 처리하고 모두 latencyMillis 로 끝낸 뒤 한도 조정
+     */
+    private static void window(AdaptiveConcurrencyLimiter limiter, long latencyMillis) {
+        int acquired = 0;
+        while (limiter.tryAcquire(RateLimitType.DIARY_UPDATE)) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(latencyMillis * 1_000_000);
+        }
+        limiter.updateLimit();
+    }
+
+    private static int admit(AdaptiveConcurrencyLimiter limiter, RateLimitType type) {
+        int admitted = 0;
+        while (limiter.tryAcquire(type)) {
+            admitted++;
+        }
+        return admitted;
+    }
+
+    @Test
+    void 지연이_기준의_허용_배수를_넘으면_한도를_줄이고_회복되면_다시_늘린다() {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        for (int i = 0; i < 5; i++) {
+            window(limiter, 10);
+        }
+        int steady = limiter.getLimit();
+        assertThat(steady).isGreaterThan(INITIAL_LIMIT); // 기준 지연 안이고 한도를 다 쓰면 늘어남
+
+        // 10ms → 100ms: tolerance(2배)를 넘음
+        int previous = steady;
+        for (int i = 0; i < 5; i++) {
+            window(limiter, 100);
+            assertThat(limiter.getLimit()).isLessThan(previous);
+            previous = limiter.getLimit();
+        }
+        int shrunk = limiter.getLimit();
+        assertThat(shrunk).isGreaterThanOrEqualTo(MIN_LIMIT);
+
+        for (int i = 0; i < 10; i++) {
+            window(limiter, 10);
+        }
+        assertThat(limiter.getLimit()).isGreaterThan(shrunk);
+        assertThat(((Number) limiter.stats().get("longRttMs")).doubleValue()).isLessThan(100);
+    }
+
+    @Test
+    void 처리량이_적은_주기는_한도를_늘리지_않는다() {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        for (int i = 0; i < 5; i++) {
+            for (int j = 0; j < 20; j++) { // 한 번에 하나씩, 한도의 절반에 못 미침
+                limiter.tryAcquire(RateLimitType.DIARY_UPDATE);
+                limiter.release(10_000_000);
+            }
+            limiter.updateLimit();
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(INITIAL_LIMIT);
+    }
+
+    @Test
+    void 커넥션_대기_스레드가_있으면_지연과_관계없이_줄이고_해소되면_회복한다() {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        when(poolMetrics.pendingThreads()).thenReturn(3);
+        for (int i = 0; i < 5; i++) {
+            window(limiter, 10); // 지연은 정상
+        }
+        // 50 × 0.9^5 = 29.5
+        assertThat(limiter.getLimit()).isEqualTo(29);
+
+        for (int i = 0; i < 30; i++) {
+            window(limiter, 10);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(MIN_LIMIT);
+
+        when(poolMetrics.pendingThreads()).thenReturn(0);
+        for (int i = 0; i < 5; i++) {
+            window(limiter, 10);
+        }
+        assertThat(limiter.getLimit()).isGreaterThan(MIN_LIMIT);
+    }
+
+    @Test
+    void 한도가_차면_일반_API가_먼저_차단되고_일기_작성과_인증은_여유분까지_받는다() {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+
+        // LOW: 한도 50 × 0.7
+        assertThat(admit(limiter, RateLimitType.GENERAL_API)).isEqualTo(35);
+        assertThat(limiter.tryAcquire(RateLimitType.DIARY_READ)).isFalse();
+        assertThat(limiter.tryAcquire(RateLimitType.DIARY_CREATE)).isTrue();
+        assertThat(limiter.tryAcquire(RateLimitType.AUTH_LOGIN)).isTrue();
+
+        // NORMAL: 한도 50 까지
+        assertThat(admit(limiter, RateLimitType.DIARY_UPDATE)).isEqualTo(50 - 37);
+        assertThat(limiter.tryAcquire(RateLimitType.GENERAL_API)).isFalse();
+
+        // CRITICAL: 한도 50 × 1.5
+        assertThat(admit(limiter, RateLimitType.DIARY_CREATE)).isEqualTo(75 - 50);
+        assertThat(limiter.tryAcquire(RateLimitType.AUTH_TOKEN_REFRESH)).isFalse();
+
+        Map<String, Object> stats = limiter.stats();
+        assertThat(stats.get("inFlight")).isEqualTo(75);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> shed = (Map<String, Object>) stats.get("shed");
+        assertThat(shed.get("LOW")).isEqualTo(3L);
+        assertThat(shed.get("NORMAL")).isEqualTo(1L);
+        assertThat(shed.get("CRITICAL")).isEqualTo(2L);
+
+        // 처리가 끝나 자리가 나면 일반 API 도 다시 받음
+        for (int i = 0; i < 41; i++) {
+            limiter.release(1_000_000);
+        }
+        assertThat(limiter.tryAcquire(RateLimitType.GENERAL_API)).isTrue();
+    }
+}
@@ -0,0 +1,49 @@
+package com.astro.mood.service.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientAddressTest {
+
+    @Test
+    void IPv4와_IPv4_mapped_IPv6는_같은_값() {
+        long ipv4 = ClientAddress.parseIpv4(" 203.0.113.7 ");
+
+        assertThat(ipv4).isEqualTo(0xCB00_7107L);
+        assertThat(ClientAddress.parseIpv4("::FFFF:203.0.113.7")).isEqualTo(ipv4);
+        assertThat(ClientAddress.format(ipv4)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void 쉼표로_이어진_값은_첫_번째_항목만_사용한다() {
+        assertThat(ClientAddress.parseIpv4("198.51.100.23, 10.0.0.1"))
+                .isEqualTo(ClientAddress.parseIpv4("198.51.100.23"));
+
+        String header = "2001:db8::1 , 10.0.0.1";
+        assertThat(ClientAddress.parseIpv4(header)).isEqualTo(ClientAddress.NOT_IPV4);
+        assertThat(ClientAddress.isIpv6Like(header)).isTrue();
+        assertThat(ClientAddress.rawKey(header)).isEqualTo("2001:db8::1");
+    }
+
+    @Test
+    void IPv4가_아닌_값을_구분한다() {
+        assertThat(ClientAddress.parseIpv4("256.0.0.1")).isEqualTo(ClientAddress.NOT_IPV4);
+        assertThat(ClientAddress.parseIpv4("1.2.3")).isEqualTo(ClientAddress.NOT_IPV4);
+        assertThat(ClientAddress.parseIpv4("1.2.3.4.5")).isEqualTo(ClientAddress.NOT_IPV4);
+        assertThat(ClientAddress.parseIpv4(null)).isEqualTo(ClientAddress.NOT_IPV4);
+
+        assertThat(ClientAddress.isIpv6Like("[fe80::1%eth0]")).isTrue();
+        assertThat(ClientAddress.isIpv6Like("localhost")).isFalse();
+        assertThat(ClientAddress.isIpv6Like("evil:host")).isFalse();
+    }
+
+    @Test
+    void 주소가_아닌_값은_길이를_제한한다() {
+        String garbage = "x".repeat(10_000);
+
+        assertThat(ClientAddress.rawKey(garbage)).hasSize(64);
+        assertThat(ClientAddress.isIpv6Like(garbage)).isFalse();
+        assertThat(ClientAddress.rawKey(null)).isEmpty();
+    }
+}
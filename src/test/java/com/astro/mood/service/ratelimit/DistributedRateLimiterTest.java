@@ -0,0 +1,216 @@
+package com.astro.mood.service.ratelimit;
+
+import com.astro.mood.config.RateLimitConfig.RateLimitType;
+import com.astro.mood.service.ratelimit.RateLimitService.RateLimitResult;
+import com.astro.mood.service.ratelimit.RateLimitStateStore.State;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DistributedRateLimiterTest {
+
+    private static final RateLimitType TYPE = RateLimitType.GENERAL_API;
+    private static final int USER_IDX = 1;
+    private static final String BUCKET_KEY = "user:" + USER_IDX + ":" + TYPE.name();
+
+    private static DistributedRateLimiter limiter(RateLimitStateStore store, long leaseMs) {
+        return new DistributedRateLimiter(Optional.of(store), 10, leaseMs, 5, 60_000, 1_000);
+    }
+
+    private static int consume(int requests, DistributedRateLimiter... instances) throws InterruptedException {
+        int allowed = 0;
+        for (int i = 0; i < requests; i++) {
+            // 요청마다 lease 가 만료되도록 (받아 둔 토큰을 쓰지 않은 채로 다른 인스턴스로 넘어감)
+            Thread.sleep(3);
+            RateLimitResult result = instances[i % instances.length].tryConsume(RateLimitTier.USER, USER_IDX, TYPE);
+            assertThat(result).isNotNull();
+            if (result.isAllowed()) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+
+    @Test
+    void lease가_만료되어도_인스턴스_합계는_용량만큼_허용된다() throws InterruptedException {
+        InMemoryRateLimitStateStore store = new InMemoryRateLimitStateStore();
+        DistributedRateLimiter first = limiter(store, 1);
+        DistributedRateLimiter second = limiter(store, 1);
+
+        long capacity = RateLimitTier.USER.capacityOf(TYPE);
+
+        int allowed = consume((int) capacity + 20, first, second);
+
+        assertThat(allowed).isEqualTo((int) capacity);
+        assertThat((long) first.stats().get("returnedTokens") + (long) second.stats().get("returnedTokens"))
+                .isPositive();
+    }
+
+    @Test
+    void lease_중에는_저장소를_거치지_않고_용량을_넘지_않는다() {
+        InMemoryRateLimitStateStore store = new InMemoryRateLimitStateStore();
+        DistributedRateLimiter limiter = limiter(store, 60_000);
+        long capacity = RateLimitTier.USER.capacityOf(TYPE);
+
+        int allowed = 0;
+        for (int i = 0; i < capacity * 2; i++) {
+            if (limiter.tryConsume(RateLimitTier.USER, USER_IDX, TYPE).isAllowed()) {
+                allowed++;
+            }
+        }
+
+        assertThat(allowed).isEqualTo((int) capacity);
+        // 10개씩 받으므로 용량/10 번 + 소진 확인 1번
+        assertThat((long) limiter.stats().get("remoteCalls")).isEqualTo(capacity / 10 + 1);
+    }
+
+    @Test
+    void 같은_키에_동시_요청이_몰려도_용량만큼_허용된다() throws Exception {
+        // DB 저장소처럼 조회에 시간이 걸려 갱신이 겹치는 상황
+        InMemoryRateLimitStateStore store = new InMemoryRateLimitStateStore() {
+            @Override
+            public State load(String key) {
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.load(key);
+            }
+        };
+        DistributedRateLimiter limiter = limiter(store, 60_000);
+        long capacity = RateLimitTier.USER.capacityOf(TYPE);
+        int threads = 16;
+        int requestsPerThread = (int) capacity / threads * 2;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                int allowed = 0;
+                for (int i = 0; i < requestsPerThread; i++) {
+                    RateLimitResult result = limiter.tryConsume(RateLimitTier.USER, USER_IDX, TYPE);
+                    assertThat(result).isNotNull();
+                    if (result.isAllowed()) {
+                        allowed++;
+                    }
+                }
+                return allowed;
+            }));
+        }
+        start.countDown();
+
+        int allowed = 0;
+        for (Future<Integer> result : results) {
+            allowed += result.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(allowed).isEqualTo((int) capacity);
+        assertThat(store.load(BUCKET_KEY).tokens()).isZero();
+        // 갱신이 한 요청씩만 일어나므로 묶음 수 + 소진 확인 1번
+        assertThat((long) limiter.stats().get("remoteCalls")).isEqualTo(capacity / 10 + 1);
+    }
+
+    @Test
+    void 갱신이_실패해도_꺼낸_토큰은_다음_CAS에서_돌려준다() throws InterruptedException {
+        InMemoryRateLimitStateStore delegate = new InMemoryRateLimitStateStore();
+        AtomicInteger failNextCas = new AtomicInteger();
+        RateLimitStateStore flaky = new RateLimitStateStore() {
+            @Override
+            public State load(String key) {
+                return delegate.load(key);
+            }
+
+            @Override
+            public boolean compareAndSet(String key, State expected, State update) {
+                // 경합으로 max-cas-attempts 를 모두 실패한 상황
+                return failNextCas.getAndUpdate(n -> Math.max(0, n - 1)) == 0
+                        && delegate.compareAndSet(key, expected, update);
+            }
+
+            @Override
+            public int deleteRefilledBefore(long refilledBeforeMillis) {
+                return delegate.deleteRefilledBefore(refilledBeforeMillis);
+            }
+        };
+        DistributedRateLimiter limiter = limiter(flaky, 1);
+        long capacity = RateLimitTier.USER.capacityOf(TYPE);
+
+        assertThat(limiter.tryConsume(RateLimitTier.USER, USER_IDX, TYPE).isAllowed()).isTrue();
+        assertThat(delegate.load(BUCKET_KEY).tokens()).isEqualTo(capacity - 10);
+        Thread.sleep(3);
+
+        failNextCas.set(5);
+        assertThat(limiter.tryConsume(RateLimitTier.USER, USER_IDX, TYPE)).isNull();
+        assertThat(delegate.load(BUCKET_KEY).tokens()).isEqualTo(capacity - 10);
+
+        // 실패한 갱신에서 꺼낸 9개를 이번 CAS 에서 돌려주고 새로 10개를 받음
+        assertThat(limiter.tryConsume(RateLimitTier.USER, USER_IDX, TYPE).isAllowed()).isTrue();
+        assertThat(delegate.load(BUCKET_KEY).tokens()).isEqualTo(capacity - 10 + 9 - 10);
+        assertThat(limiter.stats()).containsEntry("returnedTokens", 9L);
+    }
+
+    @Test
+    void 리필_주기가_지나면_다시_허용된다() throws InterruptedException {
+        InMemoryRateLimitStateStore store = new InMemoryRateLimitStateStore();
+        DistributedRateLimiter limiter = limiter(store, 1);
+        long capacity = RateLimitTier.USER.capacityOf(TYPE);
+        assertThat(consume((int) capacity + 1, limiter)).isEqualTo((int) capacity);
+
+        // 마지막 리필 시각을 한 주기 전으로 옮겨 주기가 지난 상태로 만듦
+        State drained = store.load(BUCKET_KEY);
+        long periodMillis = TYPE.getRefillDuration().toMillis();
+        assertThat(store.compareAndSet(BUCKET_KEY, drained,
+                new State(drained.tokens(), drained.refilledAt() - periodMillis, drained.version() + 1))).isTrue();
+        Thread.sleep(3);
+
+        RateLimitResult result = limiter.tryConsume(RateLimitTier.USER, USER_IDX, TYPE);
+        assertThat(result.isAllowed()).isTrue();
+        assertThat(result.getRemainingTokens()).isEqualTo(capacity - 1);
+    }
+
+    @Test
+    void 저장소_장애_시_null을_반환하고_백오프_동안_저장소를_건너뛴다() {
+        AtomicInteger calls = new AtomicInteger();
+        RateLimitStateStore failing = new RateLimitStateStore() {
+            @Override
+            public State load(String key) {
+                calls.incrementAndGet();
+                throw new IllegalStateException("down");
+            }
+
+            @Override
+            public boolean compareAndSet(String key, State expected, State update) {
+                throw new IllegalStateException("down");
+            }
+
+            @Override
+            public int deleteRefilledBefore(long refilledBeforeMillis) {
+                throw new IllegalStateException("down");
+            }
+        };
+        DistributedRateLimiter limiter = limiter(failing, 1_000);
+
+        assertThat(limiter.tryConsume(RateLimitTier.USER, USER_IDX, TYPE)).isNull();
+        assertThat(limiter.tryConsume(RateLimitTier.USER, USER_IDX, TYPE)).isNull();
+        assertThat(limiter.tryConsume(RateLimitTier.IP, "10.0.0.1", TYPE)).isNull();
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(limiter.stats())
+                .containsEntry("storeAvailable", false)
+                .containsEntry("fallbacks", 3L);
+    }
+}
@@ -0,0 +1,109 @@
+package com.astro.mood.service.ratelimit;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Ipv4BucketStoreTest {
+
+    private static Bucket newBucket() {
+        return Bucket.builder()
+                .addLimit(Bandwidth.builder().capacity(10).refillIntervally(10, Duration.ofMinutes(1)).build())
+                .build();
+    }
+
+    @Test
+    void 고유_주소가_많아도_상한을_넘지_않는다() {
+        int maxBuckets = 10_000;
+        int uniqueKeys = 2_000_000;
+        Ipv4BucketStore store = new Ipv4BucketStore(maxBuckets, 60_000);
+
+        for (int i = 0; i < uniqueKeys; i++) {
+            store.get(i, k -> newBucket());
+            if (i % 100_000 == 0) {
+                assertThat(store.size()).isLessThanOrEqualTo(maxBuckets);
+            }
+        }
+
+        Map<String, Object> stats = store.stats();
+        assertThat(store.size()).isLessThanOrEqualTo(maxBuckets);
+        assertThat((long) stats.get("misses")).isEqualTo(uniqueKeys);
+        assertThat((long) stats.get("sizeEvictions")).isEqualTo(uniqueKeys - store.size());
+    }
+
+    @Test
+    void 최근_사용한_버킷은_제거되지_않는다() {
+        Ipv4BucketStore store = new Ipv4BucketStore(16, 60_000); // 세그먼트당 1개
+        Bucket first = store.get(1, k -> newBucket());
+        first.tryConsume(3);
+
+        assertThat(store.get(1, k -> newBucket())).isSameAs(first);
+        assertThat(store.get(1, k -> newBucket()).getAvailableTokens()).isEqualTo(7);
+        assertThat((long) store.stats().get("hits")).isEqualTo(2);
+    }
+
+    @Test
+    void 유휴_시간이_지난_버킷만_정리된다() throws InterruptedException {
+        Ipv4BucketStore store = new Ipv4BucketStore(1_000, 50);
+        for (int i = 0; i < 100; i++) {
+            store.get(i, k -> newBucket());
+        }
+        Thread.sleep(80);
+        store.get(1, k -> newBucket()); // 다시 사용한 버킷은 유지
+
+        assertThat(store.evictIdle()).isEqualTo(99);
+        assertThat(store.size()).isEqualTo(1);
+        assertThat((long) store.stats().get("idleEvictions")).isEqualTo(99);
+    }
+
+    @Test
+    void 정리_직전에_사용한_버킷은_그_정리부터_유휴_시간을_다시_센다() throws InterruptedException {
+        Ipv4BucketStore store = new Ipv4BucketStore(1_000, 100);
+        Bucket bucket = store.get(1, k -> newBucket());
+        Thread.sleep(120);
+        store.get(1, k -> newBucket()); // 조회 적중은 시각을 기록하지 않고 사용 표시만 남김
+
+        assertThat(store.evictIdle()).isZero();
+        Thread.sleep(40);
+        assertThat(store.evictIdle()).isZero(); // 마지막 정리 후 100ms 가 지나지 않음
+        assertThat(store.get(1, k -> newBucket())).isSameAs(bucket);
+
+        Thread.sleep(120);
+        assertThat(store.evictIdle()).isZero(); // 직전 적중이 반영됨
+        Thread.sleep(120);
+        assertThat(store.evictIdle()).isEqualTo(1);
+    }
+
+    @Test
+    void 삽입_삭제가_섞여도_같은_키는_같은_버킷을_돌려준다() {
+        // 상한 초과 제거가 없도록 넉넉히 두고 HashMap 과 비교 (선형 탐사 삭제 후에도 남은 키를 찾는지)
+        Ipv4BucketStore store = new Ipv4BucketStore(16 * 1_024, 60_000);
+        Map<Long, Bucket> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(4_000) * 256L; // 하위 비트가 같은 주소 (/24 대역 대표 주소)
+            if (random.nextInt(3) == 0) {
+                store.remove(key);
+                expected.remove(key);
+                continue;
+            }
+            Bucket bucket = store.get(key, k -> newBucket());
+            Bucket previous = expected.putIfAbsent(key, bucket);
+            if (previous != null) {
+                assertThat(bucket).isSameAs(previous);
+            }
+        }
+
+        assertThat(store.size()).isEqualTo(expected.size());
+        assertThat((long) store.stats().get("sizeEvictions")).isZero();
+        expected.forEach((key, bucket) -> assertThat(store.get(key, k -> newBucket())).isSameAs(bucket));
+    }
+}
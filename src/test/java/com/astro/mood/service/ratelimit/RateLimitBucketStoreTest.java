@@ -0,0 +1,63 @@
+package com.astro.mood.service.ratelimit;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitBucketStoreTest {
+
+    private static Bucket newBucket() {
+        return Bucket.builder()
+                .addLimit(Bandwidth.builder().capacity(10).refillIntervally(10, Duration.ofMinutes(1)).build())
+                .build();
+    }
+
+    @Test
+    void 고유_키가_많아도_상한을_넘지_않는다() {
+        int maxBuckets = 10_000;
+        int uniqueKeys = 2_000_000;
+        RateLimitBucketStore<Integer> store = new RateLimitBucketStore<>(maxBuckets, 60_000);
+
+        for (int i = 0; i < uniqueKeys; i++) {
+            store.get(i, k -> newBucket());
+            if (i % 100_000 == 0) {
+                assertThat(store.size()).isLessThanOrEqualTo(maxBuckets);
+            }
+        }
+
+        Map<String, Object> stats = store.stats();
+        assertThat(store.size()).isLessThanOrEqualTo(maxBuckets);
+        assertThat((long) stats.get("misses")).isEqualTo(uniqueKeys);
+        assertThat((long) stats.get("sizeEvictions")).isEqualTo(uniqueKeys - store.size());
+    }
+
+    @Test
+    void 최근_사용한_버킷은_제거되지_않는다() {
+        RateLimitBucketStore<Integer> store = new RateLimitBucketStore<>(16, 60_000); // 세그먼트당 1개
+        Bucket first = store.get(1, k -> newBucket());
+        first.tryConsume(3);
+
+        assertThat(store.get(1, k -> newBucket())).isSameAs(first);
+        assertThat(store.get(1, k -> newBucket()).getAvailableTokens()).isEqualTo(7);
+        assertThat((long) store.stats().get("hits")).isEqualTo(2);
+    }
+
+    @Test
+    void 유휴_시간이_지난_버킷만_정리된다() throws InterruptedException {
+        RateLimitBucketStore<Integer> store = new RateLimitBucketStore<>(1_000, 50);
+        for (int i = 0; i < 100; i++) {
+            store.get(i, k -> newBucket());
+        }
+        Thread.sleep(80);
+        store.get(1, k -> newBucket()); // 다시 사용한 버킷은 유지
+
+        assertThat(store.evictIdle()).isEqualTo(99);
+        assertThat(store.size()).isEqualTo(1);
+        assertThat((long) store.stats().get("idleEvictions")).isEqualTo(99);
+    }
+}
@@ -0,0 +1,61 @@
+package com.astro.mood.service.ratelimit;
+
+import com.astro.mood.config.RateLimitConfig.RateLimitType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitTelemetryTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 여러_스레드의_거부를_스트라이프별로_나눠_기록해도_조회_시_합쳐진다() throws Exception {
+        RateLimitTelemetry telemetry = new RateLimitTelemetry(60, 15, 8, 4, 0);
+        int threads = 8;
+        int perThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            Future<?>[] futures = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures[t] = executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        // 절반은 같은 IP, 나머지는 스레드마다 다른 IP
+                        String key = i % 2 == 0 ? "10.0.0.1" : "10.1." + thread + "." + (i % 200);
+                        telemetry.recordDenied(RateLimitTier.IP, key, RateLimitType.GENERAL_API, 1);
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<String, Object> snapshot = telemetry.snapshot(15, 3);
+        Map<String, Object> counters = (Map<String, Object>) snapshot.get("counters");
+        assertThat(((Map<String, Object>) counters.get("GENERAL_API")).get("denied"))
+                .isEqualTo((long) threads * perThread);
+
+        List<Map<String, Object>> top = (List<Map<String, Object>>)
+                ((Map<String, Object>) snapshot.get("topDenied")).get("IP");
+        assertThat(top.get(0).get("key")).isEqualTo("10.0.0.1");
+        long estimate = (long) top.get(0).get("denied");
+        long maxError = (long) top.get(0).get("maxError");
+        long actual = (long) threads * perThread / 2;
+        assertThat(estimate).isGreaterThanOrEqualTo(actual);
+        assertThat(estimate - maxError).isLessThanOrEqualTo(actual);
+    }
+}
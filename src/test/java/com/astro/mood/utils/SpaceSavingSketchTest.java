@@ -0,0 +1,92 @@
+package com.astro.mood.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceSavingSketchTest {
+
+    @Test
+    void 가득_차기_전에는_정확히_센다() {
+        SpaceSavingSketch<String> sketch = new SpaceSavingSketch<>(4);
+        for (String key : new String[]{"a", "b", "a", "c", "a", "b"}) {
+            sketch.add(key);
+        }
+
+        Map<String, long[]> totals = new HashMap<>();
+        sketch.addTo(totals);
+
+        assertThat(totals).hasSize(3);
+        assertThat(totals.get("a")).containsExactly(3, 0);
+        assertThat(totals.get("b")).containsExactly(2, 0);
+        assertThat(totals.get("c")).containsExactly(1, 0);
+    }
+
+    @Test
+    void 가득_차면_가장_작은_카운터를_교체하고_그_값을_오차로_남긴다() {
+        SpaceSavingSketch<String> sketch = new SpaceSavingSketch<>(2);
+        sketch.add("a");
+        sketch.add("a");
+        sketch.add("b");
+        sketch.add("c"); // b(1) 교체 → c = 2, 오차 1
+
+        Map<String, long[]> totals = new HashMap<>();
+        sketch.addTo(totals);
+
+        assertThat(totals).containsOnlyKeys("a", "c");
+        assertThat(totals.get("a")).containsExactly(2, 0);
+        assertThat(totals.get("c")).containsExactly(2, 1);
+    }
+
+    @Test
+    void 추정치는_실제_빈도_이상_오차를_뺀_값_이하이고_빈도가_높은_키는_남는다() {
+        int capacity = 16;
+        int n = 200_000;
+        SpaceSavingSketch<Integer> sketch = new SpaceSavingSketch<>(capacity);
+        Map<Integer, Long> actual = new HashMap<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < n; i++) {
+            // 키 0..4 에 절반, 나머지는 넓게 흩어짐
+            int key = random.nextBoolean() ? random.nextInt(5) : 5 + random.nextInt(10_000);
+            sketch.add(key);
+            actual.merge(key, 1L, Long::sum);
+        }
+
+        Map<Integer, long[]> totals = new HashMap<>();
+        sketch.addTo(totals);
+
+        assertThat(totals).hasSize(capacity);
+        assertThat(totals.values().stream().mapToLong(total -> total[0]).sum()).isEqualTo(n);
+        totals.forEach((key, total) -> {
+            long count = actual.get(key);
+            assertThat(total[0]).isGreaterThanOrEqualTo(count);
+            assertThat(total[0] - total[1]).isLessThanOrEqualTo(count);
+        });
+        actual.forEach((key, count) -> {
+            if (count > n / capacity) {
+                assertThat(totals).containsKey(key);
+            }
+        });
+    }
+
+    @Test
+    void 비운_뒤에도_다시_셀_수_있다() {
+        SpaceSavingSketch<String> sketch = new SpaceSavingSketch<>(2);
+        sketch.add("a");
+        sketch.add("b");
+        sketch.add("c");
+        sketch.clear();
+        sketch.add("d");
+
+        Map<String, long[]> totals = new HashMap<>();
+        sketch.addTo(totals);
+
+        assertThat(totals).containsOnlyKeys("d");
+        assertThat(totals.get("d")).containsExactly(1, 0);
+    }
+}